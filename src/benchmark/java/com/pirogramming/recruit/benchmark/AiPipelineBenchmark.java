@@ -0,0 +1,324 @@
+package com.pirogramming.recruit.benchmark;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.pirogramming.recruit.RecruitApplication;
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.infra.LlmConcurrencyLimiter;
+import com.pirogramming.recruit.domain.ai_summary.infra.OpenAiStubServer;
+import com.pirogramming.recruit.domain.googleform.entity.GoogleForm;
+import com.pirogramming.recruit.domain.googleform.service.GoogleFormService;
+import com.pirogramming.recruit.domain.webhook.dto.WebhookApplicationRequest;
+import com.pirogramming.recruit.domain.webhook.service.WebhookApplicationService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 요약 파이프라인 처리량 벤치마크
+ * 가상 지원서 N건을 WebhookApplicationService.processWebhookApplication으로 동시에 제출하고
+ * (마감일 몰림 재현) 배치 처리/디스패처가 모든 요약을 COMPLETED로 만들 때까지의 결과를 측정
+ * - 처리량: 완료 건수 / (첫 제출 ~ 마지막 완료)
+ * - 오류 대체 요약(FallbackResponseUtil, 점수 0 + 질문별 요약 없음)은 COMPLETED여도 완료로 세지 않고 따로 집계
+ * - 제출 → 요약 완료 지연 백분위 (지원서 생성 시각 ~ 요약 완료 시각, DB 기록 기준)
+ * - DB 커넥션 점유/획득 대기 시간 (HikariCP 지표), LLM 동시성 한도/사용량 타임라인
+ * LLM은 OpenAiStubServer(지연/오류 주입 설정 가능)로 대체하며, DB는 로컬 PostgreSQL을 사용 (application-benchmark.yml)
+ * 실행: ./gradlew benchmark -Pbenchmark.applications=2000 -Pai.batch.size=16
+ */
+@Slf4j
+public final class AiPipelineBenchmark {
+
+	// 오류 대체 요약 (COMPLETED로 저장되지만 실제 요약이 아님)
+	private static final String FALLBACK_CONDITION = """
+		(s.summary IS NULL OR (COALESCE((s.summary->>'scoreOutOf100')::int, 0) = 0
+		 AND jsonb_array_length(COALESCE(s.summary->'questionSummaries', '[]'::jsonb)) = 0))""";
+
+	// COMPLETED는 오류 대체 요약을 제외한 건수
+	private static final String STATUS_COUNT_SQL = """
+		SELECT s.processing_status, COUNT(*) FILTER (WHERE s.processing_status <> 'COMPLETED' OR NOT %s)
+		FROM application_summary s JOIN webhook_applications w ON w.id = s.webhook_application_id
+		WHERE w.google_form_id = ?
+		GROUP BY s.processing_status""".formatted(FALLBACK_CONDITION);
+
+	private static final String FALLBACK_COUNT_SQL = """
+		SELECT COUNT(*)
+		FROM application_summary s JOIN webhook_applications w ON w.id = s.webhook_application_id
+		WHERE w.google_form_id = ? AND s.processing_status = 'COMPLETED' AND %s""".formatted(FALLBACK_CONDITION);
+
+	private static final String LATENCY_SQL = """
+		SELECT (EXTRACT(EPOCH FROM w.created_at) * 1000)::bigint,
+		       (EXTRACT(EPOCH FROM s.processing_completed_at) * 1000)::bigint
+		FROM application_summary s JOIN webhook_applications w ON w.id = s.webhook_application_id
+		WHERE w.google_form_id = ? AND s.processing_status = 'COMPLETED' AND NOT %s""".formatted(FALLBACK_CONDITION);
+
+	private final Environment environment;
+	private final WebhookApplicationService webhookApplicationService;
+	private final GoogleFormService googleFormService;
+	private final JdbcTemplate jdbcTemplate;
+	private final LlmConcurrencyLimiter concurrencyLimiter;
+	private final MeterRegistry meterRegistry;
+	private final HikariPoolMXBean connectionPool;
+	private final OpenAiStubServer stubServer;
+
+	private final int applications;
+	private final int submitters;
+	private final long seed;
+	private final long timeoutSeconds;
+	private final long sampleIntervalMillis;
+	private final Path outputDirectory;
+
+	private final BenchmarkReport report = new BenchmarkReport();
+
+	public static void main(String[] args) {
+		// 실행 환경의 SPRING_PROFILES_ACTIVE(dev 등)와 섞이지 않도록 벤치마크 프로필만 사용
+		System.setProperty("spring.profiles.active", "benchmark");
+		ConfigurableApplicationContext context = SpringApplication.run(RecruitApplication.class, args);
+
+		boolean completed = false;
+		try {
+			completed = new AiPipelineBenchmark(context).run();
+		} catch (Exception e) {
+			log.error("Benchmark failed", e);
+		} finally {
+			context.close();
+		}
+		System.exit(completed ? 0 : 1);
+	}
+
+	private AiPipelineBenchmark(ConfigurableApplicationContext context) throws SQLException {
+		this.environment = context.getEnvironment();
+		this.webhookApplicationService = context.getBean(WebhookApplicationService.class);
+		this.googleFormService = context.getBean(GoogleFormService.class);
+		this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+		this.concurrencyLimiter = context.getBean(LlmConcurrencyLimiter.class);
+		this.meterRegistry = context.getBean(MeterRegistry.class);
+		this.connectionPool = context.getBean(DataSource.class).unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		this.stubServer = context.getBean(OpenAiStubServer.class);
+
+		this.applications = environment.getProperty("benchmark.applications", Integer.class, 1000);
+		this.submitters = environment.getProperty("benchmark.submitters", Integer.class, 8);
+		this.seed = environment.getProperty("benchmark.seed", Long.class, 42L);
+		this.timeoutSeconds = environment.getProperty("benchmark.timeout-seconds", Long.class, 900L);
+		this.sampleIntervalMillis = environment.getProperty("benchmark.sample-interval-ms", Long.class, 1000L);
+		this.outputDirectory = Path.of(environment.getProperty("benchmark.output-dir", "build/benchmark"))
+			.resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+	}
+
+	/**
+	 * 벤치마크 실행 (시간 내 모든 요약이 완료되면 true)
+	 */
+	private boolean run() throws Exception {
+		recordSettings();
+
+		GoogleForm googleForm = googleFormService.createGoogleForm(GoogleForm.builder()
+			.formId("benchmark-" + System.currentTimeMillis())
+			.title("벤치마크")
+			.formUrl("https://forms.example.com/benchmark")
+			.sheetUrl("https://sheets.example.com/benchmark")
+			.generation(0)
+			.build());
+		// 지원서 생성은 측정에서 제외
+		List<WebhookApplicationRequest> requests =
+			SyntheticApplications.generate(googleForm.getFormId(), applications, seed);
+
+		long startedAt = System.nanoTime();
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+		sampler.scheduleAtFixedRate(() -> sample(googleForm.getId(), startedAt),
+			0, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+
+		try {
+			// 1) 동시 제출
+			int submitFailures = submit(requests);
+			long submitMillis = elapsedMillis(startedAt);
+			log.info("Submitted {} applications in {}ms ({} failures)", applications, submitMillis, submitFailures);
+			report.result("submitFailures", submitFailures);
+			report.result("submitDurationMs", submitMillis);
+
+			// 2) 모든 요약 완료 대기
+			boolean completed = awaitCompletion(googleForm.getId(), startedAt);
+			report.result("allCompleted", completed);
+			report.result("wallClockMs", elapsedMillis(startedAt));
+			return completed;
+		} finally {
+			sampler.shutdownNow();
+			sample(googleForm.getId(), startedAt);
+			recordResults(googleForm.getId());
+			report.write(outputDirectory);
+			log.info("\n{}", report.summary());
+			log.info("Benchmark report written to {}", outputDirectory.toAbsolutePath());
+		}
+	}
+
+	private int submit(List<WebhookApplicationRequest> requests) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(submitters);
+		AtomicInteger failures = new AtomicInteger();
+		try {
+			List<Future<?>> futures = new ArrayList<>(requests.size());
+			for (WebhookApplicationRequest request : requests) {
+				futures.add(executor.submit(() -> {
+					try {
+						webhookApplicationService.processWebhookApplication(request);
+					} catch (RuntimeException e) {
+						failures.incrementAndGet();
+						log.warn("Submission failed - {}: {}", request.getFormResponseId(), e.getMessage());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (Exception e) {
+					failures.incrementAndGet();
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return failures.get();
+	}
+
+	private boolean awaitCompletion(Long googleFormId, long startedAt) throws InterruptedException {
+		long deadline = startedAt + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+		long lastLogged = 0;
+		while (System.nanoTime() < deadline) {
+			Map<ApplicationSummary.ProcessingStatus, Long> counts = countByStatus(googleFormId);
+			long completed = counts.get(ApplicationSummary.ProcessingStatus.COMPLETED);
+			long fallback = countFallbacks(googleFormId);
+			// 오류 대체 요약은 더 처리되지 않으므로 함께 세어 종료 여부를 판단하고, 성공은 실제 요약만 인정
+			if (completed + fallback >= applications) {
+				if (fallback > 0) {
+					log.warn("{} summaries completed with fallback responses", fallback);
+				}
+				return completed >= applications;
+			}
+			if (System.nanoTime() - lastLogged > TimeUnit.SECONDS.toNanos(10)) {
+				log.info("Progress {}s - {}, fallback={}",
+					TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt), counts, fallback);
+				lastLogged = System.nanoTime();
+			}
+			Thread.sleep(200);
+		}
+		log.warn("Timed out after {}s waiting for summaries", timeoutSeconds);
+		return false;
+	}
+
+	private void sample(Long googleFormId, long startedAt) {
+		try {
+			Map<ApplicationSummary.ProcessingStatus, Long> counts = countByStatus(googleFormId);
+			report.addSample(new BenchmarkReport.Sample(
+				elapsedMillis(startedAt),
+				concurrencyLimiter.getLimit(),
+				concurrencyLimiter.getInFlight(),
+				concurrencyLimiter.getQueueLength(),
+				connectionPool.getActiveConnections(),
+				connectionPool.getThreadsAwaitingConnection(),
+				counts.get(ApplicationSummary.ProcessingStatus.PENDING),
+				counts.get(ApplicationSummary.ProcessingStatus.PROCESSING),
+				counts.get(ApplicationSummary.ProcessingStatus.COMPLETED),
+				countFallbacks(googleFormId),
+				counts.get(ApplicationSummary.ProcessingStatus.FAILED)));
+		} catch (RuntimeException e) {
+			log.warn("Failed to take benchmark sample: {}", e.getMessage());
+		}
+	}
+
+	private Map<ApplicationSummary.ProcessingStatus, Long> countByStatus(Long googleFormId) {
+		Map<ApplicationSummary.ProcessingStatus, Long> counts = new EnumMap<>(ApplicationSummary.ProcessingStatus.class);
+		for (ApplicationSummary.ProcessingStatus status : ApplicationSummary.ProcessingStatus.values()) {
+			counts.put(status, 0L);
+		}
+		jdbcTemplate.query(STATUS_COUNT_SQL, rs -> {
+			counts.put(ApplicationSummary.ProcessingStatus.valueOf(rs.getString(1)), rs.getLong(2));
+		}, googleFormId);
+		return counts;
+	}
+
+	private long countFallbacks(Long googleFormId) {
+		Long count = jdbcTemplate.queryForObject(FALLBACK_COUNT_SQL, Long.class, googleFormId);
+		return count != null ? count : 0;
+	}
+
+	private void recordSettings() {
+		report.setting("applications", applications);
+		report.setting("submitters", submitters);
+		report.setting("seed", seed);
+		for (String key : List.of(
+				"ai.batch.size", "ai.batch.processing.interval", "ai.batch.dispatch.max-concurrency",
+				"ai.batch.coalesce.enabled",
+				"openai.api.concurrency.initial", "openai.api.concurrency.max",
+				"openai.stub.latency.median-ms", "openai.stub.latency.sigma",
+				"openai.stub.rate-limit-ratio", "openai.stub.server-error-ratio",
+				"spring.datasource.hikari.maximum-pool-size")) {
+			report.setting(key, environment.getProperty(key, "(default)"));
+		}
+	}
+
+	private void recordResults(Long googleFormId) {
+		List<long[]> rows = jdbcTemplate.query(LATENCY_SQL,
+			(rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, googleFormId);
+		long[] latencies = rows.stream().mapToLong(row -> row[1] - row[0]).toArray();
+		report.setLatencies(latencies);
+
+		report.result("completedSummaries", rows.size());
+		report.result("fallbackSummaries", countFallbacks(googleFormId));
+		if (!rows.isEmpty()) {
+			long firstSubmitted = rows.stream().mapToLong(row -> row[0]).min().orElse(0);
+			long lastCompleted = rows.stream().mapToLong(row -> row[1]).max().orElse(0);
+			double seconds = Math.max(1, lastCompleted - firstSubmitted) / 1000.0;
+			report.result("throughputPerSecond", BenchmarkReport.round(rows.size() / seconds));
+			report.result("throughputPerMinute", BenchmarkReport.round(rows.size() / seconds * 60));
+		}
+
+		report.result("dbConnectionUsageMs", timerSummary("hikaricp.connections.usage"));
+		report.result("dbConnectionAcquireMs", timerSummary("hikaricp.connections.acquire"));
+		report.result("llmStub", stubServer.getStats());
+	}
+
+	/**
+	 * HikariCP 타이머 요약 (건수, 평균, 최대, 백분위 - ms)
+	 */
+	private Map<String, Object> timerSummary(String name) {
+		Timer timer = meterRegistry.find(name).timer();
+		if (timer == null) {
+			return Map.of();
+		}
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("count", timer.count());
+		summary.put("mean", BenchmarkReport.round(timer.mean(TimeUnit.MILLISECONDS)));
+		summary.put("max", BenchmarkReport.round(timer.max(TimeUnit.MILLISECONDS)));
+		for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+			summary.put("p" + Math.round(percentile.percentile() * 100),
+				BenchmarkReport.round(percentile.value(TimeUnit.MILLISECONDS)));
+		}
+		return summary;
+	}
+
+	private static long elapsedMillis(long startedAt) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+	}
+}
@@ -0,0 +1,127 @@
+package com.pirogramming.recruit.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 결과 (요약 통계 + 타임라인/지연 시간 CSV)
+ */
+final class BenchmarkReport {
+
+	private static final double[] PERCENTILES = {0.5, 0.9, 0.95, 0.99};
+
+	private final Map<String, Object> settings = new LinkedHashMap<>();
+	private final Map<String, Object> results = new LinkedHashMap<>();
+	private final List<Sample> timeline = new ArrayList<>();
+	private long[] latenciesMillis = new long[0];
+
+	/**
+	 * 타임라인 샘플 (경과 시간 기준, completed는 오류 대체 요약(fallback)을 제외한 건수)
+	 */
+	record Sample(long elapsedMillis, int llmLimit, int llmInFlight, int llmQueued,
+				  int activeConnections, int pendingConnections,
+				  long pending, long processing, long completed, long fallback, long failed) {
+	}
+
+	void setting(String name, Object value) {
+		settings.put(name, value);
+	}
+
+	void result(String name, Object value) {
+		results.put(name, value);
+	}
+
+	synchronized void addSample(Sample sample) {
+		timeline.add(sample);
+	}
+
+	void setLatencies(long[] latenciesMillis) {
+		this.latenciesMillis = latenciesMillis.clone();
+		Arrays.sort(this.latenciesMillis);
+	}
+
+	/**
+	 * 제출 → 요약 완료 지연 백분위 (ms)
+	 */
+	Map<String, Long> latencyPercentiles() {
+		Map<String, Long> percentiles = new LinkedHashMap<>();
+		if (latenciesMillis.length == 0) {
+			return percentiles;
+		}
+		for (double percentile : PERCENTILES) {
+			percentiles.put("p" + Math.round(percentile * 100), percentile(latenciesMillis, percentile));
+		}
+		percentiles.put("max", latenciesMillis[latenciesMillis.length - 1]);
+		return percentiles;
+	}
+
+	/**
+	 * LLM 동시성 요약 (타임라인 기준 최대/평균)
+	 */
+	synchronized Map<String, Object> llmConcurrency() {
+		Map<String, Object> summary = new LinkedHashMap<>();
+		if (timeline.isEmpty()) {
+			return summary;
+		}
+		summary.put("peakInFlight", timeline.stream().mapToInt(Sample::llmInFlight).max().orElse(0));
+		summary.put("meanInFlight", round(timeline.stream().mapToInt(Sample::llmInFlight).average().orElse(0)));
+		summary.put("peakQueued", timeline.stream().mapToInt(Sample::llmQueued).max().orElse(0));
+		summary.put("minLimit", timeline.stream().mapToInt(Sample::llmLimit).min().orElse(0));
+		summary.put("maxLimit", timeline.stream().mapToInt(Sample::llmLimit).max().orElse(0));
+		summary.put("peakActiveConnections", timeline.stream().mapToInt(Sample::activeConnections).max().orElse(0));
+		return summary;
+	}
+
+	String summary() {
+		StringBuilder text = new StringBuilder("=== AI 요약 파이프라인 벤치마크 ===\n");
+		text.append("[설정]\n");
+		settings.forEach((name, value) -> text.append(String.format("  %-32s %s%n", name, value)));
+		text.append("[결과]\n");
+		results.forEach((name, value) -> text.append(String.format("  %-32s %s%n", name, value)));
+		text.append(String.format("  %-32s %s%n", "submitToSummaryLatencyMs", latencyPercentiles()));
+		text.append(String.format("  %-32s %s%n", "llmConcurrency", llmConcurrency()));
+		return text.toString();
+	}
+
+	/**
+	 * summary.txt, timeline.csv, latencies.csv 저장
+	 */
+	synchronized void write(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve("summary.txt"), summary(), StandardCharsets.UTF_8);
+
+		List<String> timelineLines = new ArrayList<>();
+		timelineLines.add("elapsed_ms,llm_limit,llm_in_flight,llm_queued,db_active,db_pending,"
+			+ "pending,processing,completed,fallback,failed");
+		for (Sample sample : timeline) {
+			timelineLines.add(sample.elapsedMillis() + "," + sample.llmLimit() + "," + sample.llmInFlight() + ","
+				+ sample.llmQueued() + "," + sample.activeConnections() + "," + sample.pendingConnections() + ","
+				+ sample.pending() + "," + sample.processing() + "," + sample.completed() + "," + sample.fallback() + "," + sample.failed());
+		}
+		Files.write(directory.resolve("timeline.csv"), timelineLines, StandardCharsets.UTF_8);
+
+		List<String> latencyLines = new ArrayList<>();
+		latencyLines.add("submit_to_summary_ms");
+		for (long latency : latenciesMillis) {
+			latencyLines.add(String.valueOf(latency));
+		}
+		Files.write(directory.resolve("latencies.csv"), latencyLines, StandardCharsets.UTF_8);
+	}
+
+	// nearest-rank
+	private static long percentile(long[] sorted, double percentile) {
+		int rank = (int) Math.ceil(percentile * sorted.length);
+		return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+	}
+
+	static double round(double value) {
+		return Math.round(value * 100) / 100.0;
+	}
+}
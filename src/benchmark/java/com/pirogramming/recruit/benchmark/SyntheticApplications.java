@@ -0,0 +1,99 @@
+package com.pirogramming.recruit.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.pirogramming.recruit.domain.webhook.dto.WebhookApplicationRequest;
+
+/**
+ * 벤치마크용 가상 지원서 생성
+ * 같은 시드면 같은 지원서를 만들고, 지원서마다 내용이 달라 LLM 응답 캐시에 걸리지 않음
+ * 답변 길이를 섞어 짧은 지원서(묶음 요약 대상)와 긴 지원서(단건/축약 대상)가 함께 들어가도록 함
+ */
+final class SyntheticApplications {
+
+	private static final String[] QUESTIONS = {
+		"1. 피로그래밍에 지원하게 된 동기를 작성해주세요.",
+		"2. 팀으로 무언가를 만들어 본 경험을 작성해주세요.",
+		"3. 가장 자신 있는 개발 경험을 작성해주세요.",
+		"4. 활동 기간 동안 이루고 싶은 목표를 작성해주세요."
+	};
+
+	private static final String[] SENTENCES = {
+		"학교 수업에서 처음 프로그래밍을 접하고 직접 서비스를 만들어 보고 싶다는 생각이 들었습니다.",
+		"혼자 공부하다 보니 방향을 잡기 어려워 함께 성장할 수 있는 동료를 찾고 있었습니다.",
+		"동아리에서 웹 프로젝트를 진행하며 백엔드 API 설계와 데이터베이스 모델링을 맡았습니다.",
+		"일정이 촉박했지만 매일 짧게 회의하며 진행 상황을 공유한 덕분에 기한 내에 배포할 수 있었습니다.",
+		"팀원 간 코드 스타일이 달라 갈등이 있었는데, 코드 리뷰 규칙을 함께 정하면서 해결했습니다.",
+		"사용자 피드백을 받아 화면 흐름을 세 번 고쳤고 그 과정에서 사용자 관점에서 생각하는 법을 배웠습니다.",
+		"Spring Boot와 JPA로 게시판 서비스를 만들며 트랜잭션과 지연 로딩 문제를 직접 겪어 보았습니다.",
+		"React로 일정 관리 앱을 만들고 상태 관리 라이브러리를 도입해 구조를 정리했습니다.",
+		"파이썬으로 데이터를 수집하고 시각화하는 과제를 하면서 자동화의 재미를 느꼈습니다.",
+		"배포 과정에서 발생한 메모리 부족 문제를 로그를 분석해 원인을 찾고 설정을 조정해 해결했습니다.",
+		"프로젝트를 끝까지 완성해 실제 사용자가 쓰는 서비스를 운영해 보는 것이 목표입니다.",
+		"다른 사람이 읽기 쉬운 코드를 쓰는 습관을 기르고 테스트 작성에도 익숙해지고 싶습니다.",
+		"비전공자로서 부족한 기초를 채우기 위해 자료구조와 네트워크를 꾸준히 공부하고 있습니다.",
+		"모르는 것을 질문하는 데 주저하지 않고 배운 내용을 정리해 블로그에 공유하고 있습니다.",
+		"함께하는 사람들에게 도움이 되는 팀원이 되기 위해 맡은 일은 책임지고 끝내려고 노력합니다."
+	};
+
+	private static final String[] SCHOOLS = {"서울대학교", "연세대학교", "고려대학교", "한양대학교", "성균관대학교"};
+	private static final String[] DEPARTMENTS = {"컴퓨터공학과", "경영학과", "산업공학과", "전자공학과", "국어국문학과"};
+
+	private SyntheticApplications() {
+	}
+
+	static List<WebhookApplicationRequest> generate(String formId, int count, long seed) {
+		Random random = new Random(seed);
+		List<WebhookApplicationRequest> requests = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			requests.add(generate(formId, i, random));
+		}
+		return requests;
+	}
+
+	private static WebhookApplicationRequest generate(String formId, int index, Random random) {
+		// 약 30%는 짧은 지원서 (답변당 1~2문장), 나머지는 답변당 3~10문장
+		boolean shortApplication = random.nextDouble() < 0.3;
+
+		Map<String, Object> formData = new LinkedHashMap<>();
+		for (String question : QUESTIONS) {
+			int sentences = shortApplication ? 1 + random.nextInt(2) : 3 + random.nextInt(8);
+			formData.put(question, answer(index, sentences, random));
+		}
+
+		String name = "지원자" + index;
+		String school = SCHOOLS[random.nextInt(SCHOOLS.length)];
+		String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+		String grade = (1 + random.nextInt(4)) + "학년";
+		String major = department.equals("컴퓨터공학과") || department.equals("전자공학과") ? "전공자" : "비전공자";
+		return new WebhookApplicationRequest(
+			formId,
+			name,
+			"applicant" + index + "@benchmark.test",
+			"benchmark-response-" + index,
+			LocalDateTime.now(),
+			school,
+			department,
+			grade,
+			major,
+			String.format("010-%04d-%04d", index / 10000, index % 10000),
+			formData);
+	}
+
+	private static String answer(int index, int sentences, Random random) {
+		StringBuilder answer = new StringBuilder();
+		for (int i = 0; i < sentences; i++) {
+			answer.append(SENTENCES[random.nextInt(SENTENCES.length)]).append(' ');
+		}
+		// 지원서마다 다른 내용이 들어가도록 (캐시/중복 제거에 걸리지 않게)
+		answer.append("지원자 ").append(index).append("번은 지금까지 ")
+			.append(1 + random.nextInt(24)).append("개월 동안 ").append(1 + random.nextInt(10))
+			.append("개의 프로젝트를 진행했습니다.");
+		return answer.toString();
+	}
+}
@@ -1,19 +1,26 @@
 package com.pirogramming.recruit.domain.ai_summary.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
 import com.pirogramming.recruit.domain.ai_summary.service.ApplicationProcessingService;
 import com.pirogramming.recruit.domain.ai_summary.util.InputValidationUtil;
+import com.pirogramming.recruit.domain.ai_summary.util.StreamingSummaryParser;
 import com.pirogramming.recruit.global.exception.ApiRes;
 import com.pirogramming.recruit.global.exception.code.ErrorCode;
 import com.pirogramming.recruit.global.security.RequireAdmin;
@@ -38,6 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AiSummaryController {
 	
+	// 스트리밍 분석 최대 연결 시간
+	private static final long STREAM_TIMEOUT_MILLIS = 60_000L;
+	
 	private final ApplicationProcessingService applicationProcessingService;
 	
 	@Operation(
@@ -193,6 +203,79 @@ public class AiSummaryController {
 		}
 	}
 	
+	@Operation(
+		summary = "동적 지원서 분석 (스트리밍)",
+		description = "/analyze와 같은 분석을 Server-Sent Events로 전달합니다. " +
+			"질문별 요약이 완성되는 즉시 questionSummary 이벤트로, 검증이 끝난 점수는 score 이벤트로, " +
+			"최종 결과는 complete 이벤트로 전달하며 실패 시 error 이벤트를 보냅니다."
+	)
+	@PostMapping(value = "/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@RequireAdmin
+	public SseEmitter analyzeDynamicApplicationStream(
+		@io.swagger.v3.oas.annotations.parameters.RequestBody(
+			description = "지원서 문항과 답변 목록 (최대 20개)",
+			required = true
+		)
+		@Valid @RequestBody @Size(max = 20, message = "질문은 최대 20개까지 가능합니다") List<@Valid ApplicationQuestionDto> questions) {
+		
+		// 입력 검증
+		InputValidationUtil.validateQuestionList(questions);
+		InputValidationUtil.validateQuestionContent(questions);
+		
+		// 요청 스레드는 바로 반환되고, 이벤트는 LLM 클라이언트가 넘겨주는 작업 스레드에서 전송
+		// (OpenAiChatClient.chatStream은 응답 조각을 이벤트 루프가 아닌 boundedElastic 스레드에서 전달)
+		SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+		CompletableFuture<ApplicationSummaryDto> processing = applicationProcessingService.processApplicationStreaming(
+			questions, new StreamingSummaryParser.Listener() {
+				@Override
+				public void onQuestionSummary(int index, ApplicationSummaryDto.QuestionSummaryDto questionSummary) {
+					sendEvent(emitter, "questionSummary", Map.of(
+						"index", index,
+						"question", questionSummary.getQuestion(),
+						"aiSummary", questionSummary.getAiSummary()));
+				}
+				
+				@Override
+				public void onScore(int scoreOutOf100, String scoreReason) {
+					sendEvent(emitter, "score", Map.of(
+						"scoreOutOf100", scoreOutOf100,
+						"scoreReason", scoreReason != null ? scoreReason : ""));
+				}
+			});
+		
+		processing.whenComplete((summary, error) -> {
+			if (error == null) {
+				sendEvent(emitter, "complete", summary);
+				emitter.complete();
+				return;
+			}
+			
+			Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+			if (cause instanceof AiProcessingException aiException) {
+				log.error("AI streaming processing failed: {} - {}", aiException.getErrorType(), aiException.getMessage());
+			} else {
+				log.error("AI streaming processing failed", cause);
+			}
+			sendEvent(emitter, "error", Map.of("message", "AI 분석 중 오류가 발생했습니다."));
+			emitter.complete();
+		});
+		
+		// 클라이언트 연결 종료 / 시간 초과 시 스트리밍 호출까지 취소 (정상 완료 후의 취소는 무시됨)
+		emitter.onTimeout(() -> processing.cancel(true));
+		emitter.onError(error -> processing.cancel(true));
+		emitter.onCompletion(() -> processing.cancel(true));
+		return emitter;
+	}
+	
+	private void sendEvent(SseEmitter emitter, String name, Object data) {
+		try {
+			emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트 연결 종료 또는 이미 완료된 emitter
+			log.debug("Failed to send SSE event {}: {}", name, e.getMessage());
+		}
+	}
+	
 	@Operation(
 		summary = "배치 지원서 분석 (비동기)",
 		description = "다중 지원서를 병렬로 처리하여 성능을 향상시킵니다. 최대 10개까지 동시 처리 가능합니다."
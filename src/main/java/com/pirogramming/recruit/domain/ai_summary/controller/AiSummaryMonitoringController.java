@@ -10,6 +10,9 @@ import org.springframework.web.bind.annotation.RestController;
 import com.pirogramming.recruit.domain.ai_summary.infra.OpenAiChatClient;
 import com.pirogramming.recruit.domain.ai_summary.service.AiBatchProcessingService;
 import com.pirogramming.recruit.domain.ai_summary.service.ApplicationCacheService;
+import com.pirogramming.recruit.domain.ai_summary.service.ApplicationProcessingService;
+import com.pirogramming.recruit.domain.ai_summary.service.BulkSummaryService;
+import com.pirogramming.recruit.domain.ai_summary.service.LlmResponseCacheService;
 import com.pirogramming.recruit.global.exception.ApiRes;
 import com.pirogramming.recruit.global.security.RequireAdmin;
 
@@ -26,6 +29,9 @@ public class AiSummaryMonitoringController {
     private final AiBatchProcessingService batchProcessingService;
     private final OpenAiChatClient openAiChatClient;
     private final ApplicationCacheService cacheService;
+    private final LlmResponseCacheService responseCacheService;
+    private final ApplicationProcessingService processingService;
+    private final BulkSummaryService bulkSummaryService;
     
     @Operation(summary = "배치 처리 상태 조회", description = "AI 요약 배치 처리의 현재 상태와 통계를 조회합니다.")
     @GetMapping("/batch-status")
@@ -51,6 +57,14 @@ public class AiSummaryMonitoringController {
         return ApiRes.success(stats, "캐시 통계를 성공적으로 조회했습니다.");
     }
     
+    @Operation(summary = "영구 캐시 통계 조회", description = "DB에 저장된 LLM 응답 캐시 상태와 절감된 토큰 수를 조회합니다.")
+    @GetMapping("/persistent-cache-stats")
+    @RequireAdmin
+    public ApiRes<LlmResponseCacheService.PersistentCacheStats> getPersistentCacheStats() {
+        LlmResponseCacheService.PersistentCacheStats stats = responseCacheService.getStats();
+        return ApiRes.success(stats, "영구 캐시 통계를 성공적으로 조회했습니다.");
+    }
+    
     @Operation(summary = "종합 대시보드", description = "AI 요약 시스템 전체 상태를 한 번에 조회합니다.")
     @GetMapping("/dashboard")
     @RequireAdmin
@@ -59,6 +73,16 @@ public class AiSummaryMonitoringController {
             "batchProcessing", batchProcessingService.getStats(),
             "openAiApi", openAiChatClient.getApiStats(),
             "cache", cacheService.getCacheStats(),
+            "persistentCache", responseCacheService.getStats(),
+            "singleFlight", Map.of(
+                "inFlightPrompts", processingService.getInFlightPromptCount(),
+                "deduplicatedCalls", processingService.getDeduplicatedCallCount()
+            ),
+            "coalescing", Map.of(
+                "coalescedCalls", processingService.getCoalescedCallCount(),
+                "coalescedApplications", processingService.getCoalescedApplicationCount(),
+                "fallbacks", processingService.getCoalesceFallbackCount()
+            ),
             "timestamp", java.time.LocalDateTime.now()
         );
         return ApiRes.success(dashboard, "대시보드 데이터를 성공적으로 조회했습니다.");
@@ -72,6 +96,21 @@ public class AiSummaryMonitoringController {
         return ApiRes.success("배치 처리가 시작되었습니다.", "배치 처리를 수동으로 실행했습니다.");
     }
     
+    @Operation(summary = "Batch API 제출", description = "대기 중인 AI 요약 작업을 OpenAI Batch API로 한 번에 제출합니다. (실시간 처리보다 저렴, 최대 24시간 소요)")
+    @PostMapping("/bulk-submit")
+    @RequireAdmin
+    public ApiRes<Integer> submitBulk() {
+        int submitted = batchProcessingService.triggerBulkSubmission();
+        return ApiRes.success(submitted, submitted + "건을 Batch API로 제출했습니다.");
+    }
+    
+    @Operation(summary = "Batch API 처리 현황", description = "제출된 배치 수와 결과 반영 통계를 조회합니다.")
+    @GetMapping("/bulk-stats")
+    @RequireAdmin
+    public ApiRes<BulkSummaryService.BulkStats> getBulkStats() {
+        return ApiRes.success(bulkSummaryService.getStats(), "Batch API 처리 현황을 성공적으로 조회했습니다.");
+    }
+    
     @Operation(summary = "캐시 초기화", description = "AI 요약 캐시를 모두 초기화합니다.")
     @PostMapping("/clear-cache")
     @RequireAdmin
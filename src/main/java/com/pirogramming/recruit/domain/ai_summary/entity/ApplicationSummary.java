@@ -9,12 +9,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "application_summary")
+@Table(name = "application_summary", indexes = {
+    // 재시도 시각이 된 실패 작업 조회 (processing_status = 'FAILED' AND next_attempt_at <= now)
+    @Index(name = "idx_application_summary_status_next_attempt", columnList = "processing_status, next_attempt_at"),
+    // 선점 만료된 처리 중 작업 회수 (processing_status = 'PROCESSING' AND lease_expires_at < now)
+    @Index(name = "idx_application_summary_status_lease", columnList = "processing_status, lease_expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,12 +58,32 @@ public class ApplicationSummary extends BaseTimeEntity {
     @Column(name = "retry_count", nullable = false)
     private Integer retryCount = 0;
 
-    // 요약 결과를 Key-Value로 저장
-    @ElementCollection
-    @CollectionTable(name = "application_summary_items", joinColumns = @JoinColumn(name = "summary_id"))
-    @MapKeyColumn(name = "item_key", length = 100)
-    @Column(name = "item_value", columnDefinition = "TEXT")
-    private Map<String, String> items = new LinkedHashMap<>();
+    // 다음 재시도 가능 시간 (실패 시 오류 유형별 지수 백오프 + 지터로 계산)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // 작업을 선점한 워커 ID (다중 인스턴스 중복 처리 방지)
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
+
+    // 선점 만료 시간 (처리 중에는 워커가 주기적으로 연장, 이 시간이 지나면 회수)
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // 요약 생성에 사용한 프롬프트 템플릿 버전
+    @Column(name = "prompt_template_version", length = 50)
+    private String promptTemplateVersion;
+
+    // 낙관적 락 버전 (LLM 호출 동안 다른 곳에서 상태가 바뀌었으면 결과 반영 거부)
+    @Version
+    @Column(name = "version", columnDefinition = "bigint default 0 not null")
+    private Long version = 0L;
+
+    // 요약 결과 (점수, 근거, 질문별 요약을 하나의 jsonb 문서로 저장 - 별도 테이블/조인 없음)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "summary", columnDefinition = "jsonb")
+    @JsonIgnore  // 응답에는 기존 items 형식으로 노출
+    private SummaryDocument summary;
     
     // AI 처리 상태 열거형
     public enum ProcessingStatus {
@@ -67,19 +95,21 @@ public class ApplicationSummary extends BaseTimeEntity {
 
     @Builder
     public ApplicationSummary(WebhookApplication webhookApplication,
-                              Map<String, String> items,
+                              SummaryDocument summary,
                               ProcessingStatus processingStatus,
                               LocalDateTime processingStartedAt,
                               LocalDateTime processingCompletedAt,
                               String errorMessage,
-                              Integer retryCount) {
+                              Integer retryCount,
+                              String promptTemplateVersion) {
         this.webhookApplication = webhookApplication;
-        if (items != null) this.items.putAll(items);
+        this.summary = summary;
         this.processingStatus = processingStatus != null ? processingStatus : ProcessingStatus.PENDING;
         this.processingStartedAt = processingStartedAt;
         this.processingCompletedAt = processingCompletedAt;
         this.errorMessage = errorMessage;
         this.retryCount = retryCount != null ? retryCount : 0;
+        this.promptTemplateVersion = promptTemplateVersion;
     }
     
     // 상태 업데이트 메서드들
@@ -88,20 +118,35 @@ public class ApplicationSummary extends BaseTimeEntity {
         this.processingStartedAt = LocalDateTime.now();
     }
     
-    public void markAsCompleted() {
+    public void markAsCompleted(SummaryDocument summary, String promptTemplateVersion) {
+        this.summary = summary;
         this.processingStatus = ProcessingStatus.COMPLETED;
+        this.promptTemplateVersion = promptTemplateVersion;
         this.processingCompletedAt = LocalDateTime.now();
         this.errorMessage = null;
+        this.leaseExpiresAt = null;
+        this.nextAttemptAt = null;
     }
     
-    public void markAsFailed(String errorMessage) {
+    public void markAsFailed(String errorMessage, LocalDateTime nextAttemptAt) {
         this.processingStatus = ProcessingStatus.FAILED;
         this.processingCompletedAt = LocalDateTime.now();
         this.errorMessage = errorMessage;
+        this.leaseExpiresAt = null;
+        this.nextAttemptAt = nextAttemptAt;
         this.retryCount++;
     }
     
-    public boolean canRetry() {
-        return this.retryCount < 3 && this.processingStatus == ProcessingStatus.FAILED;
+    // 해당 워커가 선점한 처리 중 작업인지 확인
+    public boolean isClaimedBy(String workerId) {
+        return this.processingStatus == ProcessingStatus.PROCESSING
+            && workerId != null && workerId.equals(this.workerId);
+    }
+    
+    /**
+     * 요약 결과 Key-Value (기존 application_summary_items 형식, 조회 응답 호환용)
+     */
+    public Map<String, String> getItems() {
+        return summary != null ? summary.toItems() : new LinkedHashMap<>();
     }
 }
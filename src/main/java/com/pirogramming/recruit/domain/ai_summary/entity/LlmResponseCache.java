@@ -0,0 +1,75 @@
+package com.pirogramming.recruit.domain.ai_summary.entity;
+
+import java.time.LocalDateTime;
+
+import com.pirogramming.recruit.global.entity.BaseTimeEntity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * LLM 응답 영구 캐시 (2차 캐시)
+ * 프롬프트 해시 + 프롬프트 템플릿 버전으로 모델 원본 응답을 보관하여
+ * 재시작/배포 이후나 재처리 시에도 동일한 프롬프트는 API를 다시 호출하지 않음
+ */
+@Entity
+@Table(name = "llm_response_cache",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"prompt_hash", "template_version"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LlmResponseCache extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 프롬프트 전체의 SHA-256
+    @Column(name = "prompt_hash", nullable = false, length = 64)
+    private String promptHash;
+
+    // 프롬프트 템플릿 버전 (템플릿이 바뀌면 이전 응답을 재사용하지 않음)
+    @Column(name = "template_version", nullable = false, length = 50)
+    private String templateVersion;
+
+    @Column(length = 100)
+    private String model;
+
+    // 모델 원본 응답 (JSON)
+    @Column(name = "response_json", nullable = false, columnDefinition = "TEXT")
+    private String responseJson;
+
+    @Column(name = "prompt_tokens")
+    private int promptTokens;
+
+    @Column(name = "completion_tokens")
+    private int completionTokens;
+
+    @Column(name = "latency_ms")
+    private long latencyMs;
+
+    // 캐시 적중 횟수 (절감 효과 확인용)
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount = 0;
+
+    @Column(name = "last_hit_at")
+    private LocalDateTime lastHitAt;
+
+    @Builder
+    public LlmResponseCache(String promptHash, String templateVersion, String model, String responseJson,
+                            int promptTokens, int completionTokens, long latencyMs) {
+        this.promptHash = promptHash;
+        this.templateVersion = templateVersion;
+        this.model = model;
+        this.responseJson = responseJson;
+        this.promptTokens = promptTokens;
+        this.completionTokens = completionTokens;
+        this.latencyMs = latencyMs;
+    }
+
+    public int getTotalTokens() {
+        return promptTokens + completionTokens;
+    }
+}
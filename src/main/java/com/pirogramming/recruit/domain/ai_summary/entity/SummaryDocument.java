@@ -0,0 +1,47 @@
+package com.pirogramming.recruit.domain.ai_summary.entity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * AI 요약 결과 문서 (application_summary.summary jsonb 컬럼)
+ * 불변 값으로 다루며, 결과가 바뀌면 문서 전체를 교체 (equals 비교로 변경 감지)
+ */
+public record SummaryDocument(
+    Integer scoreOutOf100,
+    String scoreReason,
+    List<QuestionSummary> questionSummaries
+) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public SummaryDocument {
+        questionSummaries = questionSummaries != null ? List.copyOf(questionSummaries) : List.of();
+    }
+
+    /**
+     * 기존 Key-Value 형식 (scoreOutOf100, scoreReason, questionSummaries(JSON 문자열))
+     * 조회 API 응답 형식 호환용
+     */
+    public Map<String, String> toItems() {
+        Map<String, String> items = new LinkedHashMap<>();
+        items.put("scoreOutOf100", String.valueOf(scoreOutOf100 != null ? scoreOutOf100 : 0));
+        items.put("scoreReason", scoreReason != null ? scoreReason : "");
+        try {
+            items.put("questionSummaries", OBJECT_MAPPER.writeValueAsString(questionSummaries));
+        } catch (JsonProcessingException e) {
+            items.put("questionSummaries", "[]"); // 오류 시 빈 배열
+        }
+        return items;
+    }
+
+    /**
+     * 질문별 요약
+     */
+    public record QuestionSummary(String question, String aiSummary) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.pirogramming.recruit.domain.ai_summary.event;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * PENDING 상태의 AI 요약 생성 이벤트
+ * 트랜잭션 커밋 이후 AI 요약 디스패처가 즉시 처리를 시작하는 데 사용
+ */
+@Getter
+public class ApplicationSummaryCreatedEvent extends ApplicationEvent {
+
+    private final Long summaryId;
+    private final Long webhookApplicationId;
+    private final LocalDateTime occurredAt;
+
+    public ApplicationSummaryCreatedEvent(Object source, Long summaryId, Long webhookApplicationId) {
+        super(source);
+        this.summaryId = summaryId;
+        this.webhookApplicationId = webhookApplicationId;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
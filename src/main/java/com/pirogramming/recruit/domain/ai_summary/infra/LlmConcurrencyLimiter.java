@@ -0,0 +1,432 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pirogramming.recruit.domain.ai_summary.port.LlmPriority;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 호출 동시성 제한기 (논블로킹 + 적응형 AIMD)
+ * - 허용량이 없으면 스레드를 막지 않고 대기열에 등록하고, 허가 반환 시 다음 대기 요청에 바로 넘겨줌
+ * - 응답 지연이 기준 지연(baseline) 이내로 성공하면 한도를 RTT당 약 1씩 늘리고 (additive increase)
+ * - 429/5xx/타임아웃이나 기준 대비 과도한 지연이 관측되면 한도를 비율로 줄임 (multiplicative decrease)
+ * - 지연은 출력 토큰당 지연으로 비교하고, 기준은 최근 표본의 중앙값 (긴 응답을 혼잡으로 오인하지 않도록)
+ * 우선순위 레인 (LlmPriority.Lane)
+ * - 레인마다 대기열을 따로 두고, 허가가 나면 가중치 비율로 레인을 번갈아 선택 (stride scheduling)
+ * - BACKLOG 레인은 한도에서 INTERACTIVE 최소 몫을 뺀 만큼만 사용 → 대기 작업이 몰려도 사용자 요청은 바로 시작
+ */
+@Slf4j
+@Component
+public class LlmConcurrencyLimiter {
+
+	// 감소 비율 (드롭 / 지연 증가)
+	private static final double DROP_BACKOFF_RATIO = 0.7;
+	private static final double LATENCY_BACKOFF_RATIO = 0.9;
+	// 기준 지연 대비 이 배수를 넘으면 혼잡으로 판단
+	private static final double LATENCY_TOLERANCE = 2.0;
+	// 기준 지연 계산에 사용할 최근 표본 수 / 지연 기반 감소를 시작할 최소 표본 수
+	private static final int BASELINE_WINDOW = 128;
+	private static final int MIN_BASELINE_SAMPLES = 16;
+	// 토큰당 지연 계산 시 출력 토큰 수 하한 (짧은 응답은 고정 지연 비중이 커서 토큰당 지연이 부풀려짐)
+	private static final int MIN_NORMALIZED_TOKENS = 64;
+
+	private final Object lock = new Object();
+	private final Map<LlmPriority.Lane, LaneState> lanes = new EnumMap<>(LlmPriority.Lane.class);
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final int maxQueueLength;
+	private final double interactiveMinShare;
+	// 지연 측정용 시계 (ns, 테스트에서 교체)
+	private final LongSupplier nanoClock;
+
+	private int queued = 0;
+	// 마지막으로 허가를 받은 레인의 진행값 (쉬다가 돌아온 레인이 밀린 몫을 한꺼번에 가져가지 않도록 기준으로 사용)
+	private double virtualTime = 0;
+
+	private double limit;
+	private int inFlight = 0;
+	// 최근 성공 응답의 출력 토큰당 지연 (ns) 원형 버퍼와 그 중앙값
+	private final long[] latencySamples = new long[BASELINE_WINDOW];
+	private int latencySampleCount = 0;
+	private int nextLatencySample = 0;
+	private long baselineNanosPerToken = 0;
+	// 마지막 한도 감소 시각 - 그 이전에 시작된 요청의 실패로 중복 감소하지 않도록 사용
+	private long lastDecreaseNanos = 0;
+	private long limitIncreases = 0;
+	private long limitDecreases = 0;
+
+	@Autowired
+	public LlmConcurrencyLimiter(
+			@Value("${openai.api.concurrency.initial:10}") int initialLimit,
+			@Value("${openai.api.concurrency.min:2}") int minLimit,
+			@Value("${openai.api.concurrency.max:100}") int maxLimit,
+			@Value("${openai.api.max-queue-length:1000}") int maxQueueLength,
+			@Value("${openai.api.priority.interactive-weight:4}") int interactiveWeight,
+			@Value("${openai.api.priority.backlog-weight:1}") int backlogWeight,
+			@Value("${openai.api.priority.interactive-min-share:0.25}") double interactiveMinShare) {
+		this(initialLimit, minLimit, maxLimit, maxQueueLength, interactiveWeight, backlogWeight, interactiveMinShare,
+			System::nanoTime);
+	}
+
+	LlmConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueueLength,
+			int interactiveWeight, int backlogWeight, double interactiveMinShare, LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+		this.maxQueueLength = maxQueueLength;
+		this.interactiveMinShare = Math.max(0, Math.min(0.9, interactiveMinShare));
+		lanes.put(LlmPriority.Lane.INTERACTIVE, new LaneState(interactiveWeight));
+		lanes.put(LlmPriority.Lane.BACKLOG, new LaneState(backlogWeight));
+	}
+
+	/**
+	 * 허가 획득 (INTERACTIVE 레인)
+	 */
+	public CompletableFuture<Permit> acquire() {
+		return acquire(LlmPriority.Lane.INTERACTIVE);
+	}
+
+	/**
+	 * 허가 획득 - 즉시 가능하면 완료된 future, 아니면 레인 대기열에 등록된 future 반환
+	 * 같은 레인에 먼저 기다리는 요청이 있으면 순서를 지키기 위해 대기열 뒤에 등록
+	 */
+	public CompletableFuture<Permit> acquire(LlmPriority.Lane lane) {
+		synchronized (lock) {
+			LaneState state = lanes.get(lane);
+			if (state.waiters.isEmpty() && canStart(lane)) {
+				state.granted++;
+				return CompletableFuture.completedFuture(start(lane));
+			}
+			if (queued >= maxQueueLength) {
+				return CompletableFuture.failedFuture(
+					new RejectedExecutionException("LLM request queue is full: " + queued));
+			}
+			if (state.waiters.isEmpty()) {
+				// 쉬던 레인은 현재 진행값부터 다시 시작
+				state.pass = Math.max(state.pass, virtualTime);
+			}
+			Waiter waiter = new Waiter(nanoClock.getAsLong());
+			state.waiters.addLast(waiter);
+			state.peakQueueLength = Math.max(state.peakQueueLength, state.waiters.size());
+			queued++;
+			return waiter.future;
+		}
+	}
+
+	/**
+	 * 허가 요청 취소 (acquire가 반환한 future)
+	 * - 아직 대기 중이면 대기열에서 빼고
+	 * - 취소와 허가가 엇갈려 이미 허가가 났으면 그 허가를 반환 (받을 곳 없이 사라지지 않도록)
+	 */
+	public void cancel(CompletableFuture<Permit> pending) {
+		if (!pending.cancel(false)) {
+			pending.thenAccept(Permit::release);
+			return;
+		}
+		synchronized (lock) {
+			for (LaneState state : lanes.values()) {
+				if (state.waiters.removeIf(waiter -> waiter.future == pending)) {
+					queued--;
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 레인이 지금 허가를 받을 수 있는지 (lock 안에서 호출)
+	 */
+	private boolean canStart(LlmPriority.Lane lane) {
+		if (inFlight >= currentLimit()) {
+			return false;
+		}
+		return lane != LlmPriority.Lane.BACKLOG || lanes.get(lane).inFlight < backlogLimit();
+	}
+
+	/**
+	 * BACKLOG 레인이 동시에 쓸 수 있는 최대 허가 수 (INTERACTIVE 최소 몫 제외, 최소 1)
+	 */
+	private int backlogLimit() {
+		int reserved = (int) Math.ceil(currentLimit() * interactiveMinShare);
+		return Math.max(1, currentLimit() - reserved);
+	}
+
+	private Permit start(LlmPriority.Lane lane) {
+		inFlight++;
+		lanes.get(lane).inFlight++;
+		return new Permit(lane, inFlight);
+	}
+
+	/**
+	 * 호출 결과 반영 후 허가 반환
+	 */
+	private void onRelease(Permit permit, Outcome outcome, int outputTokens) {
+		long now = nanoClock.getAsLong();
+		long latency = now - permit.startedAtNanos;
+
+		synchronized (lock) {
+			inFlight--;
+			lanes.get(permit.lane).inFlight--;
+			switch (outcome) {
+				case SUCCESS -> onSuccess(permit, latency, outputTokens, now);
+				case DROPPED -> decrease(permit, DROP_BACKOFF_RATIO, now);
+				case IGNORED -> { }
+			}
+		}
+		grantWaiters();
+	}
+
+	private void onSuccess(Permit permit, long latency, int outputTokens, long now) {
+		// 출력 토큰 수를 모르면 (사용량 없는 응답) 지연 비교 없이 증가만 판단
+		if (outputTokens > 0) {
+			long nanosPerToken = latency / Math.max(MIN_NORMALIZED_TOKENS, outputTokens);
+			recordLatency(nanosPerToken);
+			if (latencySampleCount >= MIN_BASELINE_SAMPLES
+				&& nanosPerToken > baselineNanosPerToken * LATENCY_TOLERANCE) {
+				decrease(permit, LATENCY_BACKOFF_RATIO, now);
+				return;
+			}
+		}
+
+		// 한도를 실제로 사용 중일 때만 증가 (트래픽이 적을 때 한도가 무한정 커지는 것 방지)
+		if (permit.inFlightAtStart * 2 >= currentLimit() && limit < maxLimit) {
+			int before = currentLimit();
+			limit = Math.min(maxLimit, limit + 1.0 / limit);
+			if (currentLimit() > before) {
+				limitIncreases++;
+				log.debug("LLM concurrency limit increased: {} -> {}", before, currentLimit());
+			}
+		}
+	}
+
+	/**
+	 * 토큰당 지연 표본 기록 후 기준(최근 표본 중앙값) 갱신 (lock 안에서 호출)
+	 * 최솟값 대신 최근 구간의 중앙값을 사용하여, 한 번 관측된 빠른 응답이나 응답 길이 차이로 기준이 치우치지 않음
+	 */
+	private void recordLatency(long nanosPerToken) {
+		latencySamples[nextLatencySample] = nanosPerToken;
+		nextLatencySample = (nextLatencySample + 1) % BASELINE_WINDOW;
+		latencySampleCount = Math.min(BASELINE_WINDOW, latencySampleCount + 1);
+
+		long[] sorted = Arrays.copyOf(latencySamples, latencySampleCount);
+		Arrays.sort(sorted);
+		baselineNanosPerToken = sorted[(latencySampleCount - 1) / 2];
+	}
+
+	private void decrease(Permit permit, double ratio, long now) {
+		// 직전 감소 이후에 시작된 요청의 신호만 반영 (한 번의 혼잡에 연쇄적으로 줄어드는 것 방지)
+		if (permit.startedAtNanos < lastDecreaseNanos) {
+			return;
+		}
+		int before = currentLimit();
+		limit = Math.max(minLimit, limit * ratio);
+		lastDecreaseNanos = now;
+		limitDecreases++;
+		log.info("LLM concurrency limit decreased: {} -> {}", before, currentLimit());
+	}
+
+	/**
+	 * 한도 안에서 대기 중인 요청에 허가 부여 (콜백은 락 밖에서 실행)
+	 * 허가를 받을 수 있는 레인 중 진행값(pass)이 가장 작은 레인을 선택하고, 선택된 레인은 1/가중치 만큼 진행
+	 */
+	private void grantWaiters() {
+		List<CompletableFuture<Permit>> granted = new ArrayList<>();
+		List<Permit> permits = new ArrayList<>();
+		synchronized (lock) {
+			LlmPriority.Lane lane;
+			while ((lane = nextLane()) != null) {
+				LaneState state = lanes.get(lane);
+				Waiter waiter = state.waiters.pollFirst();
+				queued--;
+				state.granted++;
+				state.totalWaitNanos += nanoClock.getAsLong() - waiter.enqueuedAtNanos;
+				virtualTime = state.pass;
+				state.pass += 1.0 / state.weight;
+				granted.add(waiter.future);
+				permits.add(start(lane));
+			}
+		}
+		for (int i = 0; i < granted.size(); i++) {
+			if (!granted.get(i).complete(permits.get(i))) {
+				// 이미 취소된 대기 요청이면 허가를 되돌림
+				permits.get(i).release();
+			}
+		}
+	}
+
+	private LlmPriority.Lane nextLane() {
+		LlmPriority.Lane next = null;
+		for (Map.Entry<LlmPriority.Lane, LaneState> entry : lanes.entrySet()) {
+			LaneState state = entry.getValue();
+			if (state.waiters.isEmpty() || !canStart(entry.getKey())) {
+				continue;
+			}
+			if (next == null || state.pass < lanes.get(next).pass) {
+				next = entry.getKey();
+			}
+		}
+		return next;
+	}
+
+	private int currentLimit() {
+		return (int) limit;
+	}
+
+	public int getLimit() {
+		synchronized (lock) {
+			return currentLimit();
+		}
+	}
+
+	public int getInFlight() {
+		synchronized (lock) {
+			return inFlight;
+		}
+	}
+
+	public int getAvailablePermits() {
+		synchronized (lock) {
+			return Math.max(0, currentLimit() - inFlight);
+		}
+	}
+
+	public int getQueueLength() {
+		synchronized (lock) {
+			return queued;
+		}
+	}
+
+	/**
+	 * 레인별 대기열 길이 / 처리 중 / 허가 수 / 평균 대기 시간
+	 */
+	public Map<LlmPriority.Lane, LaneStats> getLaneStats() {
+		synchronized (lock) {
+			Map<LlmPriority.Lane, LaneStats> stats = new EnumMap<>(LlmPriority.Lane.class);
+			lanes.forEach((lane, state) -> stats.put(lane, new LaneStats(
+				state.waiters.size(),
+				state.peakQueueLength,
+				state.inFlight,
+				lane == LlmPriority.Lane.BACKLOG ? backlogLimit() : currentLimit(),
+				state.granted,
+				state.granted > 0 ? TimeUnit.NANOSECONDS.toMillis(state.totalWaitNanos / state.granted) : 0)));
+			return stats;
+		}
+	}
+
+	/**
+	 * 기준 지연 (출력 토큰당 ms, 최근 표본 중앙값)
+	 */
+	public double getBaselineMillisPerToken() {
+		synchronized (lock) {
+			return baselineNanosPerToken / 1_000_000.0;
+		}
+	}
+
+	public long getLimitIncreases() {
+		synchronized (lock) {
+			return limitIncreases;
+		}
+	}
+
+	public long getLimitDecreases() {
+		synchronized (lock) {
+			return limitDecreases;
+		}
+	}
+
+	/**
+	 * 호출 결과 분류
+	 */
+	public enum Outcome {
+		SUCCESS,  // 정상 응답 - 출력 토큰당 지연 시간 반영
+		DROPPED,  // 429 / 5xx / 타임아웃 - 한도 감소
+		IGNORED   // 요청 자체 오류, 취소 등 - 한도에 반영하지 않음
+	}
+
+	/**
+	 * 레인별 통계
+	 */
+	public record LaneStats(int queueLength, int peakQueueLength, int inFlight, int maxInFlight,
+							long granted, long averageWaitMs) {
+	}
+
+	/**
+	 * 레인 상태 (lock 안에서만 접근)
+	 */
+	private static final class LaneState {
+		private final int weight;
+		private final Deque<Waiter> waiters = new ArrayDeque<>();
+		private int inFlight = 0;
+		private int peakQueueLength = 0;
+		private long granted = 0;
+		// 대기열을 거쳐 허가를 받은 요청의 대기 시간 합 (즉시 허가는 0)
+		private long totalWaitNanos = 0;
+		private double pass = 0;
+
+		private LaneState(int weight) {
+			this.weight = Math.max(1, weight);
+		}
+	}
+
+	/**
+	 * 대기 중인 허가 요청
+	 */
+	private static final class Waiter {
+		private final CompletableFuture<Permit> future = new CompletableFuture<>();
+		private final long enqueuedAtNanos;
+
+		private Waiter(long enqueuedAtNanos) {
+			this.enqueuedAtNanos = enqueuedAtNanos;
+		}
+	}
+
+	/**
+	 * 획득한 허가 - 여러 번 반환해도 한 번만 처리됨
+	 */
+	public final class Permit {
+		private final AtomicBoolean released = new AtomicBoolean(false);
+		private final long startedAtNanos = nanoClock.getAsLong();
+		private final LlmPriority.Lane lane;
+		private final int inFlightAtStart;
+
+		private Permit(LlmPriority.Lane lane, int inFlightAtStart) {
+			this.lane = lane;
+			this.inFlightAtStart = inFlightAtStart;
+		}
+
+		/**
+		 * 허가 반환 (outputTokens: 성공 응답의 출력 토큰 수, 모르면 0)
+		 */
+		public void release(Outcome outcome, int outputTokens) {
+			if (released.compareAndSet(false, true)) {
+				onRelease(this, outcome, outputTokens);
+			}
+		}
+
+		public void release(Outcome outcome) {
+			release(outcome, 0);
+		}
+
+		public void release() {
+			release(Outcome.IGNORED);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 요청 헤징(hedged request) 정책
+ * - 최근 응답 지연의 지정 백분위(기본 p95)를 지나도 응답이 없으면 같은 요청을 한 번 더 보냄
+ * - 헤지 요청은 예산 안에서만 허용 (요청마다 budget-ratio 만큼 적립, 헤지 1회에 1 소모)
+ *   → 전체 트래픽 대비 헤지 비율이 budget-ratio를 넘지 않음
+ */
+@Slf4j
+@Component
+public class LlmHedgingPolicy {
+
+	// 지연 백분위 계산에 사용할 최근 표본 수
+	private static final int SAMPLE_WINDOW = 256;
+	// 예산 최대 적립량 (한가한 시간에 쌓인 예산이 한꺼번에 쓰이지 않도록 제한)
+	private static final double MAX_BUDGET = 10.0;
+
+	private final boolean enabled;
+	private final double percentile;
+	private final double budgetRatio;
+	private final int minSamples;
+	private final long minDelayMillis;
+
+	private final long[] samples = new long[SAMPLE_WINDOW];
+	private int sampleCount = 0;
+	private int nextSample = 0;
+	private double budget = 0;
+
+	private final LongAdder hedgedRequests = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+	private final LongAdder budgetRejections = new LongAdder();
+
+	public LlmHedgingPolicy(
+			@Value("${openai.api.hedging.enabled:false}") boolean enabled,
+			@Value("${openai.api.hedging.percentile:0.95}") double percentile,
+			@Value("${openai.api.hedging.budget-ratio:0.05}") double budgetRatio,
+			@Value("${openai.api.hedging.min-samples:20}") int minSamples,
+			@Value("${openai.api.hedging.min-delay-ms:1000}") long minDelayMillis) {
+		this.enabled = enabled;
+		this.percentile = Math.max(0.5, Math.min(0.999, percentile));
+		this.budgetRatio = Math.max(0, budgetRatio);
+		this.minSamples = Math.max(1, Math.min(SAMPLE_WINDOW, minSamples));
+		this.minDelayMillis = Math.max(0, minDelayMillis);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 헤지 요청을 보낼 지연 시간 (표본이 부족하면 null - 헤징하지 않음)
+	 * 요청마다 한 번 호출되며, 이때 헤지 예산이 적립됨
+	 */
+	public synchronized Duration hedgeDelay() {
+		budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+		if (sampleCount < minSamples) {
+			return null;
+		}
+
+		long[] sorted = Arrays.copyOf(samples, sampleCount);
+		Arrays.sort(sorted);
+		int index = Math.min(sampleCount - 1, (int) Math.ceil(percentile * sampleCount) - 1);
+		return Duration.ofMillis(Math.max(minDelayMillis, sorted[Math.max(0, index)]));
+	}
+
+	/**
+	 * 헤지 요청 예산 사용 (부족하면 false)
+	 */
+	public synchronized boolean tryAcquireHedge() {
+		if (budget < 1.0) {
+			budgetRejections.increment();
+			return false;
+		}
+		budget -= 1.0;
+		hedgedRequests.increment();
+		return true;
+	}
+
+	/**
+	 * 성공한 요청의 지연 기록 (헤지로 취소된 요청은 기록하지 않음)
+	 */
+	public synchronized void recordLatency(long latencyMillis) {
+		samples[nextSample] = latencyMillis;
+		nextSample = (nextSample + 1) % SAMPLE_WINDOW;
+		sampleCount = Math.min(SAMPLE_WINDOW, sampleCount + 1);
+	}
+
+	/**
+	 * 헤지 요청이 먼저 응답함
+	 */
+	public void recordHedgeWin() {
+		hedgeWins.increment();
+	}
+
+	public long getHedgedRequests() {
+		return hedgedRequests.sum();
+	}
+
+	public long getHedgeWins() {
+		return hedgeWins.sum();
+	}
+
+	public long getBudgetRejections() {
+		return budgetRejections.sum();
+	}
+
+	public synchronized double getAvailableBudget() {
+		return budget;
+	}
+}
@@ -0,0 +1,231 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmBatchClient;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI Batch API 클라이언트
+ * 요청을 JSONL 파일로 업로드한 뒤 배치 작업을 생성하고, 완료되면 결과 파일을 한 줄씩 읽음
+ * 요청 본문과 응답 해석은 실시간 호출(OpenAiChatClient)과 같은 OpenAiChatMapper를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiBatchClient implements LlmBatchClient {
+
+	private static final String CHAT_COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+	private static final String COMPLETION_WINDOW = "24h";
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(120);
+
+	private final WebClient openAiWebClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Override
+	public String submit(List<Request> requests) {
+		String fileId = uploadBatchFile(toJsonl(requests));
+
+		Map<String, Object> batch = openAiWebClient.post()
+			.uri("/batches")
+			.body(BodyInserters.fromValue(Map.of(
+				"input_file_id", fileId,
+				"endpoint", CHAT_COMPLETIONS_ENDPOINT,
+				"completion_window", COMPLETION_WINDOW
+			)))
+			.retrieve()
+			.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+			.block(REQUEST_TIMEOUT);
+
+		String batchId = batch != null ? (String) batch.get("id") : null;
+		if (batchId == null) {
+			throw new IllegalStateException("OpenAI batch creation returned no id");
+		}
+
+		log.info("OpenAI batch submitted - batchId: {}, inputFileId: {}, requests: {}", batchId, fileId, requests.size());
+		return batchId;
+	}
+
+	@Override
+	public BatchStatus getStatus(String batchId) {
+		Map<String, Object> batch = openAiWebClient.get()
+			.uri("/batches/{batchId}", batchId)
+			.retrieve()
+			.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+			.block(REQUEST_TIMEOUT);
+
+		if (batch == null) {
+			throw new IllegalStateException("Empty OpenAI batch status response: " + batchId);
+		}
+
+		Map<?, ?> counts = batch.get("request_counts") instanceof Map<?, ?> map ? map : Map.of();
+		return new BatchStatus(
+			batchId,
+			String.valueOf(batch.get("status")),
+			(String) batch.get("output_file_id"),
+			(String) batch.get("error_file_id"),
+			OpenAiChatMapper.toInt(counts.get("total")),
+			OpenAiChatMapper.toInt(counts.get("completed")),
+			OpenAiChatMapper.toInt(counts.get("failed"))
+		);
+	}
+
+	@Override
+	public void readResults(String fileId, Consumer<Result> consumer) {
+		// 문자열 디코더가 줄 단위로 나눠 전달하므로 결과 파일 전체를 메모리에 올리지 않음
+		Iterable<String> lines = openAiWebClient.get()
+			.uri("/files/{fileId}/content", fileId)
+			.accept(MediaType.ALL)
+			.retrieve()
+			.bodyToFlux(String.class)
+			.timeout(REQUEST_TIMEOUT)
+			.toIterable();
+
+		for (String line : lines) {
+			if (line.isBlank()) {
+				continue;
+			}
+			Result result = parseResultLine(line);
+			if (result != null) {
+				consumer.accept(result);
+			}
+		}
+	}
+
+	/**
+	 * 배치 입력 파일 업로드 (purpose=batch)
+	 */
+	private String uploadBatchFile(byte[] jsonl) {
+		MultipartBodyBuilder builder = new MultipartBodyBuilder();
+		builder.part("purpose", "batch");
+		builder.part("file", new ByteArrayResource(jsonl))
+			.filename("ai-summaries.jsonl")
+			.contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+		Map<String, Object> file = openAiWebClient.post()
+			.uri("/files")
+			.contentType(MediaType.MULTIPART_FORM_DATA)
+			.body(BodyInserters.fromMultipartData(builder.build()))
+			.retrieve()
+			.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+			.block(REQUEST_TIMEOUT);
+
+		String fileId = file != null ? (String) file.get("id") : null;
+		if (fileId == null) {
+			throw new IllegalStateException("OpenAI file upload returned no id");
+		}
+		return fileId;
+	}
+
+	/**
+	 * 요청 목록을 JSONL로 직렬화 (한 줄에 한 요청)
+	 */
+	private byte[] toJsonl(List<Request> requests) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			for (Request request : requests) {
+				Map<String, Object> line = new LinkedHashMap<>();
+				line.put("custom_id", request.customId());
+				line.put("method", "POST");
+				line.put("url", CHAT_COMPLETIONS_ENDPOINT);
+				line.put("body", OpenAiChatMapper.requestBody(request.prompt(), OpenAiChatMapper.MAX_COMPLETION_TOKENS));
+				out.write(objectMapper.writeValueAsBytes(line));
+				out.write('\n');
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to build batch input file", e);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * 결과 파일 한 줄 해석 (output / error 파일 공통 형식)
+	 */
+	private Result parseResultLine(String line) {
+		try {
+			Map<String, Object> row = objectMapper.readValue(line.getBytes(StandardCharsets.UTF_8),
+				new TypeReference<Map<String, Object>>() {});
+			String customId = (String) row.get("custom_id");
+
+			if (row.get("response") instanceof Map<?, ?> response && OpenAiChatMapper.toInt(response.get("status_code")) == 200) {
+				@SuppressWarnings("unchecked")
+				Map<String, Object> body = (Map<String, Object>) response.get("body");
+				LlmResponse llmResponse = OpenAiChatMapper.toLlmResponse(body, 0);
+				return new Result(customId, llmResponse, null, null);
+			}
+
+			return new Result(customId, null, classifyError(row), extractError(row));
+		} catch (Exception e) {
+			log.warn("Failed to parse OpenAI batch result line: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * 오류 코드/HTTP 상태로 오류 유형 분류 (OpenAiChatClient의 실시간 호출 분류와 같은 기준)
+	 */
+	private AiProcessingException.ErrorType classifyError(Map<String, Object> row) {
+		String code = null;
+		int status = 0;
+		if (row.get("error") instanceof Map<?, ?> error) {
+			code = error.get("code") == null ? null : error.get("code").toString();
+		}
+		if (row.get("response") instanceof Map<?, ?> response) {
+			status = OpenAiChatMapper.toInt(response.get("status_code"));
+			if (code == null && response.get("body") instanceof Map<?, ?> body
+				&& body.get("error") instanceof Map<?, ?> error) {
+				Object value = error.get("code") != null ? error.get("code") : error.get("type");
+				code = value == null ? null : value.toString();
+			}
+		}
+
+		if (status == 429 || "rate_limit_exceeded".equals(code) || "insufficient_quota".equals(code)
+			|| "token_limit_exceeded".equals(code)) {
+			return AiProcessingException.ErrorType.API_LIMIT_EXCEEDED;
+		}
+		if ("batch_expired".equals(code) || "timeout".equals(code) || status == 408) {
+			return AiProcessingException.ErrorType.TIMEOUT;
+		}
+		if (status >= 500 || "server_error".equals(code)) {
+			return AiProcessingException.ErrorType.NETWORK_ERROR;
+		}
+		if (status >= 400 || "invalid_request_error".equals(code)) {
+			return AiProcessingException.ErrorType.VALIDATION_ERROR;
+		}
+		return AiProcessingException.ErrorType.UNKNOWN;
+	}
+
+	private String extractError(Map<String, Object> row) {
+		if (row.get("error") instanceof Map<?, ?> error && error.get("message") != null) {
+			return error.get("message").toString();
+		}
+		if (row.get("response") instanceof Map<?, ?> response) {
+			if (response.get("body") instanceof Map<?, ?> body && body.get("error") instanceof Map<?, ?> error) {
+				return String.valueOf(error.get("message"));
+			}
+			return "HTTP " + response.get("status_code");
+		}
+		return "Unknown batch error";
+	}
+}
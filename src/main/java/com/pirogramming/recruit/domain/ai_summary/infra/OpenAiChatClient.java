@@ -1,42 +1,85 @@
 package com.pirogramming.recruit.domain.ai_summary.infra;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
 import com.pirogramming.recruit.domain.ai_summary.port.LlmClient;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmPriority;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
 import com.pirogramming.recruit.domain.ai_summary.util.FallbackResponseUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OpenAiChatClient implements LlmClient {
 
+	// 호출별 응답 토큰 한도의 상한 (모델 최대 출력)
+	private static final int MODEL_MAX_COMPLETION_TOKENS = 16384;
+	// 429 응답 시 retry-after 대기 후 재시도 횟수
+	private static final int MAX_RATE_LIMIT_RETRIES = 3;
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(45);
+	// 스트리밍 응답 종료 표시
+	private static final String STREAM_DONE = "[DONE]";
+
 	private final WebClient openAiWebClient;
 	
-	// OpenAI API 동시 호출 제한 (40개 중 10개만 동시 처리)
-	private final Semaphore openAiSemaphore = new Semaphore(10);
+	// OpenAI API 동시 호출 제한 (논블로킹, 지연/429/5xx에 따라 한도를 조절하는 적응형)
+	private final LlmConcurrencyLimiter concurrencyLimiter;
+	
+	// OpenAI RPM/TPM 토큰 버킷 (응답 헤더로 동기화)
+	private final OpenAiRateLimiter rateLimiter;
+	
+	// 호출 전 프롬프트 토큰 추정
+	private final TokenEstimator tokenEstimator;
+	
+	// 느린 응답에 대한 헤지 요청 정책 (지연 백분위 + 예산)
+	private final LlmHedgingPolicy hedgingPolicy;
 	
 	// API 호출 통계
-	private volatile long totalRequests = 0;
-	private volatile long successfulRequests = 0;
-	private volatile long failedRequests = 0;
+	private final AtomicLong totalRequests = new AtomicLong();
+	private final AtomicLong successfulRequests = new AtomicLong();
+	private final AtomicLong failedRequests = new AtomicLong();
+	
+	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	@Override
 	public String chat(String prompt) {
-		// 기존 동기 방식 유지 (호환성)
+		// 기존 동기 방식 유지 (호환성) - 호출 스레드만 결과를 기다림
 		try {
 			return chatAsync(prompt).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Synchronous chat call interrupted");
+			return FallbackResponseUtil.createFallbackJson();
 		} catch (Exception e) {
 			log.error("Synchronous chat call failed: {}", e.getClass().getSimpleName());
 			return FallbackResponseUtil.createFallbackJson();
@@ -45,142 +88,384 @@ public class OpenAiChatClient implements LlmClient {
 	
 	@Override
 	public CompletableFuture<String> chatAsync(String prompt) {
-		totalRequests++;
+		return execute(prompt)
+			.map(LlmResponse::content)
+			.onErrorResume(error -> Mono.just(FallbackResponseUtil.createFallbackJson()))
+			.defaultIfEmpty(FallbackResponseUtil.createFallbackJson())
+			.toFuture();
+	}
+	
+	@Override
+	public CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt) {
+		return chatWithUsageAsync(prompt, OpenAiChatMapper.MAX_COMPLETION_TOKENS);
+	}
+	
+	@Override
+	public CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt, int maxCompletionTokens) {
+		int maxTokens = Math.max(1, Math.min(MODEL_MAX_COMPLETION_TOKENS, maxCompletionTokens));
+		return execute(prompt, maxTokens)
+			.onErrorMap(this::toProcessingException)
+			.switchIfEmpty(Mono.error(() -> new AiProcessingException(
+				AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, "AI 서비스로부터 빈 응답을 받았습니다.")))
+			.toFuture();
+	}
+	
+	@Override
+	public CompletableFuture<LlmResponse> chatStream(String prompt, Consumer<String> onDelta) {
+		return execute(prompt, OpenAiChatMapper.MAX_COMPLETION_TOKENS, LlmPriority.current(),
+				permit -> requestChatCompletionStream(prompt, onDelta, permit))
+			.onErrorMap(this::toProcessingException)
+			.switchIfEmpty(Mono.error(() -> new AiProcessingException(
+				AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, "AI 서비스로부터 빈 응답을 받았습니다.")))
+			.toFuture();
+	}
+	
+	private Mono<LlmResponse> execute(String prompt) {
+		return execute(prompt, OpenAiChatMapper.MAX_COMPLETION_TOKENS);
+	}
+	
+	private Mono<LlmResponse> execute(String prompt, int maxTokens) {
+		// 우선순위는 호출 스레드에서 확정 (구독은 다른 스레드에서 일어날 수 있음)
+		LlmPriority.Lane lane = LlmPriority.current();
+		return execute(prompt, maxTokens, lane, permit -> requestWithHedge(prompt, maxTokens, lane, permit));
+	}
+	
+	/**
+	 * 헤징 적용 호출 (스트리밍 호출은 조각이 중복 전달되므로 적용하지 않음)
+	 * 최근 지연 백분위를 지나도 응답이 없으면 같은 요청을 한 번 더 보내고, 먼저 온 응답을 사용하며 나머지는 취소
+	 * 원 요청의 실패는 그대로 전달하고, 헤지 요청의 실패는 무시 (원 요청 결과를 기다림)
+	 */
+	private Mono<LlmResponse> requestWithHedge(String prompt, int maxTokens, LlmPriority.Lane lane,
+			LlmConcurrencyLimiter.Permit permit) {
+		Mono<LlmResponse> primary = requestChatCompletion(prompt, maxTokens, permit)
+			.doOnNext(response -> hedgingPolicy.recordLatency(response.latencyMillis()));
 		
-		return CompletableFuture.supplyAsync(() -> {
-			try {
-				// Semaphore로 동시 호출 제한
-				openAiSemaphore.acquire();
-				log.debug("Acquired OpenAI API semaphore. Available permits: {}", openAiSemaphore.availablePermits());
-				
-				Map<String, Object> requestBody = createRequestBody(prompt);
-				
-				return openAiWebClient.post()
-					.uri("/chat/completions")
-					.body(BodyInserters.fromValue(requestBody))
-					.retrieve()
-					.bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-					.timeout(Duration.ofSeconds(45)) // 타임아웃 45초로 증가
-					.doOnSuccess(response -> {
-						successfulRequests++;
-						log.debug("OpenAI API call completed successfully. Success rate: {}/{}", 
-							successfulRequests, totalRequests);
-					})
-					.doOnError(error -> {
-						failedRequests++;
-						handleAsyncError(error);
-					})
-					.map(this::extractContentFromResponse)
-					.onErrorReturn(FallbackResponseUtil.createFallbackJson())
-					.block(); // CompletableFuture 내부에서 block() 사용
-					
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				failedRequests++;
-				log.error("OpenAI API call interrupted");
-				return FallbackResponseUtil.createFallbackJson();
-			} catch (Exception e) {
-				failedRequests++;
-				log.error("OpenAI API call failed with unexpected error", e);
-				return FallbackResponseUtil.createFallbackJson();
-			} finally {
-				openAiSemaphore.release();
-				log.debug("Released OpenAI API semaphore. Available permits: {}", openAiSemaphore.availablePermits());
-			}
+		Duration hedgeDelay = hedgingPolicy.isEnabled() ? hedgingPolicy.hedgeDelay() : null;
+		if (hedgeDelay == null) {
+			return primary;
+		}
+		
+		Mono<LlmResponse> hedge = Mono.delay(hedgeDelay)
+			.flatMap(tick -> startHedge(prompt, maxTokens, lane, hedgeDelay));
+		return Mono.firstWithSignal(primary, hedge);
+	}
+	
+	private Mono<LlmResponse> startHedge(String prompt, int maxTokens, LlmPriority.Lane lane, Duration hedgeDelay) {
+		// 동시성 여유가 없으면 헤지하지 않음 (과부하 상황에서는 부하만 늘림)
+		if (concurrencyLimiter.getAvailablePermits() <= 0 || !hedgingPolicy.tryAcquireHedge()) {
+			return Mono.never();
+		}
+		
+		log.debug("OpenAI request exceeded hedge delay {}ms, sending hedged request", hedgeDelay.toMillis());
+		return Mono.delay(rateLimiter.reserve(estimateTokens(prompt, maxTokens)))
+			.then(acquirePermit(lane))
+			.flatMap(permit -> requestChatCompletion(prompt, maxTokens, permit))
+			.doOnNext(response -> {
+				hedgingPolicy.recordLatency(response.latencyMillis());
+				hedgingPolicy.recordHedgeWin();
+			})
+			.onErrorResume(error -> {
+				log.debug("Hedged OpenAI request failed: {}", error.getClass().getSimpleName());
+				return Mono.never();
+			});
+	}
+	
+	/**
+	 * 호출 파이프라인 (구독 시점에 실행)
+	 * 1) RPM/TPM 버킷에서 예약 후 필요한 만큼 지연 (보내고 429를 받는 대신 미리 대기)
+	 * 2) 동시성 허가를 얻은 시점에 요청 시작, 응답(또는 실패/취소) 시 허가 반환 - I/O 동안 점유하는 스레드 없음
+	 * 3) 429는 retry-after 만큼 보류된 뒤 다시 예약하여 재시도 (요약 재시도 횟수를 소모하지 않음)
+	 * 동시성 허가는 호출 우선순위 레인으로 요청 (대기 작업 처리가 사용자 요청을 밀어내지 않도록)
+	 */
+	private Mono<LlmResponse> execute(String prompt, int maxTokens, LlmPriority.Lane lane,
+			Function<LlmConcurrencyLimiter.Permit, Mono<LlmResponse>> request) {
+		int estimatedTokens = estimateTokens(prompt, maxTokens);
+		
+		return Mono.defer(() -> {
+				totalRequests.incrementAndGet();
+				return Mono.delay(rateLimiter.reserve(estimatedTokens));
+			})
+			.then(acquirePermit(lane))
+			.flatMap(permit -> {
+				log.debug("Acquired OpenAI API permit. In flight: {}, queued: {}", 
+					concurrencyLimiter.getInFlight(), concurrencyLimiter.getQueueLength());
+				return request.apply(permit);
+			})
+			.retryWhen(Retry.max(MAX_RATE_LIMIT_RETRIES)
+				.filter(this::isRetryableRateLimit)
+				.doBeforeRetry(signal -> log.info("Retrying rate-limited OpenAI request (attempt {})", 
+					signal.totalRetries() + 1)))
+			.onErrorMap(Exceptions::isRetryExhausted, Throwable::getCause)
+			.doOnSuccess(response -> {
+				long success = successfulRequests.incrementAndGet();
+				log.debug("OpenAI API call completed successfully. Success rate: {}/{}", 
+					success, totalRequests.get());
+			})
+			.doOnError(error -> {
+				failedRequests.incrementAndGet();
+				handleAsyncError(error);
+			});
+	}
+	
+	/**
+	 * 동시성 허가 획득 (구독 시점에 요청)
+	 * 구독이 취소되면 허가 요청도 취소 - 헤지 경쟁에서 진 요청처럼 허가가 난 직후 취소되어
+	 * 허가가 요청 파이프라인에 전달되지 못한 경우에도 제한기가 허가를 돌려받음
+	 */
+	private Mono<LlmConcurrencyLimiter.Permit> acquirePermit(LlmPriority.Lane lane) {
+		return Mono.defer(() -> {
+			CompletableFuture<LlmConcurrencyLimiter.Permit> pending = concurrencyLimiter.acquire(lane);
+			return Mono.fromFuture(pending, true)
+				.doOnCancel(() -> concurrencyLimiter.cancel(pending));
 		});
 	}
 	
 	/**
-	 * API 호출 통계 조회
+	 * Chat Completions 호출 (구독 시점에 실행되는 논블로킹 파이프라인)
+	 * 응답 결과는 허가 반환 시 함께 전달하여 동시성 한도 조절에, 응답 헤더는 RPM/TPM 버킷 동기화에 사용
 	 */
-	public Map<String, Object> getApiStats() {
-		return Map.of(
-			"totalRequests", totalRequests,
-			"successfulRequests", successfulRequests,
-			"failedRequests", failedRequests,
-			"successRate", totalRequests > 0 ? (double) successfulRequests / totalRequests * 100 : 0,
-			"availablePermits", openAiSemaphore.availablePermits(),
-			"queueLength", openAiSemaphore.getQueueLength()
-		);
+	private Mono<LlmResponse> requestChatCompletion(String prompt, int maxTokens, LlmConcurrencyLimiter.Permit permit) {
+		long startedAt = System.nanoTime();
+		return openAiWebClient.post()
+			.uri("/chat/completions")
+			.body(BodyInserters.fromValue(OpenAiChatMapper.requestBody(prompt, maxTokens)))
+			.retrieve()
+			.toEntity(new ParameterizedTypeReference<Map<String, Object>>() {})
+			.timeout(REQUEST_TIMEOUT) // 타임아웃 45초
+			.doOnSuccess(entity -> {
+				permit.release(LlmConcurrencyLimiter.Outcome.SUCCESS, entity != null ? OpenAiChatMapper.completionTokens(entity.getBody()) : 0);
+				if (entity != null) {
+					rateLimiter.updateFromHeaders(entity.getHeaders());
+				}
+			})
+			.doOnError(error -> releaseOnError(permit, error))
+			.doFinally(signal -> permit.release()) // 취소 시에도 허가 반환
+			.map(entity -> OpenAiChatMapper.toLlmResponse(entity.getBody(), 
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
 	}
 	
 	/**
-	 * 요청 바디 생성
+	 * Chat Completions 스트리밍 호출 (stream=true, SSE)
+	 * 조각(delta)이 도착할 때마다 onDelta로 전달하고, 마지막 usage 조각까지 모아 전체 응답을 만듦
+	 * 허가는 스트림이 끝날 때 반환 (타임아웃은 전체 스트림 기준)
+	 * onDelta와 완료 후속 처리는 boundedElastic 스레드에서 실행 - 호출자가 SSE 전송처럼 블로킹 쓰기를 해도
+	 * 다른 WebClient 연결을 처리하는 이벤트 루프를 막지 않음 (publishOn은 조각 순서를 유지)
 	 */
-	private Map<String, Object> createRequestBody(String prompt) {
-		return Map.of(
-			"model", "gpt-4o",
-			"messages", new Object[]{
-				Map.of("role", "system", "content", 
-					"You are a professional HR assistant specialized in analyzing job applications. " +
-					"Provide objective, detailed analysis focusing on technical skills, experience, and qualifications. " +
-					"Always respond in Korean language as instructed in the user prompt."),
-				Map.of("role", "user", "content", prompt)
-			},
-			"max_tokens", 1500,
-			"temperature", 0.3,
-			"response_format", Map.of("type", "json_object")
-		);
+	private Mono<LlmResponse> requestChatCompletionStream(String prompt, Consumer<String> onDelta,
+			LlmConcurrencyLimiter.Permit permit) {
+		long startedAt = System.nanoTime();
+		StreamAccumulator accumulator = new StreamAccumulator();
+		return openAiWebClient.post()
+			.uri("/chat/completions")
+			.accept(MediaType.TEXT_EVENT_STREAM)
+			.body(BodyInserters.fromValue(OpenAiChatMapper.streamRequestBody(prompt, OpenAiChatMapper.MAX_COMPLETION_TOKENS)))
+			.retrieve()
+			.toEntityFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+			.doOnNext(entity -> rateLimiter.updateFromHeaders(entity.getHeaders()))
+			.flatMapMany(this::streamBody)
+			.takeUntil(STREAM_DONE::equals)
+			.filter(data -> !STREAM_DONE.equals(data))
+			.publishOn(Schedulers.boundedElastic())
+			.doOnNext(data -> {
+				String delta = accumulator.append(data);
+				if (delta != null && !delta.isEmpty()) {
+					onDelta.accept(delta);
+				}
+			})
+			.then(Mono.fromCallable(() -> accumulator.toLlmResponse(
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))))
+			.timeout(REQUEST_TIMEOUT)
+			.doOnSuccess(response -> permit.release(LlmConcurrencyLimiter.Outcome.SUCCESS,
+				response != null ? response.completionTokens() : 0))
+			.doOnError(error -> releaseOnError(permit, error))
+			.doFinally(signal -> permit.release());
+	}
+	
+	private Flux<String> streamBody(ResponseEntity<Flux<ServerSentEvent<String>>> entity) {
+		Flux<ServerSentEvent<String>> body = entity.getBody();
+		if (body == null) {
+			return Flux.empty();
+		}
+		return body.mapNotNull(ServerSentEvent::data)
+			.map(String::trim)
+			.filter(data -> !data.isEmpty());
 	}
 	
 	/**
-	 * 비동기 에러 처리
+	 * 실패 시 허가 반환 및 RPM/TPM 버킷 동기화
 	 */
-	private void handleAsyncError(Throwable error) {
+	private void releaseOnError(LlmConcurrencyLimiter.Permit permit, Throwable error) {
+		permit.release(classifyOutcome(error));
 		if (error instanceof WebClientResponseException webEx) {
-			log.error("OpenAI API HTTP error - Status: {}, Error: {}", 
-				webEx.getStatusCode(), 
-				sanitizeErrorMessage(webEx.getResponseBodyAsString()));
-		} else {
-			log.error("OpenAI API async call failed: {}", error.getClass().getSimpleName());
+			rateLimiter.updateFromHeaders(webEx.getHeaders());
+			if (webEx.getStatusCode().value() == 429) {
+				rateLimiter.onRateLimited(webEx.getHeaders());
+			}
 		}
 	}
 	
-	private String extractContentFromResponse(Map<String, Object> response) {
-		try {
-			// 입력 검증
-			if (response == null || response.isEmpty()) {
-				throw new RuntimeException("Empty response from OpenAI");
+	/**
+	 * 호출 실패를 AI 처리 예외로 분류
+	 */
+	private AiProcessingException toProcessingException(Throwable error) {
+		if (error instanceof AiProcessingException aiException) {
+			return aiException;
+		}
+		if (error instanceof WebClientResponseException webEx) {
+			int status = webEx.getStatusCode().value();
+			if (status == 429) {
+				return new AiProcessingException(AiProcessingException.ErrorType.API_LIMIT_EXCEEDED, 
+					"OpenAI API 호출 한도를 초과했습니다.", error);
 			}
-			
-			@SuppressWarnings("unchecked")
-			var choices = (java.util.List<Map<String, Object>>) response.get("choices");
-			if (choices == null || choices.isEmpty()) {
-				throw new RuntimeException("No choices in response");
+			return new AiProcessingException(AiProcessingException.ErrorType.NETWORK_ERROR, 
+				"OpenAI API 오류 응답: " + status, error);
+		}
+		if (error instanceof TimeoutException) {
+			return new AiProcessingException(AiProcessingException.ErrorType.TIMEOUT, 
+				"OpenAI API 응답 시간이 초과되었습니다.", error);
+		}
+		if (error instanceof RejectedExecutionException) {
+			return new AiProcessingException(AiProcessingException.ErrorType.API_LIMIT_EXCEEDED, 
+				"OpenAI API 대기열이 가득 찼습니다.", error);
+		}
+		if (error instanceof WebClientRequestException) {
+			return new AiProcessingException(AiProcessingException.ErrorType.NETWORK_ERROR, 
+				"OpenAI API에 연결할 수 없습니다.", error);
+		}
+		return new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+			"OpenAI API 응답을 처리할 수 없습니다.", error);
+	}
+	
+	/**
+	 * 대기 후 재시도할 429인지 확인 (요금 한도 초과는 기다려도 해소되지 않으므로 제외)
+	 */
+	private boolean isRetryableRateLimit(Throwable error) {
+		return error instanceof WebClientResponseException webEx
+			&& webEx.getStatusCode().value() == 429
+			&& !webEx.getResponseBodyAsString().contains("insufficient_quota");
+	}
+	
+	/**
+	 * TPM 예약용 토큰 추정 (프롬프트 + 시스템 메시지 + 최대 응답 토큰)
+	 */
+	private int estimateTokens(String prompt, int maxTokens) {
+		return tokenEstimator.estimateMessage(prompt) + tokenEstimator.estimateMessage(OpenAiChatMapper.SYSTEM_PROMPT) + maxTokens;
+	}
+	
+	/**
+	 * 동시성 한도 조절용 결과 분류 - 과부하 신호(429, 5xx, 타임아웃)만 한도 감소에 반영
+	 */
+	private LlmConcurrencyLimiter.Outcome classifyOutcome(Throwable error) {
+		if (error instanceof WebClientResponseException webEx) {
+			int status = webEx.getStatusCode().value();
+			return status == 429 || status >= 500
+				? LlmConcurrencyLimiter.Outcome.DROPPED
+				: LlmConcurrencyLimiter.Outcome.IGNORED;
+		}
+		if (error instanceof TimeoutException) {
+			return LlmConcurrencyLimiter.Outcome.DROPPED;
+		}
+		return LlmConcurrencyLimiter.Outcome.IGNORED;
+	}
+	
+	/**
+	 * API 호출 통계 조회
+	 */
+	public Map<String, Object> getApiStats() {
+		long total = totalRequests.get();
+		long success = successfulRequests.get();
+		
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("totalRequests", total);
+		stats.put("successfulRequests", success);
+		stats.put("failedRequests", failedRequests.get());
+		stats.put("successRate", total > 0 ? (double) success / total * 100 : 0);
+		stats.put("concurrencyLimit", concurrencyLimiter.getLimit());
+		stats.put("inFlight", concurrencyLimiter.getInFlight());
+		stats.put("availablePermits", concurrencyLimiter.getAvailablePermits());
+		stats.put("queueLength", concurrencyLimiter.getQueueLength());
+		stats.put("lanes", concurrencyLimiter.getLaneStats());
+		stats.put("baselineMsPerOutputToken", concurrencyLimiter.getBaselineMillisPerToken());
+		stats.put("limitIncreases", concurrencyLimiter.getLimitIncreases());
+		stats.put("limitDecreases", concurrencyLimiter.getLimitDecreases());
+		stats.put("requestsPerMinute", rateLimiter.getRequestsPerMinute());
+		stats.put("tokensPerMinute", rateLimiter.getTokensPerMinute());
+		stats.put("availableRequests", rateLimiter.getAvailableRequests());
+		stats.put("availableTokens", rateLimiter.getAvailableTokens());
+		stats.put("throttledRequests", rateLimiter.getThrottledRequests());
+		stats.put("throttledMs", rateLimiter.getThrottledMillis());
+		stats.put("rateLimitedResponses", rateLimiter.getRateLimitedResponses());
+		stats.put("hedgingEnabled", hedgingPolicy.isEnabled());
+		stats.put("hedgedRequests", hedgingPolicy.getHedgedRequests());
+		stats.put("hedgeWins", hedgingPolicy.getHedgeWins());
+		stats.put("hedgeBudgetRejections", hedgingPolicy.getBudgetRejections());
+		return stats;
+	}
+	
+	/**
+	 * 스트리밍 조각 누적 (한 응답 전용)
+	 */
+	private class StreamAccumulator {
+		private final StringBuilder content = new StringBuilder();
+		private String model = OpenAiChatMapper.MODEL;
+		private int promptTokens;
+		private int completionTokens;
+		
+		/**
+		 * 조각 하나를 해석하여 누적하고, 새로 생성된 내용 반환
+		 */
+		String append(String data) {
+			Map<String, Object> chunk;
+			try {
+				chunk = objectMapper.readValue(data, new TypeReference<Map<String, Object>>() {});
+			} catch (Exception e) {
+				throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+					"OpenAI 스트리밍 응답 조각을 해석할 수 없습니다.", e);
 			}
 			
-			@SuppressWarnings("unchecked")
-			var message = (Map<String, Object>) choices.get(0).get("message");
-			if (message == null) {
-				throw new RuntimeException("No message in choice");
+			if (chunk.get("model") != null) {
+				model = chunk.get("model").toString();
 			}
-			
-			var content = message.get("content");
-			if (content == null) {
-				throw new RuntimeException("No content in message");
+			if (chunk.get("usage") instanceof Map<?, ?> usage) {
+				promptTokens = OpenAiChatMapper.toInt(usage.get("prompt_tokens"));
+				completionTokens = OpenAiChatMapper.toInt(usage.get("completion_tokens"));
 			}
-			
-			String contentStr = content.toString();
-			
-			// 콘텐츠 내용 기본 검증
-			if (contentStr.trim().isEmpty()) {
-				throw new RuntimeException("Empty content in response");
+			if (!(chunk.get("choices") instanceof java.util.List<?> choices) || choices.isEmpty()
+				|| !(choices.get(0) instanceof Map<?, ?> choice)
+				|| !(choice.get("delta") instanceof Map<?, ?> delta)
+				|| delta.get("content") == null) {
+				return null;
 			}
 			
+			String text = delta.get("content").toString();
 			// 응답 길이 제한 (DoS 방지)
-			if (contentStr.length() > 10000) {
-				log.warn("OpenAI response too long, truncating: {} chars", contentStr.length());
-				contentStr = contentStr.substring(0, 10000);
+			if (content.length() + text.length() > 10000) {
+				throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+					"AI 응답이 너무 큽니다.");
 			}
-			
-			return contentStr;
-			
-		} catch (ClassCastException e) {
-			log.error("Invalid response structure from OpenAI: type mismatch");
-			throw new RuntimeException("Invalid response structure from OpenAI", e);
-		} catch (Exception e) {
-			log.error("Failed to parse OpenAI response: {}", e.getClass().getSimpleName());
-			throw new RuntimeException("Invalid response structure from OpenAI", e);
+			content.append(text);
+			return text;
+		}
+		
+		LlmResponse toLlmResponse(long latencyMillis) {
+			if (content.toString().trim().isEmpty()) {
+				throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+					"AI 서비스로부터 빈 응답을 받았습니다.");
+			}
+			return new LlmResponse(content.toString(), model, promptTokens, completionTokens, latencyMillis);
+		}
+	}
+	
+	/**
+	 * 비동기 에러 처리
+	 */
+	private void handleAsyncError(Throwable error) {
+		if (error instanceof WebClientResponseException webEx) {
+			log.error("OpenAI API HTTP error - Status: {}, Error: {}", 
+				webEx.getStatusCode(), 
+				sanitizeErrorMessage(webEx.getResponseBodyAsString()));
+		} else {
+			log.error("OpenAI API async call failed: {}", error.getClass().getSimpleName());
 		}
 	}
 	
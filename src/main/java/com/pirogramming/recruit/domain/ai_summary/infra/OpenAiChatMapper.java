@@ -0,0 +1,129 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI Chat Completions 요청 본문 생성과 응답 해석
+ * 실시간 호출(OpenAiChatClient)과 Batch API(OpenAiBatchClient)가 같은 형식을 사용하도록 공유
+ */
+@Slf4j
+final class OpenAiChatMapper {
+
+	static final String SYSTEM_PROMPT =
+		"You are a professional HR assistant specialized in analyzing job applications. " +
+		"Provide objective, detailed analysis focusing on technical skills, experience, and qualifications. " +
+		"Always respond in Korean language as instructed in the user prompt.";
+	static final String MODEL = "gpt-4o";
+	static final int MAX_COMPLETION_TOKENS = 1500;
+	// 응답 길이 제한 (DoS 방지) - 토큰 한도를 넘는 응답은 오지 않으므로 응답 해석 단계 한도와 맞춤
+	private static final int MAX_RESPONSE_CHARS = 50000;
+
+	private OpenAiChatMapper() {
+	}
+
+	/**
+	 * 요청 바디 생성
+	 */
+	static Map<String, Object> requestBody(String prompt, int maxTokens) {
+		return Map.of(
+			"model", MODEL,
+			"messages", new Object[]{
+				Map.of("role", "system", "content", SYSTEM_PROMPT),
+				Map.of("role", "user", "content", prompt)
+			},
+			"max_tokens", maxTokens,
+			"temperature", 0.3,
+			"response_format", Map.of("type", "json_object")
+		);
+	}
+
+	/**
+	 * 스트리밍 요청 바디 생성 (마지막 조각에 토큰 사용량 포함)
+	 */
+	static Map<String, Object> streamRequestBody(String prompt, int maxTokens) {
+		Map<String, Object> body = new LinkedHashMap<>(requestBody(prompt, maxTokens));
+		body.put("stream", true);
+		body.put("stream_options", Map.of("include_usage", true));
+		return body;
+	}
+
+	/**
+	 * 응답 본문에서 내용과 사용량 추출
+	 */
+	static LlmResponse toLlmResponse(Map<String, Object> body, long latencyMillis) {
+		String content = extractContent(body);
+		Object model = body.get("model");
+		int promptTokens = 0;
+		int completionTokens = 0;
+		if (body.get("usage") instanceof Map<?, ?> usage) {
+			promptTokens = toInt(usage.get("prompt_tokens"));
+			completionTokens = toInt(usage.get("completion_tokens"));
+		}
+		return new LlmResponse(content, model != null ? model.toString() : MODEL, promptTokens, completionTokens, latencyMillis);
+	}
+
+	/**
+	 * 응답 본문의 출력 토큰 수 (동시성 한도 조절용, 없으면 0)
+	 */
+	static int completionTokens(Map<String, Object> body) {
+		return body != null && body.get("usage") instanceof Map<?, ?> usage ? toInt(usage.get("completion_tokens")) : 0;
+	}
+
+	static int toInt(Object value) {
+		return value instanceof Number number ? number.intValue() : 0;
+	}
+
+	private static String extractContent(Map<String, Object> response) {
+		try {
+			// 입력 검증
+			if (response == null || response.isEmpty()) {
+				throw new RuntimeException("Empty response from OpenAI");
+			}
+
+			@SuppressWarnings("unchecked")
+			var choices = (List<Map<String, Object>>) response.get("choices");
+			if (choices == null || choices.isEmpty()) {
+				throw new RuntimeException("No choices in response");
+			}
+
+			@SuppressWarnings("unchecked")
+			var message = (Map<String, Object>) choices.get(0).get("message");
+			if (message == null) {
+				throw new RuntimeException("No message in choice");
+			}
+
+			var content = message.get("content");
+			if (content == null) {
+				throw new RuntimeException("No content in message");
+			}
+
+			String contentStr = content.toString();
+
+			// 콘텐츠 내용 기본 검증
+			if (contentStr.trim().isEmpty()) {
+				throw new RuntimeException("Empty content in response");
+			}
+
+			// 응답 길이 제한 (DoS 방지)
+			if (contentStr.length() > MAX_RESPONSE_CHARS) {
+				log.warn("OpenAI response too long, truncating: {} chars", contentStr.length());
+				contentStr = contentStr.substring(0, MAX_RESPONSE_CHARS);
+			}
+
+			return contentStr;
+
+		} catch (ClassCastException e) {
+			log.error("Invalid response structure from OpenAI: type mismatch");
+			throw new RuntimeException("Invalid response structure from OpenAI", e);
+		} catch (Exception e) {
+			log.error("Failed to parse OpenAI response: {}", e.getClass().getSimpleName());
+			throw new RuntimeException("Invalid response structure from OpenAI", e);
+		}
+	}
+}
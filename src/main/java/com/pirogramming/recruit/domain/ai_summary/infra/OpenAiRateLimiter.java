@@ -0,0 +1,272 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OpenAI 분당 요청 수(RPM) / 토큰 수(TPM) 토큰 버킷
+ * - 요청 전 예상 토큰만큼 예약하고, 부족하면 보내지 않고 필요한 대기 시간을 돌려줌
+ * - 응답의 x-ratelimit-* 헤더로 한도와 잔여량을 동기화하고, 429의 retry-after 동안은 모든 요청을 보류
+ */
+@Slf4j
+@Component
+public class OpenAiRateLimiter {
+
+	private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+	private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|s|m|h)");
+
+	private final Object lock = new Object();
+	private final TokenBucket requestBucket;
+	private final TokenBucket tokenBucket;
+	// 현재 시각 (ns, 테스트에서 교체)
+	private final LongSupplier nanoClock;
+
+	// retry-after / reset 헤더로 지정된 요청 보류 시각
+	private long blockedUntilNanos = 0;
+
+	private long throttledRequests = 0;
+	private long throttledNanos = 0;
+	private long rateLimitedResponses = 0;
+
+	@Autowired
+	public OpenAiRateLimiter(
+			@Value("${openai.api.rate-limit.requests-per-minute:500}") int requestsPerMinute,
+			@Value("${openai.api.rate-limit.tokens-per-minute:30000}") int tokensPerMinute) {
+		this(requestsPerMinute, tokensPerMinute, System::nanoTime);
+	}
+
+	OpenAiRateLimiter(int requestsPerMinute, int tokensPerMinute, LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		long now = nanoClock.getAsLong();
+		this.requestBucket = new TokenBucket(requestsPerMinute, now);
+		this.tokenBucket = new TokenBucket(tokensPerMinute, now);
+	}
+
+	/**
+	 * 요청 1건과 예상 토큰을 예약하고, 보내기 전 기다려야 할 시간을 반환
+	 */
+	public Duration reserve(int estimatedTokens) {
+		synchronized (lock) {
+			long now = nanoClock.getAsLong();
+			long waitNanos = Math.max(requestBucket.take(1, now), tokenBucket.take(estimatedTokens, now));
+			waitNanos = Math.max(waitNanos, blockedUntilNanos - now);
+
+			if (waitNanos > 0) {
+				throttledRequests++;
+				throttledNanos += waitNanos;
+				log.debug("OpenAI rate limit reached, delaying request by {}ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+				return Duration.ofNanos(waitNanos);
+			}
+			return Duration.ZERO;
+		}
+	}
+
+	/**
+	 * 응답 헤더의 한도 / 잔여량으로 버킷 동기화
+	 */
+	public void updateFromHeaders(HttpHeaders headers) {
+		if (headers == null) {
+			return;
+		}
+
+		synchronized (lock) {
+			long now = nanoClock.getAsLong();
+			syncBucket(requestBucket, headers, "requests", now);
+			syncBucket(tokenBucket, headers, "tokens", now);
+		}
+	}
+
+	/**
+	 * 429 응답 처리 - retry-after 동안 모든 요청 보류
+	 */
+	public void onRateLimited(HttpHeaders headers) {
+		synchronized (lock) {
+			long now = nanoClock.getAsLong();
+			rateLimitedResponses++;
+
+			long retryAfterNanos = parseRetryAfterNanos(headers);
+			if (retryAfterNanos <= 0) {
+				// 헤더가 없으면 분당 요청 간격만큼 보류
+				retryAfterNanos = NANOS_PER_MINUTE / Math.max(1, (long) requestBucket.capacity);
+			}
+			blockedUntilNanos = Math.max(blockedUntilNanos, now + retryAfterNanos);
+			requestBucket.drain(now);
+			tokenBucket.drain(now);
+
+			log.warn("OpenAI rate limited (429). Holding requests for {}ms", TimeUnit.NANOSECONDS.toMillis(retryAfterNanos));
+		}
+	}
+
+	private void syncBucket(TokenBucket bucket, HttpHeaders headers, String kind, long now) {
+		Double limit = parseNumber(headers.getFirst("x-ratelimit-limit-" + kind));
+		if (limit != null && limit > 0) {
+			bucket.updateCapacity(limit, now);
+		}
+
+		Double remaining = parseNumber(headers.getFirst("x-ratelimit-remaining-" + kind));
+		if (remaining != null) {
+			bucket.limitAvailable(remaining, now);
+			if (remaining <= 0) {
+				long resetNanos = parseDurationNanos(headers.getFirst("x-ratelimit-reset-" + kind));
+				blockedUntilNanos = Math.max(blockedUntilNanos, now + resetNanos);
+			}
+		}
+	}
+
+	private long parseRetryAfterNanos(HttpHeaders headers) {
+		if (headers == null) {
+			return 0;
+		}
+		Double retryAfterMs = parseNumber(headers.getFirst("retry-after-ms"));
+		if (retryAfterMs != null) {
+			return TimeUnit.MICROSECONDS.toNanos((long) (retryAfterMs * 1000));
+		}
+		Double retryAfterSeconds = parseNumber(headers.getFirst(HttpHeaders.RETRY_AFTER));
+		if (retryAfterSeconds != null) {
+			return TimeUnit.MILLISECONDS.toNanos((long) (retryAfterSeconds * 1000));
+		}
+		return parseDurationNanos(headers.getFirst("x-ratelimit-reset-requests"));
+	}
+
+	private Double parseNumber(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * "1s", "6m0s", "20ms" 형식의 reset 헤더 파싱
+	 */
+	private long parseDurationNanos(String value) {
+		if (value == null || value.isBlank()) {
+			return 0;
+		}
+
+		double millis = 0;
+		Matcher matcher = DURATION_PART.matcher(value.trim());
+		while (matcher.find()) {
+			double amount = Double.parseDouble(matcher.group(1));
+			millis += switch (matcher.group(2)) {
+				case "ms" -> amount;
+				case "s" -> amount * 1_000;
+				case "m" -> amount * 60_000;
+				case "h" -> amount * 3_600_000;
+				default -> 0;
+			};
+		}
+		return TimeUnit.MICROSECONDS.toNanos((long) (millis * 1000));
+	}
+
+	public long getRequestsPerMinute() {
+		synchronized (lock) {
+			return (long) requestBucket.capacity;
+		}
+	}
+
+	public long getTokensPerMinute() {
+		synchronized (lock) {
+			return (long) tokenBucket.capacity;
+		}
+	}
+
+	public long getAvailableRequests() {
+		synchronized (lock) {
+			return (long) requestBucket.peek(nanoClock.getAsLong());
+		}
+	}
+
+	public long getAvailableTokens() {
+		synchronized (lock) {
+			return (long) tokenBucket.peek(nanoClock.getAsLong());
+		}
+	}
+
+	public long getThrottledRequests() {
+		synchronized (lock) {
+			return throttledRequests;
+		}
+	}
+
+	public long getThrottledMillis() {
+		synchronized (lock) {
+			return TimeUnit.NANOSECONDS.toMillis(throttledNanos);
+		}
+	}
+
+	public long getRateLimitedResponses() {
+		synchronized (lock) {
+			return rateLimitedResponses;
+		}
+	}
+
+	/**
+	 * 분당 capacity만큼 선형으로 채워지는 버킷 (잔여량이 음수면 예약된 대기분)
+	 */
+	private static final class TokenBucket {
+		private double capacity;
+		private double available;
+		private long lastRefillNanos;
+
+		TokenBucket(double capacity, long now) {
+			this.capacity = capacity;
+			this.available = capacity;
+			this.lastRefillNanos = now;
+		}
+
+		void refill(long now) {
+			long elapsed = now - lastRefillNanos;
+			if (elapsed > 0) {
+				available = Math.min(capacity, available + elapsed * capacity / NANOS_PER_MINUTE);
+				lastRefillNanos = now;
+			}
+		}
+
+		/**
+		 * amount만큼 차감하고, 부족분이 채워질 때까지의 대기 시간 반환
+		 */
+		long take(double amount, long now) {
+			refill(now);
+			available -= Math.min(amount, capacity);
+			if (available >= 0) {
+				return 0;
+			}
+			return (long) (-available * NANOS_PER_MINUTE / capacity);
+		}
+
+		double peek(long now) {
+			refill(now);
+			return Math.max(0, available);
+		}
+
+		void updateCapacity(double newCapacity, long now) {
+			refill(now);
+			capacity = newCapacity;
+			available = Math.min(available, capacity);
+		}
+
+		void limitAvailable(double remaining, long now) {
+			refill(now);
+			available = Math.min(available, remaining);
+		}
+
+		void drain(long now) {
+			refill(now);
+			available = Math.min(available, 0);
+		}
+	}
+}
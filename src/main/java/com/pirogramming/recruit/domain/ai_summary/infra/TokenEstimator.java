@@ -0,0 +1,153 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오프라인 프롬프트 토큰 추정기
+ * 호출 전에 API 없이 토큰 수를 계산하여 예산 초과 여부 판단, TPM 예약에 사용
+ * 문자군(영문 단어, 숫자, 한글, 한자, 기호 등) 단위로 묶어 리소스 파일의 비율을 적용
+ */
+@Slf4j
+@Component
+public class TokenEstimator {
+
+	private final double latinCharsPerToken;
+	private final double digitCharsPerToken;
+	private final double hangulTokensPerChar;
+	private final double jamoTokensPerChar;
+	private final double cjkTokensPerChar;
+	private final double punctuationTokensPerChar;
+	private final double otherTokensPerChar;
+	private final double whitespaceRunTokens;
+	private final int messageOverheadTokens;
+	private final double safetyMargin;
+
+	public TokenEstimator(@Value("${ai.prompt.token-table:ai/token-estimation.properties}") String tablePath) {
+		Properties table = loadTable(tablePath);
+		this.latinCharsPerToken = readDouble(table, "latin.chars-per-token", 4.0);
+		this.digitCharsPerToken = readDouble(table, "digit.chars-per-token", 3.0);
+		this.hangulTokensPerChar = readDouble(table, "hangul.tokens-per-char", 0.8);
+		this.jamoTokensPerChar = readDouble(table, "hangul-jamo.tokens-per-char", 1.0);
+		this.cjkTokensPerChar = readDouble(table, "cjk.tokens-per-char", 1.2);
+		this.punctuationTokensPerChar = readDouble(table, "punctuation.tokens-per-char", 1.0);
+		this.otherTokensPerChar = readDouble(table, "other.tokens-per-char", 2.0);
+		this.whitespaceRunTokens = readDouble(table, "whitespace-run.tokens", 1.0);
+		this.messageOverheadTokens = (int) readDouble(table, "message.overhead-tokens", 8);
+		this.safetyMargin = readDouble(table, "safety-margin", 1.1);
+	}
+
+	/**
+	 * 텍스트의 예상 토큰 수
+	 */
+	public int estimate(CharSequence text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+
+		double tokens = 0;
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			int start = i;
+
+			if (isLatinLetter(c)) {
+				while (i < length && isLatinLetter(text.charAt(i))) i++;
+				tokens += Math.ceil((i - start) / latinCharsPerToken);
+			} else if (c >= '0' && c <= '9') {
+				while (i < length && text.charAt(i) >= '0' && text.charAt(i) <= '9') i++;
+				tokens += Math.ceil((i - start) / digitCharsPerToken);
+			} else if (Character.isWhitespace(c)) {
+				boolean newline = false;
+				while (i < length && Character.isWhitespace(text.charAt(i))) {
+					newline |= text.charAt(i) == '\n';
+					i++;
+				}
+				// 단일 공백은 다음 단어 토큰에 포함됨
+				if (newline || i - start > 1) {
+					tokens += whitespaceRunTokens;
+				}
+			} else if (isHangulSyllable(c)) {
+				while (i < length && isHangulSyllable(text.charAt(i))) i++;
+				tokens += (i - start) * hangulTokensPerChar;
+			} else if (isHangulJamo(c)) {
+				i++;
+				tokens += jamoTokensPerChar;
+			} else if (isCjk(c)) {
+				i++;
+				tokens += cjkTokensPerChar;
+			} else if (c < 0x80) {
+				i++;
+				tokens += punctuationTokensPerChar;
+			} else {
+				// 서로게이트 쌍(이모지 등)은 코드 포인트 하나로 계산
+				i += Character.charCount(Character.codePointAt(text, i));
+				tokens += otherTokensPerChar;
+			}
+		}
+
+		return (int) Math.ceil(tokens * safetyMargin);
+	}
+
+	/**
+	 * 채팅 메시지 하나의 예상 토큰 수 (형식 오버헤드 포함)
+	 */
+	public int estimateMessage(CharSequence content) {
+		return estimate(content) + messageOverheadTokens;
+	}
+
+	private boolean isLatinLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private boolean isHangulSyllable(char c) {
+		return c >= '가' && c <= '힣';
+	}
+
+	private boolean isHangulJamo(char c) {
+		return (c >= 'ᄀ' && c <= 'ᇿ') || (c >= '㄰' && c <= '㆏');
+	}
+
+	private boolean isCjk(char c) {
+		return (c >= '一' && c <= '鿿') || (c >= '぀' && c <= 'ヿ');
+	}
+
+	private Properties loadTable(String path) {
+		Properties table = new Properties();
+		ClassPathResource resource = new ClassPathResource(path);
+		if (!resource.exists()) {
+			log.warn("Token estimation table not found: {}. Using default ratios", path);
+			return table;
+		}
+
+		try (InputStream in = resource.getInputStream()) {
+			table.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			log.warn("Failed to load token estimation table: {}. Using default ratios", path, e);
+		}
+		return table;
+	}
+
+	private double readDouble(Properties table, String key, double defaultValue) {
+		String value = table.getProperty(key);
+		if (value == null || value.isBlank()) {
+			return defaultValue;
+		}
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			log.warn("Invalid token estimation ratio {}={}. Using default {}", key, value, defaultValue);
+			return defaultValue;
+		}
+	}
+}
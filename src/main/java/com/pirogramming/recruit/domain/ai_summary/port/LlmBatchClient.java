@@ -0,0 +1,66 @@
+package com.pirogramming.recruit.domain.ai_summary.port;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+
+/**
+ * 대량 비동기 LLM 호출 (Batch API)
+ * 실시간 응답이 필요 없는 대기 작업을 파일로 한 번에 제출하고, 완료 후 결과를 한 줄씩 읽어 반영
+ */
+public interface LlmBatchClient {
+	/**
+	 * 요청 목록을 하나의 배치로 제출하고 배치 ID 반환
+	 */
+	String submit(List<Request> requests);
+	
+	/**
+	 * 배치 진행 상태 조회
+	 */
+	BatchStatus getStatus(String batchId);
+	
+	/**
+	 * 결과 파일을 한 줄씩 읽어 전달 (전체를 메모리에 올리지 않음)
+	 */
+	void readResults(String fileId, Consumer<Result> consumer);
+	
+	/**
+	 * 배치 요청 한 건
+	 *
+	 * @param customId 결과와 요청을 매칭하기 위한 식별자
+	 */
+	record Request(String customId, String prompt) {
+	}
+	
+	/**
+	 * 배치 결과 한 건 (성공 시 response, 실패 시 errorType/error)
+	 *
+	 * @param errorType 오류 코드/상태로 분류한 오류 유형 (재시도 백오프 결정용)
+	 */
+	record Result(String customId, LlmResponse response, AiProcessingException.ErrorType errorType, String error) {
+		public boolean isSuccess() {
+			return response != null;
+		}
+	}
+	
+	/**
+	 * 배치 상태
+	 */
+	record BatchStatus(
+		String id,
+		String status,
+		String outputFileId,
+		String errorFileId,
+		int totalRequests,
+		int completedRequests,
+		int failedRequests
+	) {
+		private static final Set<String> FINISHED = Set.of("completed", "failed", "expired", "cancelled");
+		
+		public boolean isFinished() {
+			return FINISHED.contains(status);
+		}
+	}
+}
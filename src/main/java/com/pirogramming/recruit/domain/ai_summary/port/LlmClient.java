@@ -1,6 +1,7 @@
 package com.pirogramming.recruit.domain.ai_summary.port;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface LlmClient {
 	/**
@@ -12,4 +13,21 @@ public interface LlmClient {
 	 * 비동기 방식 LLM 호출 (성능 개선)
 	 */
 	CompletableFuture<String> chatAsync(String prompt);
-}
\ No newline at end of file
+	
+	/**
+	 * 비동기 방식 LLM 호출 (토큰 사용량, 지연 시간 포함)
+	 * chatAsync와 달리 실패 시 fallback 응답 대신 AiProcessingException으로 완료됨
+	 */
+	CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt);
+	
+	/**
+	 * 응답 토큰 한도를 지정한 LLM 호출 (여러 지원서를 한 번에 요약하는 등 응답이 긴 경우)
+	 */
+	CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt, int maxCompletionTokens);
+	
+	/**
+	 * 스트리밍 방식 LLM 호출 - 응답 조각이 도착할 때마다 onDelta로 전달하고 전체 응답으로 완료됨
+	 * 실패 시 AiProcessingException으로 완료됨
+	 */
+	CompletableFuture<LlmResponse> chatStream(String prompt, Consumer<String> onDelta);
+}
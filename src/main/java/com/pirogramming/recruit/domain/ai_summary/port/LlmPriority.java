@@ -0,0 +1,45 @@
+package com.pirogramming.recruit.domain.ai_summary.port;
+
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 우선순위 (호출 스레드 기준)
+ * 기본은 INTERACTIVE이며, 대기 작업을 처리하는 워커는 BACKLOG로 감싸서 호출
+ * LlmClient 구현은 호출 시점(호출 스레드)의 우선순위로 동시성 허가를 요청
+ */
+public final class LlmPriority {
+
+	private static final ThreadLocal<Lane> CURRENT = ThreadLocal.withInitial(() -> Lane.INTERACTIVE);
+
+	private LlmPriority() {
+	}
+
+	public static Lane current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * 지정한 우선순위로 작업 실행 (끝나면 이전 우선순위로 복원)
+	 */
+	public static void runAs(Lane lane, Runnable task) {
+		callAs(lane, () -> {
+			task.run();
+			return null;
+		});
+	}
+
+	public static <T> T callAs(Lane lane, Supplier<T> task) {
+		Lane previous = CURRENT.get();
+		CURRENT.set(lane);
+		try {
+			return task.get();
+		} finally {
+			CURRENT.set(previous);
+		}
+	}
+
+	public enum Lane {
+		INTERACTIVE,  // 사용자가 결과를 기다리는 호출 (/analyze, 요약 재생성 등)
+		BACKLOG       // PENDING 작업 처리 등 기다리는 사람이 없는 호출
+	}
+}
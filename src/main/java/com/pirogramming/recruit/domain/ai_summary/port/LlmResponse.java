@@ -0,0 +1,22 @@
+package com.pirogramming.recruit.domain.ai_summary.port;
+
+/**
+ * LLM 응답과 사용량 정보
+ *
+ * @param content          모델이 생성한 본문 (JSON 문자열)
+ * @param model            실제 응답한 모델명
+ * @param promptTokens     입력 토큰 수
+ * @param completionTokens 출력 토큰 수
+ * @param latencyMillis    요청 ~ 응답 수신까지의 지연 시간
+ */
+public record LlmResponse(
+	String content,
+	String model,
+	int promptTokens,
+	int completionTokens,
+	long latencyMillis
+) {
+	public int totalTokens() {
+		return promptTokens + completionTokens;
+	}
+}
@@ -1,11 +1,15 @@
 package com.pirogramming.recruit.domain.ai_summary.repository;
 
 import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.entity.SummaryDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +23,11 @@ public interface ApplicationSummaryRepository extends JpaRepository<ApplicationS
     // 상태별 조회
     List<ApplicationSummary> findByProcessingStatusOrderByCreatedAtAsc(ApplicationSummary.ProcessingStatus status);
     
-    // 대기 중인 작업 중 가장 오래된 것들 조회 (배치 처리용) - WebhookApplication, items도 함께 fetch
-    @Query("SELECT DISTINCT a FROM ApplicationSummary a " +
+    long countByProcessingStatus(ApplicationSummary.ProcessingStatus status);
+    
+    // 대기 중인 작업 중 가장 오래된 것들 조회 (배치 처리용) - WebhookApplication도 함께 fetch
+    @Query("SELECT a FROM ApplicationSummary a " +
            "LEFT JOIN FETCH a.webhookApplication " +
-           "LEFT JOIN FETCH a.items " +
            "WHERE a.processingStatus = :status ORDER BY a.createdAt ASC")
     List<ApplicationSummary> findOldestPendingTasksAll(@Param("status") ApplicationSummary.ProcessingStatus status);
     
@@ -32,21 +37,160 @@ public interface ApplicationSummaryRepository extends JpaRepository<ApplicationS
            "ORDER BY a.createdAt")
     List<Long> findPendingTaskIds(@Param("status") ApplicationSummary.ProcessingStatus status, org.springframework.data.domain.Pageable pageable);
     
+    // 배치 작업 선점용 - 다른 인스턴스가 잠근 행은 건너뛰고 PENDING 작업 ID를 잠금 (트랜잭션 내에서 호출)
+    @Query(value = "SELECT id FROM application_summary " +
+                   "WHERE processing_status = 'PENDING' " +
+                   "ORDER BY created_at " +
+                   "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockPendingTaskIds(@Param("limit") int limit);
+    
+    // 잠근 작업들을 PROCESSING으로 전환하고 워커 ID와 선점 만료 시간 기록 (버전 증가)
+    // 일괄 UPDATE는 JPA Auditing을 거치지 않으므로 상태를 바꾸는 쿼리마다 updated_at을 직접 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ApplicationSummary a SET a.processingStatus = :processing, " +
+           "a.workerId = :workerId, a.processingStartedAt = :startedAt, a.leaseExpiresAt = :leaseExpiresAt, " +
+           "a.updatedAt = :startedAt, a.version = a.version + 1 " +
+           "WHERE a.id IN :ids AND a.processingStatus = :pending")
+    int claimTasks(@Param("ids") List<Long> ids,
+                   @Param("workerId") String workerId,
+                   @Param("startedAt") LocalDateTime startedAt,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                   @Param("pending") ApplicationSummary.ProcessingStatus pending,
+                   @Param("processing") ApplicationSummary.ProcessingStatus processing);
+    
     // ID 기반으로 필요한 연관 데이터와 함께 조회
-    @Query("SELECT DISTINCT a FROM ApplicationSummary a " +
+    @Query("SELECT a FROM ApplicationSummary a " +
            "LEFT JOIN FETCH a.webhookApplication w " +
-           "LEFT JOIN FETCH a.items " +
            "WHERE a.id IN :ids " +
            "ORDER BY a.createdAt")
     List<ApplicationSummary> findByIdsWithAssociations(@Param("ids") List<Long> ids);
     
-    // 실패한 작업 중 재시도 가능한 것들 조회
-    @Query("SELECT a FROM ApplicationSummary a WHERE a.processingStatus = 'FAILED' AND a.retryCount < 3 AND a.processingCompletedAt < :retryAfter ORDER BY a.processingCompletedAt ASC")
-    List<ApplicationSummary> findRetryableFailed(@Param("retryAfter") LocalDateTime retryAfter);
+    // 선점한 작업의 요약 결과 반영 (UPDATE 한 번, 버전/소유자가 그대로일 때만)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ApplicationSummary a SET a.summary = :summary, a.processingStatus = :completed, " +
+           "a.promptTemplateVersion = :templateVersion, a.processingCompletedAt = :completedAt, " +
+           "a.errorMessage = NULL, a.leaseExpiresAt = NULL, a.updatedAt = :completedAt, a.version = a.version + 1 " +
+           "WHERE a.id = :id AND a.version = :version AND a.workerId = :workerId AND a.processingStatus = :processing")
+    int completeClaimed(@Param("id") Long id,
+                        @Param("version") Long version,
+                        @Param("workerId") String workerId,
+                        @Param("summary") SummaryDocument summary,
+                        @Param("templateVersion") String templateVersion,
+                        @Param("completedAt") LocalDateTime completedAt,
+                        @Param("completed") ApplicationSummary.ProcessingStatus completed,
+                        @Param("processing") ApplicationSummary.ProcessingStatus processing);
+    
+    // 이전 Key-Value 테이블(application_summary_items)이 남아 있는지 확인
+    @Query(value = "SELECT to_regclass('application_summary_items') IS NOT NULL", nativeQuery = true)
+    boolean legacyItemsTableExists();
+    
+    // 아직 이관하지 않은 요약 ID와 질문별 요약 원문 (한 번에 최대 :limit 건, 원문이 없으면 null)
+    @Query(value = "SELECT a.id, i.item_value FROM (SELECT a2.id FROM application_summary a2 WHERE a2.summary IS NULL " +
+                   "  AND EXISTS (SELECT 1 FROM application_summary_items i2 WHERE i2.summary_id = a2.id) " +
+                   "  ORDER BY a2.id LIMIT :limit) a " +
+                   "LEFT JOIN application_summary_items i ON i.summary_id = a.id AND i.item_key = 'questionSummaries' " +
+                   "ORDER BY a.id", nativeQuery = true)
+    List<Object[]> findLegacyQuestionSummaries(@Param("limit") int limit);
+    
+    // 이전 Key-Value 결과를 jsonb 문서로 이관 (문서가 없는 :ids 행만)
+    // 질문별 요약 원문이 JSON 배열이 아닌 행(:malformedIds)은 캐스팅하지 않고 빈 배열로 이관
+    // 점수는 int 범위를 넘지 않는 정수(9자리 이하)만 캐스팅 (넘치는 값이 단위 전체를 실패시키지 않도록)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE application_summary a SET summary = jsonb_build_object(" +
+                   "  'scoreOutOf100', COALESCE((SELECT CASE WHEN i.item_value ~ '^-?[0-9]{1,9}$' THEN i.item_value::int END " +
+                   "      FROM application_summary_items i WHERE i.summary_id = a.id AND i.item_key = 'scoreOutOf100'), 0), " +
+                   "  'scoreReason', COALESCE((SELECT i.item_value FROM application_summary_items i " +
+                   "      WHERE i.summary_id = a.id AND i.item_key = 'scoreReason'), ''), " +
+                   "  'questionSummaries', CASE WHEN a.id IN (:malformedIds) THEN '[]'::jsonb " +
+                   "      ELSE COALESCE((SELECT i.item_value::jsonb FROM application_summary_items i " +
+                   "      WHERE i.summary_id = a.id AND i.item_key = 'questionSummaries'), '[]'::jsonb) END) " +
+                   "WHERE a.id IN (:ids) AND a.summary IS NULL", nativeQuery = true)
+    int migrateLegacyItems(@Param("ids") List<Long> ids, @Param("malformedIds") List<Long> malformedIds);
+    
+    // 재시도 시각이 된 실패 작업을 PENDING으로 전환 (한 번에 최대 :limit 건, 다른 인스턴스가 잠근 행은 건너뜀)
+    // next_attempt_at이 없는 행은 백오프 도입 전에 실패한 작업
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE application_summary SET processing_status = 'PENDING', error_message = NULL, " +
+                   "  next_attempt_at = NULL, updated_at = :now, version = version + 1 " +
+                   "WHERE id IN (SELECT id FROM application_summary " +
+                   "  WHERE processing_status = 'FAILED' AND retry_count < :maxAttempts " +
+                   "  AND (next_attempt_at <= :now OR next_attempt_at IS NULL) " +
+                   "  ORDER BY next_attempt_at NULLS FIRST LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int requeueDueFailed(@Param("now") LocalDateTime now,
+                         @Param("maxAttempts") int maxAttempts,
+                         @Param("limit") int limit);
+    
+    // 처리 중인 작업의 선점 연장 (하트비트)
+    // 버전은 올리지 않음 - 워커가 들고 있는 버전으로 결과를 반영할 수 있어야 함
+    @Transactional
+    @Modifying
+    @Query("UPDATE ApplicationSummary a SET a.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE a.id IN :ids AND a.workerId = :workerId AND a.processingStatus = :processing")
+    int extendLeases(@Param("ids") Collection<Long> ids,
+                     @Param("workerId") String workerId,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                     @Param("processing") ApplicationSummary.ProcessingStatus processing);
+    
+    // 선점이 만료된 처리 중 작업 회수 (선점 정보가 없으면 처리 시작 기준)
+    // 재시도 횟수가 남았으면 바로 PENDING으로, 다 썼으면 FAILED로 전환
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE application_summary SET " +
+                   "  processing_status = CASE WHEN retry_count + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, " +
+                   "  processing_completed_at = CASE WHEN retry_count + 1 >= :maxAttempts THEN CAST(:now AS timestamp) END, " +
+                   "  error_message = :errorMessage, worker_id = NULL, processing_started_at = NULL, " +
+                   "  lease_expires_at = NULL, next_attempt_at = NULL, updated_at = :now, " +
+                   "  retry_count = retry_count + 1, version = version + 1 " +
+                   "WHERE processing_status = 'PROCESSING' " +
+                   "  AND (lease_expires_at < :now OR (lease_expires_at IS NULL AND processing_started_at < :timeoutThreshold))",
+           nativeQuery = true)
+    int recoverExpiredLeases(@Param("now") LocalDateTime now,
+                             @Param("timeoutThreshold") LocalDateTime timeoutThreshold,
+                             @Param("maxAttempts") int maxAttempts,
+                             @Param("errorMessage") String errorMessage);
+    
+    // 특정 접두사로 작업을 선점 중인 소유자 목록 (Batch API 제출분 조회)
+    @Query("SELECT DISTINCT a.workerId FROM ApplicationSummary a WHERE a.processingStatus = :processing AND a.workerId LIKE :prefix")
+    List<String> findClaimOwnersLike(@Param("prefix") String prefix,
+                                     @Param("processing") ApplicationSummary.ProcessingStatus processing);
+    
+    // 선점 소유자 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ApplicationSummary a SET a.workerId = :newWorkerId, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.workerId = :workerId AND a.processingStatus = :processing")
+    int reassignClaims(@Param("workerId") String workerId,
+                       @Param("newWorkerId") String newWorkerId,
+                       @Param("now") LocalDateTime now,
+                       @Param("processing") ApplicationSummary.ProcessingStatus processing);
+    
+    // 선점 해제 (다시 PENDING으로)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ApplicationSummary a SET a.processingStatus = :pending, a.workerId = NULL, " +
+           "a.processingStartedAt = NULL, a.leaseExpiresAt = NULL, a.updatedAt = :now, a.version = a.version + 1 " +
+           "WHERE a.workerId = :workerId AND a.processingStatus = :processing")
+    int releaseClaims(@Param("workerId") String workerId,
+                      @Param("now") LocalDateTime now,
+                      @Param("pending") ApplicationSummary.ProcessingStatus pending,
+                      @Param("processing") ApplicationSummary.ProcessingStatus processing);
     
-    // 처리 중인 작업 중 타임아웃된 것들 조회 (5분 이상 처리 중)
-    @Query("SELECT a FROM ApplicationSummary a WHERE a.processingStatus = 'PROCESSING' AND a.processingStartedAt < :timeoutThreshold")
-    List<ApplicationSummary> findTimedOutProcessing(@Param("timeoutThreshold") LocalDateTime timeoutThreshold);
+    // 선점 중인 작업 일괄 실패 처리
+    // 다음 시도 시각은 행마다 계산 (RetryBackoffPolicy와 같은 식: 상한 = 기본 대기 × 2^retry_count, 상한의 절반 + 무작위 지터)
+    // 식을 바꾸면 RetryBackoffPolicy.backoff도 함께 바꿀 것 (ApplicationSummaryRepositoryTest가 정책의 범위와 비교함)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE application_summary SET processing_status = 'FAILED', error_message = :errorMessage, " +
+                   "  processing_completed_at = :completedAt, lease_expires_at = NULL, updated_at = :completedAt, " +
+                   "  next_attempt_at = CAST(:completedAt AS timestamp) + make_interval(secs => " +
+                   "    LEAST(:maxDelaySeconds, :baseDelaySeconds * power(2, LEAST(retry_count, 30))) * (0.5 + random() * 0.5)), " +
+                   "  retry_count = retry_count + 1, version = version + 1 " +
+                   "WHERE worker_id = :workerId AND processing_status = 'PROCESSING'", nativeQuery = true)
+    int failClaims(@Param("workerId") String workerId,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("completedAt") LocalDateTime completedAt,
+                   @Param("baseDelaySeconds") long baseDelaySeconds,
+                   @Param("maxDelaySeconds") long maxDelaySeconds);
     
     // 통계 조회
     @Query("SELECT a.processingStatus, COUNT(a) FROM ApplicationSummary a GROUP BY a.processingStatus")
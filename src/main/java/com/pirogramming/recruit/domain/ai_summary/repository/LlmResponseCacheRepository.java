@@ -0,0 +1,34 @@
+package com.pirogramming.recruit.domain.ai_summary.repository;
+
+import com.pirogramming.recruit.domain.ai_summary.entity.LlmResponseCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCache, Long> {
+
+    Optional<LlmResponseCache> findByPromptHashAndTemplateVersion(String promptHash, String templateVersion);
+
+    // 적중 기록
+    @Modifying
+    @Query("UPDATE LlmResponseCache c SET c.hitCount = c.hitCount + 1, c.lastHitAt = :hitAt WHERE c.id = :id")
+    int recordHit(@Param("id") Long id, @Param("hitAt") LocalDateTime hitAt);
+
+    // 보관 기간 동안 사용되지 않은 응답 정리 (마지막 적중 시각, 적중이 없으면 저장 시각 기준)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LlmResponseCache c WHERE COALESCE(c.lastHitAt, c.createdAt) < :threshold")
+    int deleteLastUsedBefore(@Param("threshold") LocalDateTime threshold);
+
+    // 누적 적중 / 저장된 토큰 합계 (절감량 모니터링용)
+    @Query("SELECT COALESCE(SUM(c.hitCount), 0) FROM LlmResponseCache c")
+    long sumHitCount();
+
+    @Query("SELECT COALESCE(SUM(c.hitCount * (c.promptTokens + c.completionTokens)), 0) FROM LlmResponseCache c")
+    long sumSavedTokens();
+}
@@ -2,14 +2,10 @@ package com.pirogramming.recruit.domain.ai_summary.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
@@ -25,7 +21,8 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * AI 요약 배치 처리 서비스
- * 대기열의 PENDING 작업들을 주기적으로 처리하여 40개 동시 처리 목표 달성
+ * PENDING 작업은 생성 즉시 AiSummaryDispatcher가 처리하며,
+ * 주기적 배치는 누락된 작업을 위한 안전망 / 재시도 / 타임아웃 복구를 담당
  */
 @Slf4j
 @Service
@@ -33,24 +30,47 @@ import lombok.extern.slf4j.Slf4j;
 public class AiBatchProcessingService {
     
     private final ApplicationSummaryRepository summaryRepository;
-    private final ApplicationSummaryService summaryService;
+    private final AiSummaryDispatcher dispatcher;
     private final GoogleFormRepository googleFormRepository;
+    private final BulkSummaryService bulkSummaryService;
+    private final RetryBackoffPolicy retryBackoffPolicy;
+    
+    // 안전망 / 재시도 / 선점 회수 작업이 서로 밀리지 않도록 작업 수만큼 스레드 사용
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(3);
     
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-    private final ScheduledExecutorService batchProcessor = Executors.newScheduledThreadPool(10); // 배치 처리 스레드풀
+    // Batch API 업로드/결과 파일 읽기는 수 분까지 블로킹될 수 있으므로 별도 스레드에서 실행
+    private final ScheduledExecutorService bulkScheduler = Executors.newSingleThreadScheduledExecutor();
     
     // 설정값들
     @Value("${ai.batch.processing.enabled:true}")
     private boolean batchProcessingEnabled;
     
-    @Value("${ai.batch.processing.interval:5}")
+    @Value("${ai.batch.processing.interval:30}")
     private int processingIntervalSeconds;
     
     @Value("${ai.batch.size:8}")
     private int batchSize;
     
-    @Value("${ai.batch.retry.delay:300}")
-    private int retryDelaySeconds;
+    // 재시도 시각이 된 실패 작업 확인 주기 / 한 번에 재대기열에 넣을 최대 작업 수
+    @Value("${ai.batch.processing.retry.poll-interval:30}")
+    private int retryPollIntervalSeconds;
+    
+    @Value("${ai.batch.processing.retry.page-size:20}")
+    private int retryPageSize;
+    
+    // 선점 만료 작업 회수 주기
+    @Value("${ai.batch.lease.recovery-interval:15}")
+    private int leaseRecoveryIntervalSeconds;
+    
+    // Batch API 대량 처리 (대기 작업이 많을 때만 사용)
+    @Value("${ai.batch.bulk.enabled:false}")
+    private boolean bulkEnabled;
+    
+    @Value("${ai.batch.bulk.min-pending:100}")
+    private int bulkMinPending;
+    
+    @Value("${ai.batch.bulk.poll-interval:60}")
+    private int bulkPollIntervalSeconds;
     
     /**
      * 애플리케이션 시작 시 배치 처리 스케줄러 시작
@@ -63,10 +83,10 @@ public class AiBatchProcessingService {
         }
         
         log.info("Starting AI batch processing service...");
-        log.info("Batch size: {}, Processing interval: {}s, Retry delay: {}s", 
-            batchSize, processingIntervalSeconds, retryDelaySeconds);
+        log.info("Worker ID: {}, Batch size: {}, Safety-net interval: {}s, Retry poll: {}s (max {} per poll)", 
+            dispatcher.getWorkerId(), batchSize, processingIntervalSeconds, retryPollIntervalSeconds, retryPageSize);
         
-        // 주요 배치 처리 스케줄러 (PENDING 작업 처리)
+        // 안전망 스케줄러 (이벤트로 처리되지 못한 PENDING 작업 처리)
         scheduler.scheduleAtFixedRate(
             this::processPendingBatch,
             10, // 10초 후 시작
@@ -74,85 +94,83 @@ public class AiBatchProcessingService {
             TimeUnit.SECONDS
         );
         
-        // 실패 작업 재시도 스케줄러
-        scheduler.scheduleAtFixedRate(
+        // 실패 작업 재시도 스케줄러 (재시도 시각은 작업마다 백오프로 정해지므로 짧은 주기로 확인)
+        scheduler.scheduleWithFixedDelay(
             this::processFailedRetries,
             60, // 1분 후 시작
-            retryDelaySeconds,
+            retryPollIntervalSeconds,
             TimeUnit.SECONDS
         );
         
-        // 타임아웃된 작업 복구 스케줄러
-        scheduler.scheduleAtFixedRate(
+        // 선점 만료 작업 회수 스케줄러 (처리 중 작업은 하트비트로 연장되므로 만료 = 워커 중단)
+        scheduler.scheduleWithFixedDelay(
             this::recoverTimedOutTasks,
             30, // 30초 후 시작
-            120, // 2분마다
+            leaseRecoveryIntervalSeconds,
+            TimeUnit.SECONDS
+        );
+        
+        // Batch API 제출 / 결과 수집 스케줄러 (제출한 배치는 비활성화 여부와 관계없이 수집)
+        bulkScheduler.scheduleWithFixedDelay(
+            this::processBulkBacklog,
+            20, // 20초 후 시작
+            bulkPollIntervalSeconds,
             TimeUnit.SECONDS
         );
     }
     
     /**
-     * PENDING 상태 작업들을 배치로 처리
+     * 제출된 배치 결과 수집 후, 대기 작업이 기준 이상 쌓여 있으면 Batch API로 제출
      */
-    public void processPendingBatch() {
+    public void processBulkBacklog() {
         try {
-            // 활성화된 구글 폼이 없으면 스킵 (리쿠르팅 기간이 아님)
-            if (!googleFormRepository.existsByStatus(FormStatus.ACTIVE)) {
-                log.debug("No active Google Form found, skipping AI batch processing");
-                return;
-            }
-            // 1단계: ID만 먼저 조회하여 페이징 적용 (성능 최적화)
-            PageRequest pageRequest = PageRequest.of(0, batchSize, Sort.by("createdAt").ascending());
-            List<Long> pendingTaskIds = summaryRepository
-                .findPendingTaskIds(ApplicationSummary.ProcessingStatus.PENDING, pageRequest);
+            bulkSummaryService.pollSubmittedBatches();
             
-            if (pendingTaskIds.isEmpty()) {
-                log.debug("No pending AI summary tasks found");
+            if (!bulkEnabled) {
                 return;
             }
             
-            // 2단계: 필요한 연관 데이터와 함께 조회
-            List<ApplicationSummary> pendingTasks = summaryRepository
-                .findByIdsWithAssociations(pendingTaskIds);
-            
-            log.info("Processing {} pending AI summary tasks", pendingTasks.size());
-            
-            // 각 작업을 비동기로 처리 (OpenAI API Semaphore가 동시성 제어)
-            List<CompletableFuture<Void>> futures = pendingTasks.stream()
-                .map(this::processTaskAsync)
-                .toList();
-            
-            // 모든 작업 완료 대기 (최대 60초)
-            CompletableFuture<Void> allTasks = CompletableFuture.allOf(
-                futures.toArray(new CompletableFuture[0]));
-            
-            try {
-                allTasks.get(60, TimeUnit.SECONDS);
-                log.info("Completed processing {} AI summary tasks", pendingTasks.size());
-            } catch (java.util.concurrent.TimeoutException e) {
-                log.warn("Batch processing timed out after 60 seconds. Some tasks may still be running.");
+            long pending = summaryRepository.countByProcessingStatus(ApplicationSummary.ProcessingStatus.PENDING);
+            if (pending >= bulkMinPending) {
+                log.info("{} pending AI summaries (threshold {}), submitting to Batch API", pending, bulkMinPending);
+                bulkSummaryService.submitPending();
             }
-            
         } catch (Exception e) {
-            log.error("Error in pending batch processing", e);
+            log.error("Error in bulk summary processing", e);
         }
     }
     
     /**
-     * 개별 작업을 비동기로 처리
+     * 대기 작업 즉시 Batch API 제출 (수동 트리거용)
+     */
+    public int triggerBulkSubmission() {
+        log.info("Manually triggering Batch API submission");
+        return bulkSummaryService.submitPending();
+    }
+    
+    /**
+     * 남아 있는 PENDING 작업 처리 (안전망)
+     * 실제 선점/실행은 디스패처가 비어 있는 슬롯만큼 수행하므로 호출 스레드를 막지 않음
      */
-    private CompletableFuture<Void> processTaskAsync(ApplicationSummary summary) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                summaryService.processAiSummary(summary);
-            } catch (Exception e) {
-                log.error("Failed to process AI summary task ID: {}", summary.getId(), e);
+    public void processPendingBatch() {
+        try {
+            // 활성화된 구글 폼이 없으면 스킵 (리쿠르팅 기간이 아님)
+            if (!googleFormRepository.existsByStatus(FormStatus.ACTIVE)) {
+                log.debug("No active Google Form found, skipping AI batch processing");
+                return;
             }
-        }, batchProcessor);
+            
+            dispatcher.requestDispatch();
+            
+        } catch (Exception e) {
+            log.error("Error in pending batch processing", e);
+        }
     }
     
     /**
-     * 실패한 작업들 재시도 처리
+     * 재시도 시각이 된 실패 작업 재시도 처리
+     * UPDATE 한 번으로 최대 page-size 건만 PENDING으로 되돌림 - 장애 복구 직후에도
+     * 재시도 시각이 지터로 흩어져 있고 주기당 처리량이 제한되어 한꺼번에 몰리지 않음
      */
     public void processFailedRetries() {
         try {
@@ -161,23 +179,16 @@ public class AiBatchProcessingService {
                 log.debug("No active Google Form found, skipping retry processing");
                 return;
             }
-            LocalDateTime retryThreshold = LocalDateTime.now().minusSeconds(retryDelaySeconds);
-            List<ApplicationSummary> retryableTasks = summaryRepository
-                .findRetryableFailed(retryThreshold);
+            int requeued = summaryRepository.requeueDueFailed(
+                LocalDateTime.now(), retryBackoffPolicy.getMaxAttempts(), retryPageSize);
             
-            if (retryableTasks.isEmpty()) {
-                log.debug("No retryable failed tasks found");
+            if (requeued == 0) {
+                log.debug("No retryable failed tasks due");
                 return;
             }
             
-            log.info("Retrying {} failed AI summary tasks", retryableTasks.size());
-            
-            for (ApplicationSummary task : retryableTasks) {
-                // 다시 PENDING 상태로 변경하여 재처리 대상에 포함
-                task.setProcessingStatus(ApplicationSummary.ProcessingStatus.PENDING);
-                task.setErrorMessage(null);
-                summaryRepository.save(task);
-            }
+            log.info("Retrying {} failed AI summary tasks", requeued);
+            dispatcher.requestDispatch();
             
         } catch (Exception e) {
             log.error("Error in retry processing", e);
@@ -185,7 +196,8 @@ public class AiBatchProcessingService {
     }
     
     /**
-     * 타임아웃된 작업들 복구 (5분 이상 PROCESSING 상태인 작업들)
+     * 선점 만료된 PROCESSING 작업 회수 (선점 정보가 없으면 5분 이상 처리 중인 작업)
+     * UPDATE 한 번으로 처리하므로 회수 대상 수와 관계없이 비용이 일정
      */
     public void recoverTimedOutTasks() {
         try {
@@ -194,21 +206,17 @@ public class AiBatchProcessingService {
                 log.debug("No active Google Form found, skipping timeout recovery");
                 return;
             }
-            LocalDateTime timeoutThreshold = LocalDateTime.now().minusMinutes(5);
-            List<ApplicationSummary> timedOutTasks = summaryRepository
-                .findTimedOutProcessing(timeoutThreshold);
+            LocalDateTime now = LocalDateTime.now();
+            int recovered = summaryRepository.recoverExpiredLeases(now, now.minusMinutes(5),
+                retryBackoffPolicy.getMaxAttempts(), "Processing lease expired (워커 응답 없음)");
             
-            if (timedOutTasks.isEmpty()) {
-                log.debug("No timed out tasks found");
+            if (recovered == 0) {
+                log.debug("No expired leases found");
                 return;
             }
             
-            log.warn("Recovering {} timed out AI summary tasks", timedOutTasks.size());
-            
-            for (ApplicationSummary task : timedOutTasks) {
-                task.markAsFailed("Processing timeout (5분 초과)");
-                summaryRepository.save(task);
-            }
+            log.warn("Recovered {} AI summary tasks with expired leases", recovered);
+            dispatcher.requestDispatch();
             
         } catch (Exception e) {
             log.error("Error in timeout recovery", e);
@@ -220,7 +228,7 @@ public class AiBatchProcessingService {
      */
     public void triggerImmediateBatch() {
         log.info("Manually triggering immediate batch processing");
-        CompletableFuture.runAsync(this::processPendingBatch);
+        dispatcher.requestDispatch();
     }
     
     /**
@@ -247,7 +255,8 @@ public class AiBatchProcessingService {
         }
         
         return new BatchProcessingStats(pending, processing, completed, failed, 
-            batchProcessingEnabled, batchSize, processingIntervalSeconds);
+            batchProcessingEnabled, batchSize, processingIntervalSeconds,
+            dispatcher.getActiveTasks(), dispatcher.getMaxConcurrency());
     }
     
     /**
@@ -256,20 +265,22 @@ public class AiBatchProcessingService {
     public void shutdown() {
         log.info("Shutting down AI batch processing service");
         scheduler.shutdown();
-        batchProcessor.shutdown();
+        bulkScheduler.shutdown();
         
         try {
             if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
                 scheduler.shutdownNow();
             }
-            if (!batchProcessor.awaitTermination(30, TimeUnit.SECONDS)) {
-                batchProcessor.shutdownNow();
+            if (!bulkScheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                bulkScheduler.shutdownNow();
             }
         } catch (InterruptedException e) {
             scheduler.shutdownNow();
-            batchProcessor.shutdownNow();
+            bulkScheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        
+        dispatcher.shutdown();
     }
     
     /**
@@ -283,11 +294,14 @@ public class AiBatchProcessingService {
         public final boolean enabled;
         public final int batchSize;
         public final int intervalSeconds;
+        public final int activeTasks;
+        public final int maxConcurrency;
         public final long totalTasks;
         public final double completionRate;
         
         public BatchProcessingStats(long pending, long processing, long completed, long failed,
-                                  boolean enabled, int batchSize, int intervalSeconds) {
+                                  boolean enabled, int batchSize, int intervalSeconds,
+                                  int activeTasks, int maxConcurrency) {
             this.pendingTasks = pending;
             this.processingTasks = processing;
             this.completedTasks = completed;
@@ -295,6 +309,8 @@ public class AiBatchProcessingService {
             this.enabled = enabled;
             this.batchSize = batchSize;
             this.intervalSeconds = intervalSeconds;
+            this.activeTasks = activeTasks;
+            this.maxConcurrency = maxConcurrency;
             this.totalTasks = pending + processing + completed + failed;
             this.completionRate = totalTasks > 0 ? (double) completed / totalTasks * 100 : 0;
         }
@@ -0,0 +1,256 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.event.ApplicationSummaryCreatedEvent;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmPriority;
+import com.pirogramming.recruit.domain.ai_summary.repository.ApplicationSummaryRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 요약 작업 디스패처
+ * 요약 생성 이벤트(커밋 이후)나 작업 완료 시점에 비어 있는 처리 슬롯만큼 PENDING 작업을 즉시 선점하여 실행
+ * 주기적 배치 처리는 누락된 작업을 위한 안전망으로만 동작
+ * 선점은 짧게 잡고 처리 중인 작업은 하트비트로 연장 (인스턴스가 중단되면 선점이 곧 만료되어 회수됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiSummaryDispatcher {
+
+    private final ApplicationSummaryService summaryService;
+    private final ApplicationSummaryRepository summaryRepository;
+
+    // 인스턴스 식별자 (작업 선점 시 기록, 다중 인스턴스 환경에서 소유자 구분)
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    // 디스패치 요청 신호 / 디스패치 루프 실행 여부
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean(false);
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+    @Value("${ai.batch.processing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.batch.size:8}")
+    private int batchSize;
+
+    @Value("${ai.batch.lease.seconds:60}")
+    private int leaseSeconds;
+
+    @Value("${ai.batch.lease.heartbeat-interval:20}")
+    private int heartbeatIntervalSeconds;
+
+    @Value("${ai.batch.dispatch.max-concurrency:8}")
+    private int maxConcurrency;
+
+    // 이 인스턴스가 처리 중인 작업 ID (하트비트 대상)
+    private final Set<Long> inFlightIds = ConcurrentHashMap.newKeySet();
+
+    private Semaphore slots;
+    private ExecutorService taskExecutor;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @PostConstruct
+    void init() {
+        this.slots = new Semaphore(maxConcurrency);
+        // 동시 처리 슬롯 + 디스패치 루프 1개
+        this.taskExecutor = Executors.newFixedThreadPool(maxConcurrency + 1);
+        // 하트비트는 배치 스케줄러와 분리 (다른 주기 작업이 오래 걸려도 선점 연장이 밀리지 않음)
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+        int heartbeatSeconds = Math.max(1, Math.min(heartbeatIntervalSeconds, leaseSeconds / 2));
+        heartbeatScheduler.scheduleWithFixedDelay(this::renewLeases, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        log.info("AI summary dispatcher initialized. Worker ID: {}, Max concurrency: {}, Lease: {}s (heartbeat {}s)",
+            workerId, maxConcurrency, leaseSeconds, heartbeatSeconds);
+    }
+
+    /**
+     * PENDING 요약이 커밋된 직후 처리 시작
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSummaryCreated(ApplicationSummaryCreatedEvent event) {
+        log.debug("AI summary created event received - summaryId: {}", event.getSummaryId());
+        requestDispatch();
+    }
+
+    /**
+     * 디스패치 요청 (호출 스레드를 막지 않고 별도 스레드에서 선점/실행)
+     */
+    public void requestDispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        dispatchRequested.set(true);
+        if (!dispatching.compareAndSet(false, true)) {
+            return; // 이미 실행 중인 디스패치 루프가 신호를 처리함
+        }
+
+        try {
+            taskExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            dispatching.set(false);
+            log.warn("AI summary dispatch rejected (executor shutting down)");
+        }
+    }
+
+    private void drain() {
+        try {
+            while (dispatchRequested.getAndSet(false)) {
+                dispatchAvailable();
+            }
+        } catch (Exception e) {
+            log.error("Error in AI summary dispatch", e);
+        } finally {
+            dispatching.set(false);
+        }
+
+        // 루프 종료 직후 들어온 신호 처리
+        if (dispatchRequested.get()) {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * 비어 있는 슬롯만큼 작업을 선점하여 실행
+     */
+    private void dispatchAvailable() {
+        int acquired = acquireSlots(Math.min(batchSize, maxConcurrency));
+        if (acquired == 0) {
+            return;
+        }
+
+        List<ApplicationSummary> tasks;
+        try {
+            List<Long> claimedIds = summaryService.claimPendingBatch(workerId, acquired, Duration.ofSeconds(leaseSeconds));
+            tasks = claimedIds.isEmpty() ? List.of() : summaryRepository.findByIdsWithAssociations(claimedIds);
+
+            // 슬롯을 모두 채웠다면 남은 작업이 더 있을 수 있으므로 한 번 더 선점 시도
+            if (claimedIds.size() == acquired) {
+                dispatchRequested.set(true);
+            }
+        } catch (Exception e) {
+            slots.release(acquired);
+            throw e;
+        }
+
+        slots.release(acquired - tasks.size());
+        if (tasks.isEmpty()) {
+            return;
+        }
+        tasks.forEach(task -> inFlightIds.add(task.getId()));
+
+        // 짧은 지원서는 묶어서 한 번에 호출 (그룹이 작업 수만큼의 슬롯을 사용)
+        List<List<ApplicationSummary>> groups = summaryService.groupForCoalescing(tasks);
+        log.info("Dispatching {} AI summary tasks in {} calls", tasks.size(), groups.size());
+        for (List<ApplicationSummary> group : groups) {
+            try {
+                taskExecutor.execute(() -> runGroup(group));
+            } catch (RejectedExecutionException e) {
+                slots.release(group.size());
+                group.forEach(task -> inFlightIds.remove(task.getId()));
+                log.warn("AI summary tasks rejected - IDs: {} (lease 만료 후 복구됨)",
+                    group.stream().map(ApplicationSummary::getId).toList());
+            }
+        }
+    }
+
+    private int acquireSlots(int max) {
+        int acquired = 0;
+        while (acquired < max && slots.tryAcquire()) {
+            acquired++;
+        }
+        return acquired;
+    }
+
+    private void runGroup(List<ApplicationSummary> group) {
+        try {
+            // 대기 작업 처리는 BACKLOG 레인으로 호출 (사용자 요청이 뒤에서 기다리지 않도록)
+            LlmPriority.runAs(LlmPriority.Lane.BACKLOG, () -> {
+                if (group.size() == 1) {
+                    summaryService.processAiSummary(group.get(0), workerId);
+                } else {
+                    summaryService.processCoalescedSummaries(group, workerId);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to process AI summary task IDs: {}", group.stream().map(ApplicationSummary::getId).toList(), e);
+        } finally {
+            group.forEach(task -> inFlightIds.remove(task.getId()));
+            slots.release(group.size());
+            // 슬롯이 비었으므로 다음 대기 작업을 바로 선점
+            requestDispatch();
+        }
+    }
+
+    /**
+     * 처리 중인 작업의 선점 연장 (처리 중인 작업 수와 관계없이 UPDATE 한 번)
+     * 연장에 실패해도 다음 하트비트에서 다시 시도하며, 그 사이 만료되면 회수된 작업의 결과는 버전 검사로 반영되지 않음
+     */
+    void renewLeases() {
+        if (inFlightIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> ids = List.copyOf(inFlightIds);
+            int renewed = summaryRepository.extendLeases(ids, workerId,
+                LocalDateTime.now().plusSeconds(leaseSeconds), ApplicationSummary.ProcessingStatus.PROCESSING);
+            if (renewed < ids.size()) {
+                log.debug("Renewed {} of {} in-flight AI summary leases (others completed or recovered)", renewed, ids.size());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew AI summary leases for worker {}", workerId, e);
+        }
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public int getActiveTasks() {
+        return maxConcurrency - slots.availablePermits();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 디스패처 종료
+     */
+    public void shutdown() {
+        taskExecutor.shutdown();
+        try {
+            if (!taskExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                taskExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            taskExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 남은 작업이 끝날 때까지 선점을 연장한 뒤 하트비트 종료
+        heartbeatScheduler.shutdownNow();
+    }
+}
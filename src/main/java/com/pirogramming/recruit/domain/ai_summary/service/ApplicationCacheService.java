@@ -1,162 +1,324 @@
 package com.pirogramming.recruit.domain.ai_summary.service;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.util.ContentHashUtil;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * AI 요약 결과 캐싱 서비스
- * 동일한 질문 패턴에 대한 중복 API 호출 방지
+ * 프롬프트 템플릿 버전 + 정규화한 질문/답변 내용의 SHA-256을 키로 사용하여 동일한 지원서 재제출/재시도 시 API 호출 방지
+ * (템플릿이 바뀌거나 단건/묶음 템플릿처럼 다른 템플릿으로 만든 결과는 서로 다른 키)
+ * 세그먼트 LRU (probation / protected) - 조회, 저장, 제거 모두 O(1)
+ * - 새 항목은 probation 구간에 들어가고, 다시 조회되면 protected 구간으로 승격
+ * - 한 번만 조회된 항목이 자주 조회되는 항목을 밀어내지 않도록 probation 구간부터 제거
  */
 @Slf4j
 @Service
 public class ApplicationCacheService {
-    
-    private final Map<String, CachedSummary> cache = new ConcurrentHashMap<>();
-    private static final int MAX_CACHE_SIZE = 1000;
-    private static final int CACHE_EXPIRE_HOURS = 24;
-    
+
+    // 전체 용량 중 protected 구간 비율
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private static final Pattern QUESTION_NUMBER = Pattern.compile("\\d+\\.");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Object lock = new Object();
+    private final Map<String, Node> entries = new HashMap<>();
+    private final Segment probation = new Segment();
+    private final Segment protectedSegment = new Segment();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Value("${ai.cache.max-size:1000}")
+    private int maxSize;
+
+    @Value("${ai.cache.ttl-hours:24}")
+    private long ttlHours;
+
     /**
      * 캐시된 요약 조회
      */
-    public ApplicationSummaryDto getCachedSummary(List<ApplicationQuestionDto> questions) {
-        String cacheKey = generateCacheKey(questions);
-        CachedSummary cached = cache.get(cacheKey);
-        
-        if (cached != null && !isExpired(cached)) {
-            log.info("Cache hit for questions pattern: {}", cacheKey.substring(0, Math.min(20, cacheKey.length())));
-            return cached.summary;
-        }
-        
-        // 만료된 캐시 제거
-        if (cached != null && isExpired(cached)) {
-            cache.remove(cacheKey);
-        }
-        
-        return null;
+    public ApplicationSummaryDto getCachedSummary(List<ApplicationQuestionDto> questions, String templateVersion) {
+        String cacheKey = generateCacheKey(questions, templateVersion);
+        long now = System.nanoTime();
+
+        synchronized (lock) {
+            Node node = entries.get(cacheKey);
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+
+            // 만료된 캐시 제거
+            if (node.isExpired(now)) {
+                removeNode(node);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+
+            promote(node);
+            hits.increment();
+            log.info("Cache hit for content key: {}", cacheKey.substring(0, 12));
+            return node.summary;
+        }
+    }
+
+    /**
+     * 요약 결과 캐싱 (기본 TTL)
+     */
+    public void cacheSummary(List<ApplicationQuestionDto> questions, String templateVersion,
+                             ApplicationSummaryDto summary) {
+        cacheSummary(questions, templateVersion, summary, Duration.ofHours(ttlHours));
     }
-    
+
     /**
-     * 요약 결과 캐싱
+     * 요약 결과 캐싱 (항목별 TTL)
      */
-    public void cacheSummary(List<ApplicationQuestionDto> questions, ApplicationSummaryDto summary) {
-        // 캐시 크기 제한
-        if (cache.size() >= MAX_CACHE_SIZE) {
-            evictOldestEntries();
-        }
-        
-        String cacheKey = generateCacheKey(questions);
-        cache.put(cacheKey, new CachedSummary(summary, LocalDateTime.now()));
-        
-        log.debug("Cached summary for questions pattern: {}", cacheKey.substring(0, Math.min(20, cacheKey.length())));
+    public void cacheSummary(List<ApplicationQuestionDto> questions, String templateVersion,
+                             ApplicationSummaryDto summary, Duration ttl) {
+        String cacheKey = generateCacheKey(questions, templateVersion);
+        long expiresAtNanos = System.nanoTime() + ttl.toNanos();
+
+        synchronized (lock) {
+            Node node = entries.get(cacheKey);
+            if (node != null) {
+                node.summary = summary;
+                node.expiresAtNanos = expiresAtNanos;
+                promote(node);
+                return;
+            }
+
+            node = new Node(cacheKey, summary, expiresAtNanos);
+            entries.put(cacheKey, node);
+            probation.addFirst(node);
+            evictIfNeeded();
+        }
+
+        log.debug("Cached summary for content key: {}", cacheKey.substring(0, 12));
     }
-    
+
     /**
-     * 캐시 키 생성 (질문 패턴 기반)
+     * 캐시 키 생성 (템플릿 버전 + 정규화한 질문/답변 내용의 SHA-256)
      */
-    private String generateCacheKey(List<ApplicationQuestionDto> questions) {
-        if (questions == null || questions.isEmpty()) {
-            return "empty";
-        }
-        
-        StringBuilder keyBuilder = new StringBuilder();
-        
-        // 질문 수와 각 질문의 해시값 조합
-        keyBuilder.append("count:").append(questions.size()).append("|");
-        
-        for (ApplicationQuestionDto question : questions) {
-            // 질문 내용만으로 키 생성 (답변은 제외하여 유사 질문 패턴 캐싱)
-            String questionText = normalizeQuestion(question.getQuestion());
-            keyBuilder.append(questionText.hashCode()).append(",");
-        }
-        
-        return keyBuilder.toString();
+    private String generateCacheKey(List<ApplicationQuestionDto> questions, String templateVersion) {
+        List<String> fields = new ArrayList<>();
+        fields.add(templateVersion == null ? "" : templateVersion);
+        if (questions != null) {
+            for (ApplicationQuestionDto question : questions) {
+                fields.add(normalizeQuestion(question.getQuestion()));
+                fields.add(normalizeAnswer(question.getAnswer()));
+            }
+        }
+        return ContentHashUtil.sha256Hex(fields);
     }
-    
+
     /**
-     * 질문 정규화 (캐싱 효율성 향상)
+     * 질문 정규화 (번호, 대소문자, 공백 차이 무시)
      */
     private String normalizeQuestion(String question) {
         if (question == null) return "";
-        
-        return question.toLowerCase()
-            .replaceAll("[\\d]+\\.", "") // 번호 제거 (1., 2., 등)
-            .replaceAll("[\\s]+", " ") // 공백 정규화
-            .trim();
+
+        String withoutNumbers = QUESTION_NUMBER.matcher(question.toLowerCase()).replaceAll(""); // 번호 제거 (1., 2., 등)
+        return WHITESPACE.matcher(withoutNumbers).replaceAll(" ").trim(); // 공백 정규화
     }
-    
+
+    /**
+     * 답변 정규화 (내용은 그대로 두고 공백 차이만 무시)
+     */
+    private String normalizeAnswer(String answer) {
+        if (answer == null) return "";
+
+        return WHITESPACE.matcher(answer).replaceAll(" ").trim();
+    }
+
     /**
-     * 캐시 만료 검사
+     * 조회된 항목을 protected 구간 맨 앞으로 이동
      */
-    private boolean isExpired(CachedSummary cached) {
-        return cached.createdAt.isBefore(LocalDateTime.now().minusHours(CACHE_EXPIRE_HOURS));
+    private void promote(Node node) {
+        if (node.segment == protectedSegment) {
+            protectedSegment.moveToFirst(node);
+            return;
+        }
+
+        probation.remove(node);
+        protectedSegment.addFirst(node);
+
+        // protected 구간이 넘치면 가장 오래된 항목을 probation 구간으로 강등
+        int protectedCapacity = Math.max(1, (int) (maxSize * PROTECTED_RATIO));
+        if (protectedSegment.size > protectedCapacity) {
+            Node demoted = protectedSegment.removeLast();
+            probation.addFirst(demoted);
+        }
     }
-    
+
     /**
-     * 오래된 캐시 엔트리 제거 (LRU 방식)
+     * 용량 초과 시 probation 구간의 가장 오래된 항목부터 제거
      */
-    private void evictOldestEntries() {
-        int toRemove = cache.size() - MAX_CACHE_SIZE + 100; // 여유 공간 확보
-        
-        cache.entrySet().stream()
-            .sorted((e1, e2) -> e1.getValue().createdAt.compareTo(e2.getValue().createdAt))
-            .limit(toRemove)
-            .map(Map.Entry::getKey)
-            .forEach(cache::remove);
-        
-        log.info("Evicted {} old cache entries", toRemove);
+    private void evictIfNeeded() {
+        while (entries.size() > maxSize) {
+            Node victim = probation.size > 0 ? probation.removeLast() : protectedSegment.removeLast();
+            entries.remove(victim.key);
+            evictions.increment();
+        }
     }
-    
+
+    private void removeNode(Node node) {
+        node.segment.remove(node);
+        entries.remove(node.key);
+    }
+
     /**
      * 캐시 통계 조회 (모니터링용)
      */
     public CacheStats getCacheStats() {
-        long expiredCount = cache.values().stream()
-            .mapToLong(cached -> isExpired(cached) ? 1 : 0)
-            .sum();
-        
-        return new CacheStats(cache.size(), expiredCount);
+        long now = System.nanoTime();
+        synchronized (lock) {
+            long expiredCount = entries.values().stream()
+                .filter(node -> node.isExpired(now))
+                .count();
+
+            return new CacheStats(entries.size(), expiredCount, probation.size, protectedSegment.size,
+                hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+        }
     }
-    
+
     /**
      * 캐시 초기화 (필요 시)
      */
     public void clearCache() {
-        cache.clear();
+        synchronized (lock) {
+            entries.clear();
+            probation.clear();
+            protectedSegment.clear();
+        }
         log.info("Cache cleared");
     }
-    
+
     /**
-     * 캐시된 요약 데이터
+     * 캐시된 요약 데이터 (세그먼트 내 이중 연결 리스트 노드)
      */
-    private static class CachedSummary {
-        final ApplicationSummaryDto summary;
-        final LocalDateTime createdAt;
-        
-        CachedSummary(ApplicationSummaryDto summary, LocalDateTime createdAt) {
+    private static class Node {
+        final String key;
+        ApplicationSummaryDto summary;
+        long expiresAtNanos;
+
+        Segment segment;
+        Node prev;
+        Node next;
+
+        Node(String key, ApplicationSummaryDto summary, long expiresAtNanos) {
+            this.key = key;
             this.summary = summary;
-            this.createdAt = createdAt;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
         }
     }
-    
+
+    /**
+     * LRU 순서를 유지하는 이중 연결 리스트 (head = 최근, tail = 오래됨)
+     */
+    private static class Segment {
+        Node head;
+        Node tail;
+        int size;
+
+        void addFirst(Node node) {
+            node.segment = this;
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            }
+            head = node;
+            if (tail == null) {
+                tail = node;
+            }
+            size++;
+        }
+
+        void remove(Node node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.segment = null;
+            size--;
+        }
+
+        Node removeLast() {
+            Node last = tail;
+            remove(last);
+            return last;
+        }
+
+        void moveToFirst(Node node) {
+            if (head != node) {
+                remove(node);
+                addFirst(node);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
     /**
      * 캐시 통계
      */
     public static class CacheStats {
         public final int totalEntries;
         public final long expiredEntries;
-        
-        CacheStats(int totalEntries, long expiredEntries) {
+        public final int probationEntries;
+        public final int protectedEntries;
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long expirations;
+        public final double hitRate;
+
+        CacheStats(int totalEntries, long expiredEntries, int probationEntries, int protectedEntries,
+                   long hits, long misses, long evictions, long expirations) {
             this.totalEntries = totalEntries;
             this.expiredEntries = expiredEntries;
+            this.probationEntries = probationEntries;
+            this.protectedEntries = protectedEntries;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            long lookups = hits + misses;
+            this.hitRate = lookups == 0 ? 0.0 : (double) hits / lookups;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,36 @@
 package com.pirogramming.recruit.domain.ai_summary.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
 import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
 import com.pirogramming.recruit.domain.ai_summary.port.LlmClient;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmPriority;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+import com.pirogramming.recruit.domain.ai_summary.util.ContentHashUtil;
+import com.pirogramming.recruit.domain.ai_summary.util.AnswerFingerprints;
 import com.pirogramming.recruit.domain.ai_summary.util.FallbackResponseUtil;
+import com.pirogramming.recruit.domain.ai_summary.util.PromptTemplate;
+import com.pirogramming.recruit.domain.ai_summary.util.StreamingSummaryParser;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,17 +38,58 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ApplicationProcessingService {
 	private final LlmClient llmClient;
 	private final ApplicationCacheService cacheService;
+	private final LlmResponseCacheService responseCacheService;
+	private final PromptTemplateRegistry templateRegistry;
+	private final PromptCompactor promptCompactor;
 	private final ApplicationValidationService validationService;
 	private final ObjectMapper objectMapper = new ObjectMapper();
+	
+	// 진행 중인 LLM 호출 (우선순위 레인 + 프롬프트 해시 -> 결과)
+	private final Map<String, CompletableFuture<LlmResponse>> inFlightCalls = new ConcurrentHashMap<>();
+	private final LongAdder deduplicatedCalls = new LongAdder();
+	
+	// 여러 지원서 묶음 호출 통계
+	private final LongAdder coalescedCalls = new LongAdder();
+	private final LongAdder coalescedApplications = new LongAdder();
+	private final LongAdder coalesceFallbacks = new LongAdder();
+	
+	@Value("${ai.batch.coalesce.enabled:true}")
+	private boolean coalesceEnabled;
+	
+	@Value("${ai.batch.coalesce.max-applications:4}")
+	private int maxCoalescedApplications;
+	
+	// 이 토큰 수 이하인 지원서만 묶음 대상
+	@Value("${ai.batch.coalesce.short-content-tokens:800}")
+	private int shortContentTokens;
+	
+	@Value("${ai.batch.coalesce.completion-tokens-per-application:700}")
+	private int completionTokensPerApplication;
 
+	/**
+	 * 지원서 요약 (실패 시 오류 유형별 fallback 요약 반환 - 결과를 바로 보여줘야 하는 동기 API용)
+	 */
 	public ApplicationSummaryDto processApplication(List<ApplicationQuestionDto> questions) {
+		try {
+			return summarize(questions);
+		} catch (AiProcessingException e) {
+			log.error("AI processing failed: {} - {}", e.getErrorType(), e.getMessage());
+			return createFallbackResponseForError(e.getErrorType());
+		}
+	}
+	
+	/**
+	 * 지원서 요약 (실패 시 분류된 AiProcessingException - fallback 요약을 만들지 않음)
+	 * 배치/워커 처리는 실패를 FAILED로 기록하고 백오프 후 재시도해야 하므로 이 메서드를 사용
+	 */
+	public ApplicationSummaryDto summarize(List<ApplicationQuestionDto> questions) {
 		try {
 			// 1. 캐시된 결과 확인
-			ApplicationSummaryDto cachedResult = cacheService.getCachedSummary(questions);
+			String templateVersion = getPromptTemplateVersion();
+			ApplicationSummaryDto cachedResult = cacheService.getCachedSummary(questions, templateVersion);
 			if (cachedResult != null) {
 				return cachedResult;
 			}
@@ -39,35 +97,133 @@ public class ApplicationProcessingService {
 			// 2. 동적 프롬프트 생성
 			String prompt = createDynamicSummaryPrompt(questions);
 			
-			// 3. LLM을 통한 요약 생성
-			String llmResponse = llmClient.chat(prompt);
+			// 3. 영구 캐시 확인 후 없으면 LLM을 통한 요약 생성
+			Optional<String> persistedResponse = responseCacheService.findResponse(prompt, templateVersion);
+			LlmResponse llmResponse = null;
+			String responseJson;
+			if (persistedResponse.isPresent()) {
+				responseJson = persistedResponse.get();
+			} else {
+				SharedCall call = callLlmShared(prompt);
+				LlmResponse response = awaitLlm(call.future());
+				if (call.leader()) {
+					llmResponse = response;
+				}
+				responseJson = response.content();
+			}
 			
-			// 4. JSON 응답 파싱
-			ApplicationSummaryDto result = parseJsonResponse(llmResponse);
+			// 4. JSON 응답 파싱 (원본 답변 지문으로 답변 복사 여부 검증)
+			ApplicationSummaryDto result = parseJsonResponse(responseJson, AnswerFingerprints.of(questions));
 			
-			// 5. 결과 캐싱 (유효한 경우에만)
+			// 5. 결과 캐싱 (유효한 경우에만 - 새로 받은 응답은 영구 캐시에도 저장)
 			if (validationService.isValidForCaching(result)) {
-				cacheService.cacheSummary(questions, result);
+				cacheService.cacheSummary(questions, templateVersion, result);
+				if (llmResponse != null) {
+					responseCacheService.store(prompt, templateVersion, llmResponse);
+				}
 			}
 			
 			return result;
 			
 		} catch (AiProcessingException e) {
-			log.error("AI processing failed: {} - {}", e.getErrorType(), e.getMessage());
-			return createFallbackResponseForError(e.getErrorType());
+			throw e;
 		} catch (Exception e) {
 			log.error("Unexpected error during application processing", e);
-			return FallbackResponseUtil.createFallbackSummary("시스템 오류로 인해 처리할 수 없습니다.");
+			throw new AiProcessingException(AiProcessingException.ErrorType.UNKNOWN, 
+				"시스템 오류로 인해 처리할 수 없습니다.", e);
 		}
 	}
 	
 	
+	/**
+	 * LLM 호출 결과 대기 (실패는 분류된 AiProcessingException으로 전달)
+	 */
+	private LlmResponse awaitLlm(CompletableFuture<LlmResponse> call) {
+		try {
+			return call.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof AiProcessingException aiException) {
+				throw aiException;
+			}
+			throw new AiProcessingException(AiProcessingException.ErrorType.UNKNOWN, 
+				"AI 호출 중 오류가 발생했습니다.", e.getCause());
+		}
+	}
+	
+	/**
+	 * 동일 프롬프트 단일 호출 (single-flight)
+	 * 같은 프롬프트에 대한 호출이 진행 중이면 새로 호출하지 않고 진행 중인 결과를 공유
+	 * (수동 요약 + 배치 처리 동시 실행, 배치 분석 요청 내 중복 지원서 등)
+	 * 호출은 호출자의 우선순위 레인(LlmPriority)에서 허가를 받으므로 레인별로 공유
+	 * - BACKLOG 호출자는 진행 중인 INTERACTIVE 호출에도 참여 (더 빨리 끝나므로 손해가 없음)
+	 * - INTERACTIVE 호출자는 BACKLOG 호출에 참여하지 않음 (백로그 대기열 뒤에서 사용자가 기다리지 않도록)
+	 */
+	private SharedCall callLlmShared(String prompt) {
+		return callLlmShared(ContentHashUtil.sha256Hex(prompt), () -> llmClient.chatWithUsageAsync(prompt));
+	}
+	
+	/**
+	 * 응답 토큰 한도를 지정한 단일 호출 (한도가 다르면 다른 호출로 취급)
+	 */
+	private SharedCall callLlmShared(String prompt, int maxCompletionTokens) {
+		String promptHash = ContentHashUtil.sha256Hex(List.of(String.valueOf(maxCompletionTokens), prompt));
+		return callLlmShared(promptHash, () -> llmClient.chatWithUsageAsync(prompt, maxCompletionTokens));
+	}
+	
+	private SharedCall callLlmShared(String promptHash, Supplier<CompletableFuture<LlmResponse>> request) {
+		LlmPriority.Lane lane = LlmPriority.current();
+		String key = lane + ":" + promptHash;
+		CompletableFuture<LlmResponse> created = new CompletableFuture<>();
+		CompletableFuture<LlmResponse> existing = lane == LlmPriority.Lane.BACKLOG
+			? inFlightCalls.get(LlmPriority.Lane.INTERACTIVE + ":" + promptHash)
+			: null;
+		if (existing == null) {
+			existing = inFlightCalls.putIfAbsent(key, created);
+		}
+		if (existing != null) {
+			deduplicatedCalls.increment();
+			log.debug("Joined in-flight LLM call for identical prompt: {}", promptHash.substring(0, 12));
+			// 호출자별 취소가 다른 호출자에게 전파되지 않도록 복사본 반환
+			return new SharedCall(existing.copy(), false);
+		}
+		
+		try {
+			request.get().whenComplete((response, error) -> {
+				inFlightCalls.remove(key, created);
+				if (error != null) {
+					created.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+				} else {
+					created.complete(response);
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlightCalls.remove(key, created);
+			created.completeExceptionally(e);
+		}
+		return new SharedCall(created.copy(), true);
+	}
+	
+	public int getInFlightPromptCount() {
+		return inFlightCalls.size();
+	}
+	
+	public long getDeduplicatedCallCount() {
+		return deduplicatedCalls.sum();
+	}
+	
+	/**
+	 * 공유 호출 결과 (leader: 실제 API를 호출한 쪽 - 영구 캐시 저장 담당)
+	 */
+	private record SharedCall(CompletableFuture<LlmResponse> future, boolean leader) {
+	}
+	
 	/**
 	 * 비동기 방식으로 지원서 처리 (성능 개선)
 	 */
 	public CompletableFuture<ApplicationSummaryDto> processApplicationAsync(List<ApplicationQuestionDto> questions) {
 		// 1. 캐시된 결과 확인 (동기)
-		ApplicationSummaryDto cachedResult = cacheService.getCachedSummary(questions);
+		String templateVersion = getPromptTemplateVersion();
+		ApplicationSummaryDto cachedResult = cacheService.getCachedSummary(questions, templateVersion);
 		if (cachedResult != null) {
 			return CompletableFuture.completedFuture(cachedResult);
 		}
@@ -75,13 +231,14 @@ public class ApplicationProcessingService {
 		// 2. 동적 프롬프트 생성
 		String prompt = createDynamicSummaryPrompt(questions);
 		
-		// 3. 비동기 LLM 호출
-		return llmClient.chatAsync(prompt)
-			.thenApply(this::parseJsonResponse)
+		// 3. 비동기 LLM 호출 (동일 프롬프트가 진행 중이면 결과 공유)
+		return callLlmShared(prompt).future()
+			.thenApply(LlmResponse::content)
+			.thenApply(json -> parseJsonResponse(json, AnswerFingerprints.of(questions)))
 			.thenApply(result -> {
 				// 4. 결과 캐싱 (유효한 경우에만)
 				if (validationService.isValidForCaching(result)) {
-					cacheService.cacheSummary(questions, result);
+					cacheService.cacheSummary(questions, templateVersion, result);
 				}
 				return result;
 			})
@@ -97,6 +254,262 @@ public class ApplicationProcessingService {
 			});
 	}
 	
+	/**
+	 * 스트리밍 방식으로 지원서 처리
+	 * 질문별 요약은 모델 응답에서 항목이 완성되는 즉시 정제하여 listener로 전달하고,
+	 * 점수는 전체 응답 검증(일관성 보정 포함)이 끝난 뒤 전달
+	 * 캐시된 결과가 있으면 호출 없이 같은 순서로 전달
+	 */
+	public CompletableFuture<ApplicationSummaryDto> processApplicationStreaming(
+			List<ApplicationQuestionDto> questions, StreamingSummaryParser.Listener listener) {
+		// 1. 캐시된 결과 확인
+		String templateVersion = getPromptTemplateVersion();
+		ApplicationSummaryDto cachedResult = cacheService.getCachedSummary(questions, templateVersion);
+		if (cachedResult != null) {
+			replay(cachedResult, listener);
+			return CompletableFuture.completedFuture(cachedResult);
+		}
+		
+		// 2. 동적 프롬프트 생성
+		String prompt = createDynamicSummaryPrompt(questions);
+		
+		// 3. 응답 조각을 증분 파싱하며 완성된 질문 요약부터 전달
+		AnswerFingerprints answerFingerprints = AnswerFingerprints.of(questions);
+		StreamingSummaryParser parser = new StreamingSummaryParser(new StreamingSummaryParser.Listener() {
+			@Override
+			public void onQuestionSummary(int index, ApplicationSummaryDto.QuestionSummaryDto questionSummary) {
+				ApplicationSummaryDto.QuestionSummaryDto sanitized =
+					validationService.sanitizeQuestionSummary(questionSummary, answerFingerprints);
+				if (sanitized != null) {
+					listener.onQuestionSummary(index, sanitized);
+				}
+			}
+			
+			@Override
+			public void onScore(int scoreOutOf100, String scoreReason) {
+				// 점수는 전체 검증 후 전달
+			}
+		});
+		
+		CompletableFuture<LlmResponse> stream = llmClient.chatStream(prompt, parser::feed);
+		CompletableFuture<ApplicationSummaryDto> processing = stream
+			.thenApply(response -> {
+				parser.finish();
+				
+				// 4. 증분 파싱한 결과를 검증 후 점수 전달 (응답을 다시 파싱하지 않음)
+				ApplicationSummaryDto result = validationService.validateAndSanitizeSummary(parser.getResult(), answerFingerprints);
+				listener.onScore(result.getScoreOutOf100(), result.getScoreReason());
+				
+				// 5. 결과 캐싱 (유효한 경우에만)
+				if (validationService.isValidForCaching(result)) {
+					cacheService.cacheSummary(questions, templateVersion, result);
+				}
+				return result;
+			});
+		
+		// 6. 결과 대기를 취소하면(클라이언트 연결 종료 등) 스트리밍 호출도 취소
+		// (파생 future의 취소는 원본에 전파되지 않으므로 직접 취소해야 API 연결과 동시성 허가가 반환됨)
+		processing.whenComplete((summary, error) -> {
+			if (processing.isCancelled()) {
+				stream.cancel(true);
+			}
+		});
+		return processing;
+	}
+	
+	private void replay(ApplicationSummaryDto summary, StreamingSummaryParser.Listener listener) {
+		List<ApplicationSummaryDto.QuestionSummaryDto> questionSummaries = summary.getQuestionSummaries();
+		if (questionSummaries != null) {
+			for (int i = 0; i < questionSummaries.size(); i++) {
+				listener.onQuestionSummary(i, questionSummaries.get(i));
+			}
+		}
+		listener.onScore(summary.getScoreOutOf100(), summary.getScoreReason());
+	}
+	
+	/**
+	 * 여러 지원서를 한 번에 요약할 수 있는 짧은 지원서인지 확인
+	 */
+	public boolean isCoalescible(List<ApplicationQuestionDto> questions) {
+		return coalesceEnabled && maxCoalescedApplications > 1
+			&& questions != null && !questions.isEmpty()
+			&& promptCompactor.estimateContent(questions) <= shortContentTokens;
+	}
+	
+	public int getMaxCoalescedApplications() {
+		return coalesceEnabled ? Math.max(1, maxCoalescedApplications) : 1;
+	}
+	
+	/**
+	 * 짧은 지원서 여러 개를 한 번의 호출로 요약 (고정 지시문을 지원서마다 반복하지 않음)
+	 * 응답 배열을 지원서 ID로 나눠 각각 검증하며, 누락/해석 실패/검증 실패한 지원서는 null로 반환
+	 * (호출자가 해당 지원서만 단건 호출로 처리)
+	 * 단건 경로와 같이 메모리 캐시 → 영구 캐시 → 단일 호출(single-flight) 순서로 처리하며,
+	 * 결과마다 실제로 만든 템플릿 버전을 함께 반환 (단건 템플릿 캐시 결과를 재사용한 경우 단건 버전)
+	 */
+	public List<VersionedSummary> processApplicationsCoalesced(List<List<ApplicationQuestionDto>> applications) {
+		List<VersionedSummary> results = new ArrayList<>(Collections.nCopies(applications.size(), null));
+		String templateVersion = getCoalescedTemplateVersion();
+		String singleTemplateVersion = getPromptTemplateVersion();
+		
+		// 1. 캐시된 결과는 그대로 사용하고 나머지만 묶음 (묶음/단건 템플릿 결과 모두 재사용)
+		List<Integer> pending = new ArrayList<>();
+		for (int i = 0; i < applications.size(); i++) {
+			VersionedSummary cachedResult = findCachedSummary(applications.get(i), templateVersion, singleTemplateVersion);
+			if (cachedResult != null) {
+				results.set(i, cachedResult);
+			} else {
+				pending.add(i);
+			}
+		}
+		if (pending.size() < 2) {
+			return results; // 한 건 이하는 단건 호출이 더 저렴함
+		}
+		
+		try {
+			// 2. 묶음 프롬프트 생성 후 영구 캐시 확인, 없으면 호출 (응답 토큰 한도는 지원서 수에 비례)
+			// 묶음 프롬프트는 묶인 지원서 조합과 순서까지 같아야 적중하므로, 주로 재선점/재시작 후 같은 묶음을 다시 처리할 때 적중
+			String prompt = createMultiApplicationPrompt(applications, pending);
+			Optional<String> persistedResponse = responseCacheService.findResponse(prompt, templateVersion);
+			LlmResponse llmResponse = null;
+			String responseJson;
+			if (persistedResponse.isPresent()) {
+				responseJson = persistedResponse.get();
+			} else {
+				SharedCall call = callLlmShared(prompt, completionTokensPerApplication * pending.size());
+				LlmResponse response = awaitLlm(call.future());
+				if (call.leader()) {
+					llmResponse = response;
+				}
+				responseJson = response.content();
+				coalescedCalls.increment();
+			}
+			
+			// 3. 지원서 ID별로 나눠 검증 후 캐싱
+			Map<String, JsonNode> entries = parseMultiApplicationResponse(responseJson);
+			boolean allValid = true;
+			for (int index : pending) {
+				ApplicationSummaryDto result = toCoalescedSummary(entries.get(applicationId(index)),
+					AnswerFingerprints.of(applications.get(index)));
+				if (result != null) {
+					results.set(index, new VersionedSummary(result, templateVersion));
+					cacheService.cacheSummary(applications.get(index), templateVersion, result);
+					coalescedApplications.increment();
+				} else {
+					allValid = false;
+					coalesceFallbacks.increment();
+				}
+			}
+			
+			// 4. 모든 지원서 결과가 유효한 응답만 영구 캐시에 저장 (일부 실패한 응답을 재사용하면 같은 지원서가 매번 단건 호출로 빠짐)
+			if (llmResponse != null && allValid) {
+				responseCacheService.store(prompt, templateVersion, llmResponse);
+			}
+		} catch (Exception e) {
+			coalesceFallbacks.add(pending.size());
+			log.warn("Coalesced AI summary failed for {} applications, falling back to single calls: {}", 
+				pending.size(), e.getMessage());
+		}
+		return results;
+	}
+	
+	private VersionedSummary findCachedSummary(List<ApplicationQuestionDto> questions, String... templateVersions) {
+		for (String templateVersion : templateVersions) {
+			ApplicationSummaryDto cachedResult = cacheService.getCachedSummary(questions, templateVersion);
+			if (cachedResult != null) {
+				return new VersionedSummary(cachedResult, templateVersion);
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * 요약 결과와 그 결과를 만든 프롬프트 템플릿 버전
+	 */
+	public record VersionedSummary(ApplicationSummaryDto summary, String templateVersion) {
+	}
+	
+	private String createMultiApplicationPrompt(List<List<ApplicationQuestionDto>> applications, List<Integer> indexes) {
+		StringBuilder content = new StringBuilder();
+		for (int index : indexes) {
+			if (content.length() > 0) {
+				content.append("\n\n");
+			}
+			content.append("### Application ").append(applicationId(index)).append('\n')
+				.append(formatApplicationContent(promptCompactor.fitToBudget(applications.get(index))));
+		}
+		return multiSummaryTemplate().render(Map.of("applicationsContent", content.toString()));
+	}
+	
+	private String applicationId(int index) {
+		return "A" + (index + 1);
+	}
+	
+	/**
+	 * 묶음 응답을 지원서 ID -> 응답 항목으로 변환
+	 */
+	private Map<String, JsonNode> parseMultiApplicationResponse(String jsonResponse) throws JsonProcessingException {
+		if (jsonResponse == null || jsonResponse.isBlank()) {
+			throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+				"AI 서비스로부터 빈 응답을 받았습니다.");
+		}
+		
+		int start = jsonResponse.indexOf('{');
+		if (start < 0) {
+			throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+				"AI 응답에서 유효한 JSON 구조를 찾을 수 없습니다.");
+		}
+		JsonNode applicationsNode = objectMapper.readTree(jsonResponse.substring(start)).path("applications");
+		if (!applicationsNode.isArray()) {
+			throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
+				"AI 응답에 applications 배열이 없습니다.");
+		}
+		
+		Map<String, JsonNode> entries = new HashMap<>();
+		for (JsonNode entry : applicationsNode) {
+			String id = entry.path("applicationId").asText("");
+			if (!id.isEmpty()) {
+				entries.putIfAbsent(id, entry);
+			}
+		}
+		return entries;
+	}
+	
+	private ApplicationSummaryDto toCoalescedSummary(JsonNode entry, AnswerFingerprints answerFingerprints) {
+		if (entry == null) {
+			return null;
+		}
+		try {
+			ApplicationSummaryDto parsed = objectMapper.readerFor(ApplicationSummaryDto.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.readValue(entry);
+			ApplicationSummaryDto result = validationService.validateAndSanitizeSummary(parsed, answerFingerprints);
+			return validationService.isValidForCaching(result) ? result : null;
+		} catch (Exception e) {
+			log.debug("Failed to parse coalesced summary entry: {}", e.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * 묶음 요약 템플릿 버전
+	 */
+	public String getCoalescedTemplateVersion() {
+		return multiSummaryTemplate().getVersion();
+	}
+	
+	public long getCoalescedCallCount() {
+		return coalescedCalls.sum();
+	}
+	
+	public long getCoalescedApplicationCount() {
+		return coalescedApplications.sum();
+	}
+	
+	public long getCoalesceFallbackCount() {
+		return coalesceFallbacks.sum();
+	}
+	
 	/**
 	 * 다중 지원서 배치 처리 (병렬 처리)
 	 */
@@ -170,90 +583,57 @@ public class ApplicationProcessingService {
 		);
 	}
 	
+	/**
+	 * 요약 프롬프트 생성 (컴파일된 템플릿의 끝에 지원서 내용만 채움)
+	 * 지원서 내용이 토큰 예산을 넘으면 답변을 정리/축약하여 채움
+	 */
 	private String createDynamicSummaryPrompt(List<ApplicationQuestionDto> questions) {
-		String questionsText = questions.stream()
-			.map(q -> String.format("Q: %s\nA: %s", q.getQuestion(), q.getAnswer()))
-			.collect(Collectors.joining("\n\n"));
-		
-		return """
-			Analyze the following university student application for an IT development club recruitment.
-			Please respond in Korean language, but follow the English instructions below.
-			
-			Club Information:
-			- Target: University students (both CS majors and non-majors)
-			- Type: IT development club focused on learning and collaboration
-			- Core Values: Collaboration (협업), Growth (성장), Passion (열정)
-			- Looking for: Students who can passionately focus for short periods and collaborate well with others
-			
-			Application content:
-			%s
-			
-			Please respond in exactly this JSON format:
-			{
-			  "questionSummaries": [
-			    {
-			      "question": "original question text",
-			      "aiSummary": "Korean summary of this specific question and answer"
-			    },
-			    // ... repeat for each question
-			  ],
-			  "scoreOutOf100": evaluation_score_number_between_0_and_100,
-			  "scoreReason": "Objective scoring rationale in Korean formal writing style"
+		String content = formatApplicationContent(promptCompactor.fitToBudget(questions));
+		return summaryTemplate().render(Map.of("applicationContent", content));
+	}
+	
+	private String formatApplicationContent(List<ApplicationQuestionDto> questions) {
+		StringBuilder content = new StringBuilder();
+		for (ApplicationQuestionDto question : questions) {
+			if (content.length() > 0) {
+				content.append("\n\n");
 			}
-			
-			For each question-answer pair:
-			- Provide a concise Korean summary (1-2 sentences) focusing on key points
-			- Highlight relevant skills, experiences, or attitudes shown in that specific answer
-			- Keep the original question text exactly as provided
-			- Do NOT include the original answer text in the response
-			- IMPORTANT: Use formal Korean writing style (문어체) - avoid casual endings like ~습니다, ~입니다. Use ~함, ~됨, ~임 instead
-			
-			For scoreReason:
-			- Provide objective breakdown by evaluation criteria with specific point allocation
-			- Format: "열정 및 학습 태도: X/40점 - specific evidence. 협업 잠재력: Y/30점 - specific evidence. 기술적 기반: Z/20점 - specific evidence. 성장 마인드셋: W/10점 - specific evidence."
-			- Base points on concrete evidence from the answers, not subjective impressions
-			- IMPORTANT: Use formal Korean writing style (문어체) - avoid ~습니다, ~입니다 endings. Use ~함, ~됨, ~임, ~보임 instead
-			
-			Evaluation Criteria (100 points total):
-			1. Passion & Learning Attitude (40 points):
-			   - Enthusiasm for IT development and learning
-			   - Self-learning ability and curiosity
-			   - Willingness to challenge new technologies
-			   
-			2. Collaboration Potential (30 points):
-			   - Communication skills and teamwork experience
-			   - Openness to feedback and different perspectives
-			   - Leadership or mentoring experience
-			   
-			3. Technical Foundation (20 points):
-			   - Programming languages, frameworks, tools knowledge
-			   - Project experience (personal, academic, or team projects)
-			   - Problem-solving approach
-			   
-			4. Growth Mindset (10 points):
-			   - Willingness to learn from failures
-			   - Goal-setting and improvement orientation
-			   - Adaptability to club activities and short-term intensive projects
-			
-			Scoring Guidelines:
-			- 90-100: Exceptional candidate with strong passion, collaboration skills, and technical foundation
-			- 80-89: Very good candidate with most qualities aligned with club values
-			- 70-79: Good candidate with solid foundation but some areas for development
-			- 60-69: Adequate candidate with basic qualifications
-			- 50-59: Below average candidate with limited alignment
-			- 0-49: Poor fit for the club
-			
-			Important notes:
-			- Consider both CS majors and non-majors fairly
-			- Value learning potential over current technical level for beginners
-			- Emphasize collaboration and passion over pure technical skills
-			- All text values must be written in Korean using formal writing style (문어체)
-			- Avoid conversational endings (~습니다, ~입니다) and use formal endings (~함, ~됨, ~임, ~보임)
-			- Return only valid JSON without any additional text or markdown formatting
-			""".formatted(questionsText);
+			content.append("Q: ").append(question.getQuestion())
+				.append("\nA: ").append(question.getAnswer());
+		}
+		return content.toString();
+	}
+	
+	/**
+	 * 현재 요약 프롬프트 템플릿 버전 (요약 결과에 함께 기록)
+	 */
+	public String getPromptTemplateVersion() {
+		return summaryTemplate().getVersion();
+	}
+	
+	private PromptTemplate summaryTemplate() {
+		return templateRegistry.get(PromptTemplateRegistry.APPLICATION_SUMMARY);
+	}
+	
+	private PromptTemplate multiSummaryTemplate() {
+		return templateRegistry.get(PromptTemplateRegistry.MULTI_APPLICATION_SUMMARY);
+	}
+	
+	/**
+	 * 요약 프롬프트 생성 (Batch API 제출용 - 캐시/호출 없이 프롬프트만 생성)
+	 */
+	public String buildSummaryPrompt(List<ApplicationQuestionDto> questions) {
+		return createDynamicSummaryPrompt(questions);
+	}
+	
+	/**
+	 * 모델 응답을 요약 DTO로 변환 (Batch API 결과 반영용, 실패 시 AiProcessingException)
+	 */
+	public ApplicationSummaryDto parseSummaryResponse(String llmResponse, List<ApplicationQuestionDto> questions) {
+		return parseJsonResponse(llmResponse, AnswerFingerprints.of(questions));
 	}
 	
-	private ApplicationSummaryDto parseJsonResponse(String jsonResponse) {
+	private ApplicationSummaryDto parseJsonResponse(String jsonResponse, AnswerFingerprints answerFingerprints) {
 		try {
 			// 입력 검증
 			if (jsonResponse == null || jsonResponse.trim().isEmpty()) {
@@ -269,20 +649,18 @@ public class ApplicationProcessingService {
 					"AI 응답이 너무 큽니다.");
 			}
 			
-			// JSON 응답에서 실제 JSON 부분만 안전하게 추출
-			String cleanJson = extractJsonFromResponseSafely(jsonResponse);
-			ApplicationSummaryDto result = objectMapper.readValue(cleanJson, ApplicationSummaryDto.class);
+			// 한 번에 읽으며 필수 필드 확인 (JSON 앞의 설명 문구는 건너뜀)
+			ApplicationSummaryDto result = StreamingSummaryParser.parse(jsonResponse);
 			
 			// 파싱된 결과 검증
-			return validationService.validateAndSanitizeSummary(result);
+			return validationService.validateAndSanitizeSummary(result, answerFingerprints);
 			
 		} catch (AiProcessingException e) {
 			// 이미 분류된 AI 처리 예외는 그대로 재던지기
+			if (e.getErrorType() == AiProcessingException.ErrorType.PARSING_ERROR) {
+				log.error("JSON parsing failed for AI response", e);
+			}
 			throw e;
-		} catch (JsonProcessingException e) {
-			log.error("JSON parsing failed for AI response", e);
-			throw new AiProcessingException(AiProcessingException.ErrorType.PARSING_ERROR, 
-				"AI 응답 JSON 파싱에 실패했습니다.", e);
 		} catch (IllegalArgumentException e) {
 			log.error("Invalid argument in JSON processing", e);
 			throw new AiProcessingException(AiProcessingException.ErrorType.VALIDATION_ERROR, 
@@ -293,54 +671,4 @@ public class ApplicationProcessingService {
 				"AI 응답 처리 중 예상치 못한 오류가 발생했습니다.", e);
 		}
 	}
-	
-	
-	
-	/**
-	 * 안전한 JSON 추출 (보안 강화)
-	 */
-	private String extractJsonFromResponseSafely(String response) {
-		if (response == null || response.trim().isEmpty()) {
-			throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
-				"AI 서비스 응답이 비어있습니다.");
-		}
-		
-		// 중괄호 쌍을 정확히 매칭하여 JSON 추출
-		int braceCount = 0;
-		int startIndex = -1;
-		int endIndex = -1;
-		
-		for (int i = 0; i < response.length(); i++) {
-			char c = response.charAt(i);
-			if (c == '{') {
-				if (startIndex == -1) {
-					startIndex = i;
-				}
-				braceCount++;
-			} else if (c == '}') {
-				braceCount--;
-				if (braceCount == 0 && startIndex != -1) {
-					endIndex = i;
-					break;
-				}
-			}
-		}
-		
-		if (startIndex == -1 || endIndex == -1 || endIndex <= startIndex) {
-			throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
-				"AI 응답에서 유효한 JSON 구조를 찾을 수 없습니다.");
-		}
-		
-		String jsonCandidate = response.substring(startIndex, endIndex + 1);
-		
-		// 기본적인 JSON 구조 검증
-		if (!jsonCandidate.contains("questionSummaries") || 
-			!jsonCandidate.contains("scoreOutOf100") ||
-			!jsonCandidate.contains("scoreReason")) {
-			throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT, 
-				"AI 응답에 필수 필드가 누락되었습니다.");
-		}
-		
-		return jsonCandidate;
-	}
 }
@@ -1,20 +1,26 @@
 package com.pirogramming.recruit.domain.ai_summary.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
 import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.entity.SummaryDocument;
+import com.pirogramming.recruit.domain.ai_summary.event.ApplicationSummaryCreatedEvent;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
 import com.pirogramming.recruit.domain.ai_summary.repository.ApplicationSummaryRepository;
 import com.pirogramming.recruit.domain.ai_summary.util.InputValidationUtil;
 import com.pirogramming.recruit.domain.ai_summary.util.TextSanitizerUtil;
@@ -29,10 +35,12 @@ import lombok.extern.slf4j.Slf4j;
 public class ApplicationSummaryService {
     private final ApplicationProcessingService processingService;
     private final ApplicationSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetryBackoffPolicy retryBackoffPolicy;
 
     /**
      * Webhook에서 받은 폼 데이터로 AI 요약 레코드를 즉시 생성 (PENDING 상태)
-     * 실제 AI 처리는 비동기로 수행
+     * 실제 AI 처리는 커밋 이후 디스패처가 비동기로 수행
      */
     @Transactional
     public ApplicationSummary createPendingSummaryFromWebhook(com.pirogramming.recruit.domain.webhook.entity.WebhookApplication webhookApplication) {
@@ -49,14 +57,18 @@ public class ApplicationSummaryService {
                         .build()
         );
 
+        // 커밋 이후 디스패처가 바로 처리할 수 있도록 이벤트 발행
+        eventPublisher.publishEvent(new ApplicationSummaryCreatedEvent(
+                this, pendingSummary.getId(), webhookApplication.getId()));
+
         log.info("Created pending AI summary for application ID: {}", webhookApplication.getId());
         return pendingSummary;
     }
 
     /**
      * 기존 방식 유지 (동기 처리) - 테스트나 즉시 처리가 필요한 경우
+     * LLM 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출하고, 저장만 짧은 트랜잭션으로 수행
      */
-    @Transactional
     public ApplicationSummary summarizeAndSaveFromWebhookSync(com.pirogramming.recruit.domain.webhook.entity.WebhookApplication webhookApplication) {
         // 이미 AI 요약이 존재하는지 확인
         if (webhookApplication.getApplicationSummary() != null) {
@@ -67,19 +79,18 @@ public class ApplicationSummaryService {
         List<ApplicationQuestionDto> questions = convertFormDataWithNumericFilter(webhookApplication.getFormData());
 
         // LLM 요약
+        LocalDateTime startedAt = LocalDateTime.now();
         ApplicationSummaryDto summaryDto = processingService.processApplication(questions);
 
-        // DTO를 저장용 Map으로 변환
-        Map<String, String> items = flattenSummary(summaryDto);
-
         // 저장
         ApplicationSummary saved = summaryRepository.save(
                 ApplicationSummary.builder()
                         .webhookApplication(webhookApplication)
-                        .items(items)
+                        .summary(toDocument(summaryDto))
                         .processingStatus(ApplicationSummary.ProcessingStatus.COMPLETED)
-                        .processingStartedAt(java.time.LocalDateTime.now().minusSeconds(30))
-                        .processingCompletedAt(java.time.LocalDateTime.now())
+                        .processingStartedAt(startedAt)
+                        .processingCompletedAt(LocalDateTime.now())
+                        .promptTemplateVersion(processingService.getPromptTemplateVersion())
                         .build()
         );
 
@@ -87,59 +98,245 @@ public class ApplicationSummaryService {
     }
 
     /**
-     * PENDING 상태의 요약을 실제 AI로 처리
+     * PENDING 작업을 배치 크기만큼 선점 (FOR UPDATE SKIP LOCKED)
+     * 여러 인스턴스가 동시에 호출해도 같은 작업을 중복으로 가져가지 않음
      */
     @Transactional
-    public void processAiSummary(ApplicationSummary summary) {
-        if (summary.getProcessingStatus() != ApplicationSummary.ProcessingStatus.PENDING) {
-            log.warn("Attempted to process non-pending summary ID: {}, status: {}", 
-                summary.getId(), summary.getProcessingStatus());
+    public List<Long> claimPendingBatch(String workerId, int batchSize, Duration leaseDuration) {
+        List<Long> lockedIds = summaryRepository.lockPendingTaskIds(batchSize);
+        if (lockedIds.isEmpty()) {
+            return lockedIds;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = summaryRepository.claimTasks(lockedIds, workerId, now, now.plus(leaseDuration),
+                ApplicationSummary.ProcessingStatus.PENDING, ApplicationSummary.ProcessingStatus.PROCESSING);
+
+        log.debug("Worker {} claimed {} AI summary tasks", workerId, claimed);
+        return lockedIds;
+    }
+
+    /**
+     * 선점한(PROCESSING) 요약을 실제 AI로 처리
+     * 1) 선점: claimPendingBatch의 짧은 트랜잭션에서 PROCESSING 전환 (summary는 선점 직후 조회된 분리 상태)
+     * 2) LLM 호출: 트랜잭션 없이 수행하여 DB 커넥션을 점유하지 않음
+     * 3) 결과 반영: UPDATE 한 번으로 저장하며, 그 사이 상태가 바뀌었으면 버전 검사로 반영 거부
+     */
+    public void processAiSummary(ApplicationSummary summary, String workerId) {
+        if (!summary.isClaimedBy(workerId)) {
+            log.warn("Attempted to process summary not claimed by this worker. ID: {}, status: {}, owner: {}", 
+                summary.getId(), summary.getProcessingStatus(), summary.getWorkerId());
             return;
         }
 
         try {
-            // 처리 시작 표시
-            summary.markAsProcessing();
-            summaryRepository.save(summary);
-
             // 질문 데이터 변환 (WebhookApplication은 이미 fetch됨)
             List<ApplicationQuestionDto> questions = convertFormDataWithNumericFilter(
                 summary.getWebhookApplication().getFormData());
 
-            // AI 처리
-            ApplicationSummaryDto summaryDto = processingService.processApplication(questions);
+            // AI 처리 (트랜잭션 밖, 실패는 fallback 요약 대신 예외로 받아 재시도 대상으로 기록)
+            ApplicationSummaryDto summaryDto = processingService.summarize(questions);
 
-            // 결과 저장 (items 컬렉션이 이미 fetch되어 LazyInitializationException 방지됨)
-            Map<String, String> items = flattenSummary(summaryDto);
-            summary.getItems().clear();
-            summary.getItems().putAll(items);
-            
-            // 완료 처리
-            summary.markAsCompleted();
-            summaryRepository.save(summary);
+            // 결과 반영
+            if (!completeClaimed(summary, workerId, summaryDto, processingService.getPromptTemplateVersion())) {
+                log.warn("AI summary ID: {} was modified by another worker while processing, discarding result", 
+                    summary.getId());
+                return;
+            }
 
             log.info("Successfully processed AI summary for application ID: {}", 
                 summary.getWebhookApplication().getId());
 
         } catch (Exception e) {
-            // 실패 처리
+            // 실패 처리 (오류 유형별 백오프 후 재시도)
             String errorMessage = "AI 처리 중 오류 발생: " + e.getMessage();
-            summary.markAsFailed(errorMessage);
-            summaryRepository.save(summary);
+            summary.markAsFailed(errorMessage, retryBackoffPolicy.nextAttemptAt(
+                RetryBackoffPolicy.classify(e), summary.getRetryCount() + 1));
+            try {
+                // 분리 상태 엔티티 merge 시 @Version 비교 (그 사이 회수/재선점되었으면 예외)
+                summaryRepository.save(summary);
+            } catch (ObjectOptimisticLockingFailureException conflict) {
+                log.warn("AI summary ID: {} was modified by another worker, skipping failure update", summary.getId());
+            }
 
             log.error("Failed to process AI summary for application ID: {}", 
                 summary.getId(), e);
         }
     }
 
+    /**
+     * 선점한 작업을 호출 단위로 나눔
+     * 짧은 지원서는 최대 묶음 크기만큼 한 그룹으로, 나머지는 각각 한 그룹으로 구성
+     */
+    public List<List<ApplicationSummary>> groupForCoalescing(List<ApplicationSummary> tasks) {
+        int maxGroupSize = processingService.getMaxCoalescedApplications();
+        List<List<ApplicationSummary>> groups = new ArrayList<>();
+        List<ApplicationSummary> current = new ArrayList<>();
+
+        for (ApplicationSummary task : tasks) {
+            if (maxGroupSize > 1 && isCoalescible(task)) {
+                current.add(task);
+                if (current.size() == maxGroupSize) {
+                    groups.add(current);
+                    current = new ArrayList<>();
+                }
+            } else {
+                groups.add(List.of(task));
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private boolean isCoalescible(ApplicationSummary task) {
+        try {
+            return processingService.isCoalescible(extractQuestions(task));
+        } catch (Exception e) {
+            return false; // 단건 처리에서 오류를 기록
+        }
+    }
+
+    /**
+     * 선점한 짧은 지원서 여러 개를 한 번의 AI 호출로 처리
+     * 묶음 응답에서 결과를 얻지 못한 지원서만 단건 처리(processAiSummary)로 다시 시도
+     */
+    public void processCoalescedSummaries(List<ApplicationSummary> summaries, String workerId) {
+        List<ApplicationSummary> claimed = summaries.stream()
+            .filter(summary -> summary.isClaimedBy(workerId))
+            .toList();
+        if (claimed.size() < 2) {
+            claimed.forEach(summary -> processAiSummary(summary, workerId));
+            return;
+        }
+
+        List<ApplicationProcessingService.VersionedSummary> results;
+        try {
+            results = processingService.processApplicationsCoalesced(
+                claimed.stream().map(this::extractQuestions).toList());
+        } catch (Exception e) {
+            log.warn("Coalesced AI summary processing failed, processing individually", e);
+            results = Collections.nCopies(claimed.size(), null);
+        }
+
+        for (int i = 0; i < claimed.size(); i++) {
+            ApplicationSummary summary = claimed.get(i);
+            ApplicationProcessingService.VersionedSummary result = results.get(i);
+            if (result == null) {
+                processAiSummary(summary, workerId);
+                continue;
+            }
+
+            if (completeClaimed(summary, workerId, result.summary(), result.templateVersion())) {
+                log.info("Successfully processed AI summary for application ID: {} (coalesced)",
+                    summary.getWebhookApplication().getId());
+            } else {
+                log.warn("AI summary ID: {} was modified by another worker while processing, discarding result",
+                    summary.getId());
+            }
+        }
+    }
+
+    /**
+     * 선점한 요약에 결과 반영 (UPDATE 한 번 - 버전과 소유자가 선점 당시 그대로일 때만)
+     * 반영되면 분리 상태의 엔티티도 같은 상태로 맞춤
+     */
+    private boolean completeClaimed(ApplicationSummary summary, String workerId,
+                                    ApplicationSummaryDto summaryDto, String templateVersion) {
+        SummaryDocument document = toDocument(summaryDto);
+        int updated = summaryRepository.completeClaimed(summary.getId(), summary.getVersion(), workerId,
+                document, templateVersion, LocalDateTime.now(),
+                ApplicationSummary.ProcessingStatus.COMPLETED, ApplicationSummary.ProcessingStatus.PROCESSING);
+        if (updated == 0) {
+            return false;
+        }
+
+        summary.markAsCompleted(document, templateVersion);
+        summary.setVersion(summary.getVersion() + 1);
+        return true;
+    }
+
+    /**
+     * 선점한 요약의 질문 목록 (Batch API 프롬프트 생성용)
+     */
+    public List<ApplicationQuestionDto> extractQuestions(ApplicationSummary summary) {
+        return convertFormDataWithNumericFilter(summary.getWebhookApplication().getFormData());
+    }
+
+    /**
+     * Batch API 결과 반영 (선점 소유자가 일치할 때만, 버전 검사 후 저장)
+     * summaryDto가 null이면 errorMessage로 실패 처리 (errorType별 백오프 후 재시도)
+     */
+    public boolean applyBulkResult(ApplicationSummary summary, String claimedBy, ApplicationSummaryDto summaryDto,
+                                   AiProcessingException.ErrorType errorType, String errorMessage) {
+        if (!summary.isClaimedBy(claimedBy)) {
+            log.warn("Skipping batch result for summary not claimed by {}. ID: {}, status: {}", 
+                claimedBy, summary.getId(), summary.getProcessingStatus());
+            return false;
+        }
+
+        if (summaryDto != null) {
+            if (completeClaimed(summary, claimedBy, summaryDto, processingService.getPromptTemplateVersion())) {
+                return true;
+            }
+            log.warn("AI summary ID: {} was modified while in batch, discarding batch result", summary.getId());
+            return false;
+        }
+
+        summary.markAsFailed("Batch 처리 실패: " + errorMessage, retryBackoffPolicy.nextAttemptAt(
+            errorType != null ? errorType : AiProcessingException.ErrorType.UNKNOWN, summary.getRetryCount() + 1));
+        try {
+            summaryRepository.save(summary); // @Version 비교
+            return true;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("AI summary ID: {} was modified while in batch, discarding batch result", summary.getId());
+            return false;
+        }
+    }
+
+    /**
+     * 선점 소유자 변경 (Batch 제출 후 배치 ID로 기록)
+     */
+    @Transactional
+    public int reassignClaims(String workerId, String newWorkerId) {
+        return summaryRepository.reassignClaims(workerId, newWorkerId, LocalDateTime.now(),
+                ApplicationSummary.ProcessingStatus.PROCESSING);
+    }
+
+    /**
+     * 선점 해제 (다시 PENDING으로 되돌림)
+     */
+    @Transactional
+    public int releaseClaims(String workerId) {
+        return summaryRepository.releaseClaims(workerId, LocalDateTime.now(),
+                ApplicationSummary.ProcessingStatus.PENDING, ApplicationSummary.ProcessingStatus.PROCESSING);
+    }
+
+    /**
+     * 아직 선점 중인 작업을 일괄 실패 처리 (재시도 대상)
+     */
+    @Transactional
+    public int failClaims(String workerId, String errorMessage) {
+        return summaryRepository.failClaims(workerId, errorMessage, LocalDateTime.now(),
+                retryBackoffPolicy.baseDelaySeconds(AiProcessingException.ErrorType.UNKNOWN),
+                retryBackoffPolicy.getMaxDelaySeconds());
+    }
+
     /**
      * 숫자로 시작하는 formData 질문들만 필터링하고 오름차순 정렬하여 변환
      */
     private List<ApplicationQuestionDto> convertFormDataWithNumericFilter(Map<String, Object> formData) {
         if (formData == null) return Collections.emptyList();
         
-        List<ApplicationQuestionDto> questions = formData.entrySet().stream()
+        List<Map.Entry<String, Object>> entries = formData.entrySet().stream()
                 .filter(entry -> isNumericPrefixed(entry.getKey())) // 숫자로 시작하는 질문만 필터링
+                .toList();
+        
+        // 전체 길이 제한 (DoS 방지) - 한도를 넘으면 거절하고, 한도 안의 긴 답변은 버리지 않음
+        InputValidationUtil.validateFormContentLength(entries);
+        
+        List<ApplicationQuestionDto> questions = entries.stream()
                 .filter(entry -> InputValidationUtil.isValidFormEntry(entry.getKey(), entry.getValue())) // 입력 검증
                 .sorted((e1, e2) -> compareNumericPrefix(e1.getKey(), e2.getKey())) // 숫자 기준 오름차순 정렬
                 .map(e -> new ApplicationQuestionDto(
@@ -147,15 +344,7 @@ public class ApplicationSummaryService {
                         TextSanitizerUtil.sanitizeInput(Objects.toString(e.getValue(), ""))))
                 .collect(Collectors.toList());
         
-        // 전체 프롬프트 크기 제한 (DoS 방지)
-        int totalLength = questions.stream()
-                .mapToInt(q -> q.getQuestion().length() + q.getAnswer().length())
-                .sum();
-        
-        if (totalLength > 15000) { // 전체 합계 15KB 제한
-            throw new RecruitException(HttpStatus.BAD_REQUEST, "전체 지원서 내용이 너무 깁니다. 답변을 줄여주세요.");
-        }
-        
+        // 토큰 예산을 넘는 답변은 프롬프트 생성 시 답변별 공정 분배로 축약 (PromptCompactor)
         return questions;
     }
 
@@ -221,26 +410,20 @@ public class ApplicationSummaryService {
     }
 
     /**
-     * ApplicationSummaryDto를 저장하기 쉬운 K/V로 평탄화
+     * ApplicationSummaryDto를 저장용 문서로 변환
      */
-    private Map<String, String> flattenSummary(ApplicationSummaryDto dto) {
-        Map<String, String> map = new LinkedHashMap<>();
-        if (dto == null) return map;
-
-        map.put("scoreOutOf100", String.valueOf(dto.getScoreOutOf100()));
-        map.put("scoreReason", n(dto.getScoreReason()));
-
-        // 질문별 요약을 JSON 형태로 저장
-        if (dto.getQuestionSummaries() != null) {
-            try {
-                ObjectMapper mapper = new ObjectMapper();
-                map.put("questionSummaries", mapper.writeValueAsString(dto.getQuestionSummaries()));
-            } catch (Exception e) {
-                map.put("questionSummaries", "[]"); // 오류 시 빈 배열
-            }
+    private SummaryDocument toDocument(ApplicationSummaryDto dto) {
+        if (dto == null) {
+            return null;
         }
-        
-        return map;
+
+        List<SummaryDocument.QuestionSummary> questionSummaries = dto.getQuestionSummaries() == null
+                ? List.of()
+                : dto.getQuestionSummaries().stream()
+                        .filter(Objects::nonNull)
+                        .map(q -> new SummaryDocument.QuestionSummary(q.getQuestion(), q.getAiSummary()))
+                        .toList();
+        return new SummaryDocument(dto.getScoreOutOf100(), n(dto.getScoreReason()), questionSummaries);
     }
 
     private String n(String s) { return s == null ? "" : s; }
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.util.AnswerFingerprints;
 import com.pirogramming.recruit.domain.ai_summary.util.FallbackResponseUtil;
 import com.pirogramming.recruit.domain.ai_summary.util.TextSanitizerUtil;
 
@@ -20,6 +21,14 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class ApplicationValidationService {
     
+    // 원본 답변과 비교할 최소 요약 길이
+    // 원본이 없을 때의 휴리스틱(500자 초과 + 문장 표현)은 오탐이 많아 긴 요약에만 적용했지만,
+    // 원본과의 겹침 비율은 직접 계산하므로 보통 길이의 요약까지 검사 (한 문장 정도인 100자 미만은 문구를 일부 인용해도 정상)
+    private static final int MIN_LEAKAGE_CHECK_LENGTH = 100;
+    // 요약의 5글자 조각 중 이 비율 이상이 한 답변에 그대로 있으면 원본 답변을 옮긴 것으로 판단
+    // (다시 쓴 요약은 조사/어미가 달라 보통 절반 이하만 겹침)
+    private static final double LEAKAGE_THRESHOLD = 0.7;
+    
     /**
      * 캐싱 가능한 유효한 결과인지 검사
      */
@@ -42,9 +51,18 @@ public class ApplicationValidationService {
     }
     
     /**
-     * 파싱된 요약 결과 검증 및 정제 (강화된 버전)
+     * 파싱된 요약 결과 검증 및 정제 (원본 답변 없이)
      */
     public ApplicationSummaryDto validateAndSanitizeSummary(ApplicationSummaryDto summary) {
+        return validateAndSanitizeSummary(summary, AnswerFingerprints.none());
+    }
+    
+    /**
+     * 파싱된 요약 결과 검증 및 정제 (강화된 버전)
+     * answerFingerprints: 원본 답변 지문 (질문별 요약이 답변을 그대로 옮겼는지 검사)
+     */
+    public ApplicationSummaryDto validateAndSanitizeSummary(ApplicationSummaryDto summary,
+                                                           AnswerFingerprints answerFingerprints) {
         if (summary == null) {
             return FallbackResponseUtil.createFallbackSummary();
         }
@@ -54,7 +72,7 @@ public class ApplicationValidationService {
         
         // 2. 질문별 요약 검증 및 정제
         List<ApplicationSummaryDto.QuestionSummaryDto> cleanQuestionSummaries = 
-            validateAndCleanQuestionSummaries(summary.getQuestionSummaries());
+            validateAndCleanQuestionSummaries(summary.getQuestionSummaries(), answerFingerprints);
         
         // 3. scoreReason 검증 및 정제
         String cleanScoreReason = validateAndCleanScoreReason(summary.getScoreReason(), score);
@@ -94,7 +112,7 @@ public class ApplicationValidationService {
      * 질문별 요약 검증 및 정제
      */
     private List<ApplicationSummaryDto.QuestionSummaryDto> validateAndCleanQuestionSummaries(
-            List<ApplicationSummaryDto.QuestionSummaryDto> questionSummaries) {
+            List<ApplicationSummaryDto.QuestionSummaryDto> questionSummaries, AnswerFingerprints answerFingerprints) {
         
         if (questionSummaries == null || questionSummaries.isEmpty()) {
             return List.of();
@@ -102,7 +120,7 @@ public class ApplicationValidationService {
         
         return questionSummaries.stream()
             .filter(Objects::nonNull)
-            .map(this::sanitizeQuestionSummary)
+            .map(q -> sanitizeQuestionSummary(q, answerFingerprints))
             .filter(Objects::nonNull) // 정제 실패 제외
             .filter(q -> !q.getAiSummary().trim().isEmpty()) // 빈 요약 제외
             .limit(30) // DoS 방지
@@ -183,9 +201,10 @@ public class ApplicationValidationService {
     }
     
     /**
-     * 개별 질문 요약 정제 (강화된 버전)
+     * 개별 질문 요약 정제 (강화된 버전, 스트리밍 중 완성된 항목에도 사용 - 전송 불가 시 null)
      */
-    private ApplicationSummaryDto.QuestionSummaryDto sanitizeQuestionSummary(ApplicationSummaryDto.QuestionSummaryDto questionSummary) {
+    public ApplicationSummaryDto.QuestionSummaryDto sanitizeQuestionSummary(ApplicationSummaryDto.QuestionSummaryDto questionSummary,
+                                                                          AnswerFingerprints answerFingerprints) {
         if (questionSummary == null) {
             return null;
         }
@@ -199,7 +218,7 @@ public class ApplicationValidationService {
         }
         
         // AI 요약이 원본 답변을 그대로 복사한 경우 감지
-        if (cleanAiSummary.length() > 500 && containsOriginalAnswer(cleanAiSummary)) {
+        if (isCopiedFromAnswer(cleanAiSummary, answerFingerprints)) {
             log.warn("AI summary appears to contain original answer, truncating");
             cleanAiSummary = truncateToSummary(cleanAiSummary);
         }
@@ -214,7 +233,26 @@ public class ApplicationValidationService {
     }
     
     /**
-     * 원본 답변 포함 여부 감지
+     * 원본 답변 복사 여부 감지
+     * 원본 답변 지문이 있으면 요약과 답변의 shingle 겹침 비율로 판단하고, 없으면 문장 표현 휴리스틱 사용
+     */
+    private boolean isCopiedFromAnswer(String aiSummary, AnswerFingerprints answerFingerprints) {
+        if (answerFingerprints.isEmpty()) {
+            return aiSummary.length() > 500 && containsOriginalAnswer(aiSummary);
+        }
+        if (aiSummary.length() < MIN_LEAKAGE_CHECK_LENGTH) {
+            return false;
+        }
+        double leakage = answerFingerprints.leakage(aiSummary);
+        if (leakage >= LEAKAGE_THRESHOLD) {
+            log.debug("AI summary overlaps original answer: {}", String.format("%.2f", leakage));
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 원본 답변 포함 여부 감지 (원본 답변 지문이 없을 때의 휴리스틱)
      */
     private boolean containsOriginalAnswer(String aiSummary) {
         // 요약이 아닌 원본 답변을 그대로 복사한 경우를 감지
@@ -252,22 +290,9 @@ public class ApplicationValidationService {
     }
     
     /**
-     * 부적절한 내용 감지
+     * 부적절한 내용 감지 (패턴 오토마톤으로 한 번에 검사)
      */
     private boolean containsInappropriateContent(String content) {
-        // 기본적인 부적절 내용 감지
-        String[] inappropriatePatterns = {
-            "개인정보", "전화번호", "주소", "이메일", 
-            "비밀번호", "주민등록번호", "password", "email"
-        };
-        
-        String lowerContent = content.toLowerCase();
-        for (String pattern : inappropriatePatterns) {
-            if (lowerContent.contains(pattern.toLowerCase())) {
-                return true;
-            }
-        }
-        
-        return false;
+        return TextSanitizerUtil.containsInappropriateContent(content);
     }
 }
\ No newline at end of file
@@ -0,0 +1,267 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmBatchClient;
+import com.pirogramming.recruit.domain.ai_summary.repository.ApplicationSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batch API 기반 대량 요약 처리
+ * 폼 마감 직후처럼 실시간 응답이 필요 없는 PENDING 작업을 하나의 배치로 제출하여 비용을 줄이고
+ * 실시간 호출의 RPM/TPM 여유를 뺏지 않도록 함
+ * - 제출한 작업은 worker_id = "batch:{배치 ID}"로 장기 선점 (별도 테이블 없이 재시작 후에도 추적)
+ * - 완료된 배치의 결과 파일을 한 줄씩 읽어 일정 단위로 반영하고, 결과가 없는 작업은 실패 처리 (재시도 대상)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkSummaryService {
+
+    private static final String BATCH_WORKER_PREFIX = "batch:";
+    private static final String CUSTOM_ID_PREFIX = "summary-";
+    // 제출 중(배치 ID 발급 전) 임시 소유자 접두사
+    private static final String SUBMITTING_PREFIX = BATCH_WORKER_PREFIX + "submitting-";
+    private static final int LOAD_CHUNK_SIZE = 200;
+    private static final int RESULT_CHUNK_SIZE = 50;
+
+    private final ApplicationSummaryService summaryService;
+    private final ApplicationSummaryRepository summaryRepository;
+    private final ApplicationProcessingService processingService;
+    private final LlmBatchClient batchClient;
+
+    // 한 인스턴스에서 제출/수집이 겹치지 않도록 함
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final LongAdder submittedBatches = new LongAdder();
+    private final LongAdder submittedRequests = new LongAdder();
+    private final LongAdder completedResults = new LongAdder();
+    private final LongAdder failedResults = new LongAdder();
+
+    @Value("${ai.batch.bulk.max-requests:1000}")
+    private int maxRequests;
+
+    @Value("${ai.batch.bulk.lease-hours:25}")
+    private int leaseHours;
+
+    /**
+     * PENDING 작업을 선점하여 하나의 배치로 제출, 제출한 요청 수 반환
+     */
+    public int submitPending() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Bulk summary operation already running, skipping submission");
+            return 0;
+        }
+        try {
+            return doSubmit();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 제출된 배치 상태를 확인하고 완료된 배치의 결과 반영
+     */
+    public void pollSubmittedBatches() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> owners = summaryRepository.findClaimOwnersLike(
+                BATCH_WORKER_PREFIX + "%", ApplicationSummary.ProcessingStatus.PROCESSING);
+
+            for (String owner : owners) {
+                if (owner.startsWith(SUBMITTING_PREFIX)) {
+                    continue; // 제출 중이거나 제출 도중 중단된 작업 (선점 만료 후 복구됨)
+                }
+                pollBatch(owner);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int doSubmit() {
+        String submittingOwner = SUBMITTING_PREFIX + UUID.randomUUID();
+        List<Long> claimedIds = summaryService.claimPendingBatch(submittingOwner, maxRequests, Duration.ofHours(leaseHours));
+        if (claimedIds.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            List<LlmBatchClient.Request> requests = new ArrayList<>(claimedIds.size());
+            for (int from = 0; from < claimedIds.size(); from += LOAD_CHUNK_SIZE) {
+                List<Long> chunk = claimedIds.subList(from, Math.min(claimedIds.size(), from + LOAD_CHUNK_SIZE));
+                for (ApplicationSummary summary : summaryRepository.findByIdsWithAssociations(chunk)) {
+                    addRequest(requests, summary, submittingOwner);
+                }
+            }
+
+            if (requests.isEmpty()) {
+                return 0;
+            }
+
+            String batchId = batchClient.submit(requests);
+            summaryService.reassignClaims(submittingOwner, BATCH_WORKER_PREFIX + batchId);
+
+            submittedBatches.increment();
+            submittedRequests.add(requests.size());
+            log.info("Submitted {} AI summaries to batch {}", requests.size(), batchId);
+            return requests.size();
+
+        } catch (Exception e) {
+            // 제출 실패 시 실시간 처리 대상으로 되돌림
+            int released = summaryService.releaseClaims(submittingOwner);
+            log.error("Failed to submit AI summary batch, released {} tasks back to PENDING", released, e);
+            return 0;
+        }
+    }
+
+    private void addRequest(List<LlmBatchClient.Request> requests, ApplicationSummary summary, String owner) {
+        try {
+            String prompt = processingService.buildSummaryPrompt(summaryService.extractQuestions(summary));
+            requests.add(new LlmBatchClient.Request(CUSTOM_ID_PREFIX + summary.getId(), prompt));
+        } catch (Exception e) {
+            summaryService.applyBulkResult(summary, owner, null, RetryBackoffPolicy.classify(e),
+                "프롬프트 생성 실패 - " + e.getMessage());
+        }
+    }
+
+    private void pollBatch(String owner) {
+        String batchId = owner.substring(BATCH_WORKER_PREFIX.length());
+        try {
+            LlmBatchClient.BatchStatus status = batchClient.getStatus(batchId);
+            if (!status.isFinished()) {
+                log.debug("Batch {} in progress - status: {}, completed: {}/{}",
+                    batchId, status.status(), status.completedRequests(), status.totalRequests());
+                return;
+            }
+
+            collectResults(owner, status);
+        } catch (Exception e) {
+            log.error("Failed to poll AI summary batch {}", batchId, e);
+        }
+    }
+
+    /**
+     * 결과 파일을 한 줄씩 읽어 RESULT_CHUNK_SIZE 단위로 반영
+     */
+    private void collectResults(String owner, LlmBatchClient.BatchStatus status) {
+        Map<Long, LlmBatchClient.Result> chunk = new LinkedHashMap<>();
+        Consumer<LlmBatchClient.Result> collector = result -> {
+            Long summaryId = parseSummaryId(result.customId());
+            if (summaryId == null) {
+                return;
+            }
+            chunk.put(summaryId, result);
+            if (chunk.size() >= RESULT_CHUNK_SIZE) {
+                applyChunk(owner, chunk);
+                chunk.clear();
+            }
+        };
+
+        if (status.outputFileId() != null) {
+            batchClient.readResults(status.outputFileId(), collector);
+        }
+        if (status.errorFileId() != null) {
+            batchClient.readResults(status.errorFileId(), collector);
+        }
+        applyChunk(owner, chunk);
+
+        // 결과가 없는 작업 (만료, 취소 등) 실패 처리 - 재시도 스케줄러가 실시간 처리로 다시 시도
+        int missing = summaryService.failClaims(owner, "Batch " + status.status() + " - 결과 없음");
+        log.info("Batch {} finished with status {} - completed: {}, failed: {}, missing: {}",
+            status.id(), status.status(), status.completedRequests(), status.failedRequests(), missing);
+    }
+
+    private void applyChunk(String owner, Map<Long, LlmBatchClient.Result> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        for (ApplicationSummary summary : summaryRepository.findByIdsWithAssociations(new ArrayList<>(results.keySet()))) {
+            LlmBatchClient.Result result = results.get(summary.getId());
+            ApplicationSummaryDto summaryDto = null;
+            AiProcessingException.ErrorType errorType = result.errorType();
+            String errorMessage = result.error();
+
+            if (result.isSuccess()) {
+                try {
+                    summaryDto = processingService.parseSummaryResponse(result.response().content(),
+                        summaryService.extractQuestions(summary));
+                } catch (Exception e) {
+                    errorType = RetryBackoffPolicy.classify(e);
+                    errorMessage = "응답 해석 실패 - " + e.getMessage();
+                }
+            }
+
+            if (summaryService.applyBulkResult(summary, owner, summaryDto, errorType, errorMessage)) {
+                if (summaryDto != null) {
+                    completedResults.increment();
+                } else {
+                    failedResults.increment();
+                }
+            }
+        }
+    }
+
+    private Long parseSummaryId(String customId) {
+        if (customId == null || !customId.startsWith(CUSTOM_ID_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(customId.substring(CUSTOM_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 대량 처리 통계 (모니터링용)
+     */
+    public BulkStats getStats() {
+        int activeBatches = (int) summaryRepository.findClaimOwnersLike(
+                BATCH_WORKER_PREFIX + "%", ApplicationSummary.ProcessingStatus.PROCESSING).stream()
+            .filter(owner -> !owner.startsWith(SUBMITTING_PREFIX))
+            .count();
+
+        return new BulkStats(activeBatches, submittedBatches.sum(), submittedRequests.sum(),
+            completedResults.sum(), failedResults.sum());
+    }
+
+    /**
+     * 대량 처리 통계
+     */
+    public static class BulkStats {
+        public final int activeBatches;
+        public final long submittedBatches;
+        public final long submittedRequests;
+        public final long completedResults;
+        public final long failedResults;
+
+        BulkStats(int activeBatches, long submittedBatches, long submittedRequests,
+                  long completedResults, long failedResults) {
+            this.activeBatches = activeBatches;
+            this.submittedBatches = submittedBatches;
+            this.submittedRequests = submittedRequests;
+            this.completedResults = completedResults;
+            this.failedResults = failedResults;
+        }
+    }
+}
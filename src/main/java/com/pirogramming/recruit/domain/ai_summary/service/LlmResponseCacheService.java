@@ -0,0 +1,179 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pirogramming.recruit.domain.ai_summary.entity.LlmResponseCache;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+import com.pirogramming.recruit.domain.ai_summary.repository.LlmResponseCacheRepository;
+import com.pirogramming.recruit.domain.ai_summary.util.ContentHashUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 응답 영구 캐시 서비스 (메모리 캐시 다음 단계)
+ * 재시작이나 장애 이후 같은 기수를 다시 처리해도 동일한 프롬프트는 DB에 저장된 응답을 사용
+ * 보관 기간(retention-days) 동안 적중하지 않은 응답은 주기적으로 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmResponseCacheService {
+
+    private final LlmResponseCacheRepository cacheRepository;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    private final ScheduledExecutorService purgeScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @Value("${ai.cache.persistent.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.cache.persistent.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${ai.cache.persistent.purge-interval-hours:6}")
+    private int purgeIntervalHours;
+
+    /**
+     * 애플리케이션 시작 시 만료 응답 정리 스케줄러 시작 (캐시를 꺼도 남아 있는 응답은 정리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPurge() {
+        long intervalHours = Math.max(1, purgeIntervalHours);
+        purgeScheduler.scheduleWithFixedDelay(this::purgeExpired, 5, TimeUnit.HOURS.toMinutes(intervalHours),
+            TimeUnit.MINUTES);
+        log.info("Persistent LLM cache purge scheduled - retention: {} days, interval: {}h", retentionDays, intervalHours);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeScheduler.shutdownNow();
+    }
+
+    /**
+     * 보관 기간 동안 적중하지 않은 응답 삭제, 삭제한 건수 반환
+     */
+    public int purgeExpired() {
+        try {
+            int deleted = cacheRepository.deleteLastUsedBefore(LocalDateTime.now().minusDays(Math.max(1, retentionDays)));
+            purged.add(deleted);
+            if (deleted > 0) {
+                log.info("Purged {} persistent LLM cache entries unused for {} days", deleted, retentionDays);
+            }
+            return deleted;
+        } catch (Exception e) {
+            log.warn("Failed to purge persistent LLM cache: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 저장된 모델 응답 조회 (적중 시 적중 횟수 기록)
+     */
+    @Transactional
+    public Optional<String> findResponse(String prompt, String templateVersion) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Optional<LlmResponseCache> cached = cacheRepository.findByPromptHashAndTemplateVersion(
+            ContentHashUtil.sha256Hex(prompt), templateVersion);
+
+        if (cached.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        LlmResponseCache entry = cached.get();
+        cacheRepository.recordHit(entry.getId(), LocalDateTime.now());
+        hits.increment();
+        log.info("Persistent LLM cache hit - template: {}, saved tokens: {}", templateVersion, entry.getTotalTokens());
+        return Optional.of(entry.getResponseJson());
+    }
+
+    /**
+     * 모델 응답 저장 (동일 프롬프트가 동시에 저장되면 먼저 저장된 응답 유지)
+     */
+    public void store(String prompt, String templateVersion, LlmResponse response) {
+        if (!enabled) {
+            return;
+        }
+
+        LlmResponseCache entry = LlmResponseCache.builder()
+            .promptHash(ContentHashUtil.sha256Hex(prompt))
+            .templateVersion(templateVersion)
+            .model(response.model())
+            .responseJson(response.content())
+            .promptTokens(response.promptTokens())
+            .completionTokens(response.completionTokens())
+            .latencyMs(response.latencyMillis())
+            .build();
+
+        try {
+            cacheRepository.saveAndFlush(entry);
+            stores.increment();
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Persistent LLM cache entry already exists - template: {}", templateVersion);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 요약 처리에 영향을 주지 않음
+            log.warn("Failed to store persistent LLM cache entry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 영구 캐시 통계 (모니터링용)
+     */
+    @Transactional(readOnly = true)
+    public PersistentCacheStats getStats() {
+        return new PersistentCacheStats(
+            cacheRepository.count(),
+            hits.sum(),
+            misses.sum(),
+            stores.sum(),
+            purged.sum(),
+            cacheRepository.sumHitCount(),
+            cacheRepository.sumSavedTokens()
+        );
+    }
+
+    /**
+     * 영구 캐시 통계
+     */
+    public static class PersistentCacheStats {
+        public final long totalEntries;
+        public final long hits;
+        public final long misses;
+        public final long stores;
+        public final long purged;
+        public final long totalHits;
+        public final long totalSavedTokens;
+
+        PersistentCacheStats(long totalEntries, long hits, long misses, long stores, long purged,
+                             long totalHits, long totalSavedTokens) {
+            this.totalEntries = totalEntries;
+            this.hits = hits;
+            this.misses = misses;
+            this.stores = stores;
+            this.purged = purged;
+            this.totalHits = totalHits;
+            this.totalSavedTokens = totalSavedTokens;
+        }
+    }
+}
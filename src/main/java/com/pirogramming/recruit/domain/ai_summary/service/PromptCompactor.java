@@ -0,0 +1,181 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
+import com.pirogramming.recruit.domain.ai_summary.infra.TokenEstimator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지원서 내용 토큰 예산 맞춤
+ * 예산 안이면 그대로 사용하고, 넘으면
+ * 1) 공백, 반복 문자(ㅋㅋㅋ, !!!), 연속 중복 문장을 정리하고
+ * 2) 그래도 넘으면 답변마다 공정 분배한 몫(짧은 답변은 그대로, 남는 몫을 긴 답변에 분배)만큼 잘라냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptCompactor {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern REPEATED_CHARS = Pattern.compile("([!?.~ㅋㅎㅠㅜ^])\\1{2,}");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
+    private static final String TRUNCATION_MARK = " …(이하 생략)";
+
+    // "Q: ", "\nA: ", 문항 사이 줄바꿈
+    private static final int PAIR_OVERHEAD_TOKENS = 6;
+    // 잘린 답변도 최소한 이만큼은 남김
+    private static final int MIN_ANSWER_TOKENS = 40;
+
+    private final TokenEstimator tokenEstimator;
+
+    @Value("${ai.prompt.content-token-budget:4000}")
+    private int contentTokenBudget;
+
+    /**
+     * 지원서 내용을 토큰 예산 안으로 맞춤
+     */
+    public List<ApplicationQuestionDto> fitToBudget(List<ApplicationQuestionDto> questions) {
+        if (questions == null || questions.isEmpty()) {
+            return questions;
+        }
+
+        int originalTokens = estimateContent(questions);
+        if (originalTokens <= contentTokenBudget) {
+            return questions;
+        }
+
+        // 1단계: 공백 / 반복 정리
+        List<ApplicationQuestionDto> collapsed = questions.stream()
+            .map(q -> new ApplicationQuestionDto(q.getQuestion(), collapse(q.getAnswer())))
+            .toList();
+        int collapsedTokens = estimateContent(collapsed);
+        if (collapsedTokens <= contentTokenBudget) {
+            log.info("Application content compacted: {} -> {} tokens (whitespace/repetition)", originalTokens, collapsedTokens);
+            return collapsed;
+        }
+
+        // 2단계: 답변별 공정 분배
+        List<ApplicationQuestionDto> trimmed = trimToFairShare(collapsed);
+        log.info("Application content compacted: {} -> {} tokens (fair-share trim, budget {})",
+            originalTokens, estimateContent(trimmed), contentTokenBudget);
+        return trimmed;
+    }
+
+    /**
+     * 지원서 내용의 예상 토큰 수
+     */
+    public int estimateContent(List<ApplicationQuestionDto> questions) {
+        int tokens = 0;
+        for (ApplicationQuestionDto question : questions) {
+            tokens += tokenEstimator.estimate(question.getQuestion())
+                + tokenEstimator.estimate(question.getAnswer())
+                + PAIR_OVERHEAD_TOKENS;
+        }
+        return tokens;
+    }
+
+    private String collapse(String answer) {
+        if (answer == null) {
+            return "";
+        }
+
+        String normalized = REPEATED_CHARS.matcher(WHITESPACE.matcher(answer).replaceAll(" ")).replaceAll("$1$1").trim();
+
+        // 연속으로 같은 문장이 반복되면 하나만 유지
+        StringBuilder builder = new StringBuilder(normalized.length());
+        String previous = null;
+        for (String sentence : SENTENCE_END.split(normalized)) {
+            if (sentence.equals(previous)) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(sentence);
+            previous = sentence;
+        }
+        return builder.toString();
+    }
+
+    private List<ApplicationQuestionDto> trimToFairShare(List<ApplicationQuestionDto> questions) {
+        int count = questions.size();
+        int questionTokens = 0;
+        int[] answerTokens = new int[count];
+        for (int i = 0; i < count; i++) {
+            questionTokens += tokenEstimator.estimate(questions.get(i).getQuestion()) + PAIR_OVERHEAD_TOKENS;
+            answerTokens[i] = tokenEstimator.estimate(questions.get(i).getAnswer());
+        }
+
+        int answerBudget = Math.max(MIN_ANSWER_TOKENS * count, contentTokenBudget - questionTokens);
+        int[] allowance = fairShare(answerTokens, answerBudget);
+
+        List<ApplicationQuestionDto> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ApplicationQuestionDto question = questions.get(i);
+            String answer = answerTokens[i] <= allowance[i]
+                ? question.getAnswer()
+                : truncateToTokens(question.getAnswer(), allowance[i]);
+            result.add(new ApplicationQuestionDto(question.getQuestion(), answer));
+        }
+        return result;
+    }
+
+    /**
+     * 짧은 답변부터 필요한 만큼 배정하고, 남은 예산을 나머지 답변에 균등 분배 (water-filling)
+     */
+    private int[] fairShare(int[] demands, int budget) {
+        int count = demands.length;
+        int[] allowance = new int[count];
+        Integer[] order = IntStream.range(0, count).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingInt(i -> demands[i]));
+
+        int remaining = budget;
+        for (int k = 0; k < count; k++) {
+            int index = order[k];
+            int share = remaining / (count - k);
+            allowance[index] = Math.min(demands[index], Math.max(MIN_ANSWER_TOKENS, share));
+            remaining = Math.max(0, remaining - allowance[index]);
+        }
+        return allowance;
+    }
+
+    /**
+     * 토큰 한도 안에 들어가는 가장 긴 앞부분을 찾아 문장 경계에서 자름
+     */
+    private String truncateToTokens(String answer, int maxTokens) {
+        int target = Math.max(1, maxTokens - tokenEstimator.estimate(TRUNCATION_MARK));
+
+        int low = 0;
+        int high = answer.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (tokenEstimator.estimate(answer.substring(0, mid)) <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // 잘린 끝이 문장 중간이면 마지막 20% 안의 문장 경계로 당김
+        int cut = low;
+        for (int i = low - 1; i > low * 4 / 5; i--) {
+            char c = answer.charAt(i);
+            if (c == '.' || c == '!' || c == '?') {
+                cut = i + 1;
+                break;
+            }
+        }
+        return answer.substring(0, cut).trim() + TRUNCATION_MARK;
+    }
+}
@@ -0,0 +1,179 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.pirogramming.recruit.domain.ai_summary.util.PromptTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 템플릿 레지스트리
+ * 템플릿은 기동 시 한 번만 컴파일하고, 버전은 요약 결과와 영구 캐시 키에 함께 기록
+ * 모든 고정 지시문을 앞에 두고 지원서 내용은 맨 끝에 배치하여
+ * 요청 간 동일한 앞부분이 OpenAI 프롬프트 캐시(prefix cache)로 처리되도록 함
+ */
+@Slf4j
+@Component
+public class PromptTemplateRegistry {
+
+    public static final String APPLICATION_SUMMARY = "application-summary";
+    // 짧은 지원서 여러 개를 한 번에 요약 (배열 응답)
+    public static final String MULTI_APPLICATION_SUMMARY = "multi-application-summary";
+
+    // 템플릿 내용을 바꾸면 버전도 올려야 이전 버전의 캐시 응답을 재사용하지 않음
+    private static final String APPLICATION_SUMMARY_VERSION = "summary-v2";
+    private static final String MULTI_APPLICATION_SUMMARY_VERSION = "summary-multi-v1";
+
+    private static final String APPLICATION_SUMMARY_INTRO = """
+            Analyze the university student application given at the end of this message for an IT development club recruitment.
+            Please respond in Korean language, but follow the English instructions below.
+
+            """;
+
+    // 단일/다중 지원서 템플릿 공통 지시문 (CLUB_INFORMATION, EVALUATION_GUIDELINES)
+    private static final String CLUB_INFORMATION = """
+            Club Information:
+            - Target: University students (both CS majors and non-majors)
+            - Type: IT development club focused on learning and collaboration
+            - Core Values: Collaboration (협업), Growth (성장), Passion (열정)
+            - Looking for: Students who can passionately focus for short periods and collaborate well with others
+
+            """;
+
+    private static final String APPLICATION_SUMMARY_FORMAT = """
+            Please respond in exactly this JSON format:
+            {
+              "questionSummaries": [
+                {
+                  "question": "original question text",
+                  "aiSummary": "Korean summary of this specific question and answer"
+                },
+                // ... repeat for each question
+              ],
+              "scoreOutOf100": evaluation_score_number_between_0_and_100,
+              "scoreReason": "Objective scoring rationale in Korean formal writing style"
+            }
+
+            """;
+
+    private static final String EVALUATION_GUIDELINES = """
+            For each question-answer pair:
+            - Provide a concise Korean summary (1-2 sentences) focusing on key points
+            - Highlight relevant skills, experiences, or attitudes shown in that specific answer
+            - Keep the original question text exactly as provided
+            - Do NOT include the original answer text in the response
+            - IMPORTANT: Use formal Korean writing style (문어체) - avoid casual endings like ~습니다, ~입니다. Use ~함, ~됨, ~임 instead
+
+            For scoreReason:
+            - Provide objective breakdown by evaluation criteria with specific point allocation
+            - Format: "열정 및 학습 태도: X/40점 - specific evidence. 협업 잠재력: Y/30점 - specific evidence. 기술적 기반: Z/20점 - specific evidence. 성장 마인드셋: W/10점 - specific evidence."
+            - Base points on concrete evidence from the answers, not subjective impressions
+            - IMPORTANT: Use formal Korean writing style (문어체) - avoid ~습니다, ~입니다 endings. Use ~함, ~됨, ~임, ~보임 instead
+
+            Evaluation Criteria (100 points total):
+            1. Passion & Learning Attitude (40 points):
+               - Enthusiasm for IT development and learning
+               - Self-learning ability and curiosity
+               - Willingness to challenge new technologies
+               
+            2. Collaboration Potential (30 points):
+               - Communication skills and teamwork experience
+               - Openness to feedback and different perspectives
+               - Leadership or mentoring experience
+               
+            3. Technical Foundation (20 points):
+               - Programming languages, frameworks, tools knowledge
+               - Project experience (personal, academic, or team projects)
+               - Problem-solving approach
+               
+            4. Growth Mindset (10 points):
+               - Willingness to learn from failures
+               - Goal-setting and improvement orientation
+               - Adaptability to club activities and short-term intensive projects
+
+            Scoring Guidelines:
+            - 90-100: Exceptional candidate with strong passion, collaboration skills, and technical foundation
+            - 80-89: Very good candidate with most qualities aligned with club values
+            - 70-79: Good candidate with solid foundation but some areas for development
+            - 60-69: Adequate candidate with basic qualifications
+            - 50-59: Below average candidate with limited alignment
+            - 0-49: Poor fit for the club
+
+            Important notes:
+            - Consider both CS majors and non-majors fairly
+            - Value learning potential over current technical level for beginners
+            - Emphasize collaboration and passion over pure technical skills
+            - All text values must be written in Korean using formal writing style (문어체)
+            - Avoid conversational endings (~습니다, ~입니다) and use formal endings (~함, ~됨, ~임, ~보임)
+            - Return only valid JSON without any additional text or markdown formatting
+
+            """;
+
+    private static final String APPLICATION_SUMMARY_SOURCE = APPLICATION_SUMMARY_INTRO + CLUB_INFORMATION
+            + APPLICATION_SUMMARY_FORMAT + EVALUATION_GUIDELINES + """
+            Application content:
+            {{applicationContent}}
+            """;
+
+    private static final String MULTI_APPLICATION_SUMMARY_INTRO = """
+            Analyze each of the university student applications given at the end of this message for an IT development club recruitment.
+            Evaluate every application independently - never compare applicants with each other or let one application affect another's summaries or score.
+            Please respond in Korean language, but follow the English instructions below.
+
+            """;
+
+    private static final String MULTI_APPLICATION_SUMMARY_FORMAT = """
+            Please respond in exactly this JSON format:
+            {
+              "applications": [
+                {
+                  "applicationId": "application id exactly as given in its header (e.g. A1)",
+                  "questionSummaries": [
+                    {
+                      "question": "original question text",
+                      "aiSummary": "Korean summary of this specific question and answer"
+                    },
+                    // ... repeat for each question of this application
+                  ],
+                  "scoreOutOf100": evaluation_score_number_between_0_and_100,
+                  "scoreReason": "Objective scoring rationale in Korean formal writing style"
+                },
+                // ... one entry for every application, in the given order
+              ]
+            }
+
+            """;
+
+    private static final String MULTI_APPLICATION_SUMMARY_SOURCE = MULTI_APPLICATION_SUMMARY_INTRO + CLUB_INFORMATION
+            + MULTI_APPLICATION_SUMMARY_FORMAT + EVALUATION_GUIDELINES + """
+            Applications:
+            {{applicationsContent}}
+            """;
+
+    private final Map<String, PromptTemplate> templates;
+
+    public PromptTemplateRegistry() {
+        this.templates = Map.of(
+            APPLICATION_SUMMARY, PromptTemplate.compile(
+                APPLICATION_SUMMARY, APPLICATION_SUMMARY_VERSION, APPLICATION_SUMMARY_SOURCE),
+            MULTI_APPLICATION_SUMMARY, PromptTemplate.compile(
+                MULTI_APPLICATION_SUMMARY, MULTI_APPLICATION_SUMMARY_VERSION, MULTI_APPLICATION_SUMMARY_SOURCE));
+
+        templates.forEach((name, template) -> log.info(
+            "Prompt template registered - name: {}, version: {}, static prefix: {} chars",
+            name, template.getVersion(), template.getStaticPrefix().length()));
+    }
+
+    /**
+     * 이름으로 템플릿 조회
+     */
+    public PromptTemplate get(String name) {
+        PromptTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown prompt template: " + name);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,97 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+
+/**
+ * 실패한 AI 요약 작업의 재시도 시점 계산 (지수 백오프 + 지터)
+ * - 대기 상한: 오류 유형별 기본 대기 × 2^(시도 횟수 - 1), 최대 max-delay
+ * - 실제 대기: 상한의 절반 + 나머지 절반 내 무작위 (equal jitter)
+ *   → 같은 장애로 한꺼번에 실패한 작업들이 같은 시각에 다시 몰리지 않음
+ */
+@Component
+public class RetryBackoffPolicy {
+
+    private final long baseDelaySeconds;
+    private final long maxDelaySeconds;
+    private final int maxAttempts;
+
+    public RetryBackoffPolicy(
+            @Value("${ai.batch.processing.retry.delay:300}") long baseDelaySeconds,
+            @Value("${ai.batch.processing.retry.max-delay:3600}") long maxDelaySeconds,
+            @Value("${ai.batch.processing.retry.max-attempts:3}") int maxAttempts) {
+        this.baseDelaySeconds = Math.max(1, baseDelaySeconds);
+        this.maxDelaySeconds = Math.max(this.baseDelaySeconds, maxDelaySeconds);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 재시도 가능한 최대 실패 횟수
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getMaxDelaySeconds() {
+        return maxDelaySeconds;
+    }
+
+    /**
+     * 오류 유형별 첫 재시도 기본 대기 (초)
+     */
+    public long baseDelaySeconds(AiProcessingException.ErrorType errorType) {
+        return switch (errorType) {
+            // 한도 초과는 한도가 회복될 때까지 길게 대기
+            case API_LIMIT_EXCEEDED -> baseDelaySeconds * 2;
+            // 응답 형식/파싱/검증 오류는 다시 호출하면 성공하는 경우가 많아 짧게 대기
+            case INVALID_RESPONSE_FORMAT, PARSING_ERROR, VALIDATION_ERROR -> Math.max(30, baseDelaySeconds / 5);
+            default -> baseDelaySeconds;
+        };
+    }
+
+    /**
+     * attempt번째 실패 후 다음 시도 시각
+     */
+    public LocalDateTime nextAttemptAt(AiProcessingException.ErrorType errorType, int attempt) {
+        return LocalDateTime.now().plus(backoff(errorType, attempt));
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간 (지터 포함)
+     */
+    public Duration backoff(AiProcessingException.ErrorType errorType, int attempt) {
+        long ceiling = ceilingSeconds(errorType, attempt);
+        long half = ceiling / 2;
+        return Duration.ofSeconds(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+
+    /**
+     * attempt번째 실패 후 대기 상한 (초, 실제 대기는 상한의 절반 ~ 상한)
+     */
+    public long ceilingSeconds(AiProcessingException.ErrorType errorType, int attempt) {
+        int exponent = Math.max(0, Math.min(30, attempt - 1));
+        long delay = baseDelaySeconds(errorType) << exponent;
+        return Math.min(maxDelaySeconds, delay);
+    }
+
+    /**
+     * 예외 원인 체인에서 오류 유형 추출 (분류된 예외가 없으면 UNKNOWN)
+     */
+    public static AiProcessingException.ErrorType classify(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof AiProcessingException aiException) {
+                return aiException.getErrorType();
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return AiProcessingException.ErrorType.UNKNOWN;
+    }
+}
@@ -0,0 +1,135 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pirogramming.recruit.domain.ai_summary.repository.ApplicationSummaryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 이전 Key-Value 요약(application_summary_items)을 jsonb 문서(application_summary.summary)로 이관
+ * 문서가 없는 행만 일정 단위로 옮기므로 여러 번 실행되어도 안전하며, 이관이 끝난 뒤에는 테이블 확인만 수행
+ * 이전 테이블은 롤백에 대비해 삭제하지 않음 (운영 확인 후 수동 삭제)
+ * 질문별 요약 원문은 행마다 먼저 검증하여, JSON 배열이 아닌 행은 빈 배열로 이관하고 ID를 로그로 남김
+ * (잘못된 행 하나 때문에 같은 단위가 기동할 때마다 실패하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SummaryDocumentMigrator implements ApplicationRunner {
+
+    private static final int MIGRATION_CHUNK_SIZE = 500;
+
+    private final ApplicationSummaryRepository summaryRepository;
+    // jsonb가 거부하는 입력(뒤에 남은 내용)도 잘못된 행으로 판단
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+        .build();
+
+    @Value("${ai.summary.migrate-legacy-items:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (!summaryRepository.legacyItemsTableExists()) {
+                return;
+            }
+
+            int total = 0;
+            int malformed = 0;
+            int chunkSize;
+            do {
+                List<Object[]> rows = summaryRepository.findLegacyQuestionSummaries(MIGRATION_CHUNK_SIZE);
+                Set<Long> ids = new LinkedHashSet<>();
+                Set<Long> malformedIds = new LinkedHashSet<>();
+                for (Object[] row : rows) {
+                    Long id = ((Number) row[0]).longValue();
+                    ids.add(id);
+                    if (row[1] != null && !isJsonArray((String) row[1])) {
+                        malformedIds.add(id);
+                    }
+                }
+                chunkSize = ids.size();
+                if (chunkSize == 0) {
+                    break;
+                }
+                if (!malformedIds.isEmpty()) {
+                    log.warn("Legacy AI summaries with malformed questionSummaries, migrating with empty list: {}",
+                        malformedIds);
+                }
+
+                total += migrateChunk(new ArrayList<>(ids), new ArrayList<>(malformedIds));
+                malformed += malformedIds.size();
+            } while (chunkSize == MIGRATION_CHUNK_SIZE);
+
+            if (total > 0) {
+                log.info("Migrated {} AI summaries from application_summary_items to jsonb documents ({} malformed)",
+                    total, malformed);
+            }
+        } catch (Exception e) {
+            // 이관 실패가 기동을 막지 않도록 함 (다음 기동 시 남은 행부터 다시 시도)
+            log.error("Failed to migrate legacy AI summary items", e);
+        }
+    }
+
+    /**
+     * 한 단위 이관 (단위 전체가 실패하면 행 단위로 다시 시도하고, 그래도 실패한 행은 질문별 요약 없이 이관)
+     */
+    private int migrateChunk(List<Long> ids, List<Long> malformedIds) {
+        try {
+            return summaryRepository.migrateLegacyItems(ids, withSentinel(malformedIds));
+        } catch (Exception e) {
+            log.warn("Legacy AI summary chunk migration failed, retrying row by row: {}", e.getMessage());
+        }
+
+        int migrated = 0;
+        for (Long id : ids) {
+            List<Long> single = List.of(id);
+            try {
+                migrated += summaryRepository.migrateLegacyItems(single,
+                    withSentinel(malformedIds.contains(id) ? single : List.of()));
+            } catch (Exception e) {
+                log.warn("Legacy AI summary ID: {} could not be migrated as is, migrating with empty list: {}",
+                    id, e.getMessage());
+                migrated += summaryRepository.migrateLegacyItems(single, single);
+            }
+        }
+        return migrated;
+    }
+
+    // IN ()은 SQL 오류이므로 비어 있으면 존재하지 않는 ID 하나를 넣음
+    private List<Long> withSentinel(List<Long> ids) {
+        return ids.isEmpty() ? List.of(-1L) : ids;
+    }
+
+    private boolean isJsonArray(String value) {
+        // jsonb는 \u0000 문자를 저장할 수 없음
+        if (value.contains("\\u0000")) {
+            return false;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(value);
+            return node != null && node.isArray();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다중 패턴 매칭 오토마톤 (Aho-Corasick)
+ * 패턴 수와 관계없이 입력을 한 번만 훑으며, 문자마다 상태 전이 한 번으로 그 위치에서 끝나는 패턴을 확인
+ * 실패 링크를 전이표에 미리 반영한 DFA로 구성 - 생성 후 불변이므로 스레드 안전
+ * 일치 결과는 패턴 순번의 비트마스크 (패턴 최대 64개)
+ */
+public final class AhoCorasickMatcher {
+
+    public static final int ROOT = 0;
+    private static final int MAX_PATTERNS = Long.SIZE;
+
+    private final String[] patterns;
+    // 문자 → 알파벳 번호 (0은 패턴에 없는 문자 - 항상 루트로 전이)
+    private final int[] asciiClasses = new int[128];
+    private final Map<Character, Integer> otherClasses = new HashMap<>();
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final long[] outputs;
+
+    public AhoCorasickMatcher(List<String> patterns) {
+        if (patterns.isEmpty() || patterns.size() > MAX_PATTERNS) {
+            throw new IllegalArgumentException("Pattern count must be between 1 and " + MAX_PATTERNS);
+        }
+        this.patterns = patterns.toArray(String[]::new);
+
+        int classes = 1;
+        for (String pattern : this.patterns) {
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty pattern");
+            }
+            for (char c : pattern.toCharArray()) {
+                if (classOf(c) == 0) {
+                    if (c < 128) {
+                        asciiClasses[c] = classes++;
+                    } else {
+                        otherClasses.put(c, classes++);
+                    }
+                }
+            }
+        }
+        this.alphabetSize = classes;
+
+        // 1) 트라이 구성
+        List<int[]> children = new ArrayList<>();
+        List<Long> trieOutputs = new ArrayList<>();
+        children.add(newNode());
+        trieOutputs.add(0L);
+        for (int i = 0; i < this.patterns.length; i++) {
+            int state = ROOT;
+            for (char c : this.patterns[i].toCharArray()) {
+                int cls = classOf(c);
+                if (children.get(state)[cls] < 0) {
+                    children.get(state)[cls] = children.size();
+                    children.add(newNode());
+                    trieOutputs.add(0L);
+                }
+                state = children.get(state)[cls];
+            }
+            trieOutputs.set(state, trieOutputs.get(state) | (1L << i));
+        }
+
+        // 2) 너비 우선으로 실패 링크를 따라가며 전이표와 출력 완성 (얕은 상태가 먼저 확정됨)
+        int stateCount = children.size();
+        this.transitions = new int[stateCount * alphabetSize];
+        this.outputs = new long[stateCount];
+        int[] fail = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            int child = children.get(ROOT)[cls];
+            if (child > 0) {
+                fail[child] = ROOT;
+                transitions[cls] = child;
+                queue.add(child);
+            } else {
+                transitions[cls] = ROOT;
+            }
+        }
+        outputs[ROOT] = trieOutputs.get(ROOT);
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = trieOutputs.get(state) | outputs[fail[state]];
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int child = children.get(state)[cls];
+                int fallback = transitions[fail[state] * alphabetSize + cls];
+                if (child > 0) {
+                    fail[child] = fallback;
+                    transitions[state * alphabetSize + cls] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * alphabetSize + cls] = fallback;
+                }
+            }
+        }
+    }
+
+    private int[] newNode() {
+        int[] node = new int[alphabetSize];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    private int classOf(char c) {
+        if (c < 128) {
+            return asciiClasses[c];
+        }
+        Integer cls = otherClasses.get(c);
+        return cls != null ? cls : 0;
+    }
+
+    /**
+     * 다음 상태
+     */
+    public int next(int state, char c) {
+        return transitions[state * alphabetSize + classOf(c)];
+    }
+
+    /**
+     * 해당 상태에서 끝나는 패턴들 (패턴 순번 비트마스크, 없으면 0)
+     */
+    public long matches(int state) {
+        return outputs[state];
+    }
+
+    public String pattern(int index) {
+        return patterns[index];
+    }
+}
@@ -0,0 +1,87 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
+
+/**
+ * 지원서 원본 답변들의 shingle 집합
+ * 지원서를 처리할 때 한 번만 만들고, AI 요약 검증 시 질문별 요약마다 재사용
+ * 답변별 집합은 처음 비교할 때 만들어 보관 (검사 대상 길이의 요약이 없으면 만들지 않음)
+ * 포함 비율은 MinHash 서명 추정 대신 집합으로 직접 계산
+ * (짧은 요약과 긴 답변은 Jaccard가 작아 서명으로 추정한 포함 비율의 오차가 큼)
+ */
+public final class AnswerFingerprints {
+
+    private static final AnswerFingerprints NONE = new AnswerFingerprints(List.of());
+
+    private final List<String> answers;
+    // 답변별 shingle 해시 (오름차순, 처음 비교할 때 생성)
+    private final long[][] shingles;
+
+    private AnswerFingerprints(List<String> answers) {
+        this.answers = answers;
+        this.shingles = new long[answers.size()][];
+    }
+
+    public static AnswerFingerprints of(List<ApplicationQuestionDto> questions) {
+        if (questions == null || questions.isEmpty()) {
+            return NONE;
+        }
+        return new AnswerFingerprints(questions.stream()
+            .filter(Objects::nonNull)
+            .map(ApplicationQuestionDto::getAnswer)
+            .filter(answer -> answer != null && answer.chars().anyMatch(Character::isLetterOrDigit))
+            .toList());
+    }
+
+    /**
+     * 원본 답변 없음 (검증 시 기존 휴리스틱 사용)
+     */
+    public static AnswerFingerprints none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return answers.isEmpty();
+    }
+
+    /**
+     * 요약이 원본 답변을 그대로 옮긴 정도 (0~1)
+     * 요약의 서로 다른 shingle 중 한 답변에도 있는 비율(|S∩A| / |S|)의 최댓값 (질문 문구가 달라도 모든 답변과 비교)
+     * 비용: 요약 shingle 수 × 답변 수 × log(답변 shingle 수)
+     */
+    public double leakage(String aiSummary) {
+        if (answers.isEmpty()) {
+            return 0;
+        }
+        long[] summary = MinHashFingerprint.shingles(aiSummary);
+        if (summary.length == 0) {
+            return 0;
+        }
+        int max = 0;
+        for (int i = 0; i < answers.size(); i++) {
+            long[] answer = answerShingles(i);
+            int shared = 0;
+            for (long shingle : summary) {
+                if (Arrays.binarySearch(answer, shingle) >= 0) {
+                    shared++;
+                }
+            }
+            max = Math.max(max, shared);
+        }
+        return (double) max / summary.length;
+    }
+
+    // 한 지원서의 요약은 순서대로 검증되므로 (스트리밍 조각 전달도 순차) 잠금 없이 보관
+    private long[] answerShingles(int index) {
+        long[] answer = shingles[index];
+        if (answer == null) {
+            answer = MinHashFingerprint.shingles(answers.get(index));
+            shingles[index] = answer;
+        }
+        return answer;
+    }
+}
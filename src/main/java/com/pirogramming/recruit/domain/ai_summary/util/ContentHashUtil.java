@@ -0,0 +1,47 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 콘텐츠 해시 유틸리티
+ * 캐시 키 등 내용 기반 식별자를 만들기 위한 SHA-256 해시
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentHashUtil {
+
+    // 필드 구분자 (일반 텍스트에 나오지 않는 제어 문자 사용 - 경계가 다른 입력끼리 같은 해시가 되지 않도록)
+    private static final char FIELD_SEPARATOR = '\u001F';
+
+    /**
+     * 문자열의 SHA-256 해시 (16진수 소문자)
+     */
+    public static String sha256Hex(String content) {
+        return HexFormat.of().formatHex(sha256(content == null ? "" : content));
+    }
+
+    /**
+     * 여러 필드를 구분자로 이어 붙인 SHA-256 해시
+     */
+    public static String sha256Hex(Iterable<String> fields) {
+        StringBuilder builder = new StringBuilder();
+        for (String field : fields) {
+            builder.append(field == null ? "" : field).append(FIELD_SEPARATOR);
+        }
+        return sha256Hex(builder.toString());
+    }
+
+    private static byte[] sha256(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현이 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
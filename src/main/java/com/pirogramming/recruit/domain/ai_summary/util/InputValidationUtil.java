@@ -1,6 +1,8 @@
 package com.pirogramming.recruit.domain.ai_summary.util;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.http.HttpStatus;
@@ -18,6 +20,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class InputValidationUtil {
     
+    // 지원서 전체 질문/답변 길이 한도 (DoS 방지 - 한도 안의 긴 답변은 프롬프트 생성 시 토큰 예산에 맞춰 축약)
+    public static final int MAX_FORM_CONTENT_LENGTH = 30000;
+    
     /**
      * ID 값 검증
      */
@@ -83,6 +88,22 @@ public final class InputValidationUtil {
         }
     }
     
+    /**
+     * 폼 입력 전체 길이 검증 (한도를 넘으면 일부 답변만 버리지 않고 지원서 전체를 거절)
+     */
+    public static void validateFormContentLength(Collection<? extends Map.Entry<String, ?>> entries) {
+        long totalLength = 0;
+        for (Map.Entry<String, ?> entry : entries) {
+            totalLength += Objects.toString(entry.getKey(), "").length()
+                + Objects.toString(entry.getValue(), "").length();
+        }
+        
+        if (totalLength > MAX_FORM_CONTENT_LENGTH) {
+            throw new RecruitException(HttpStatus.BAD_REQUEST, 
+                String.format("전체 지원서 내용이 너무 깁니다 (최대 %d자).", MAX_FORM_CONTENT_LENGTH));
+        }
+    }
+    
     /**
      * 폼 입력값 유효성 검증 (고도화된 프롬프트 인젝션 방어)
      * ApplicationSummaryService에서 이동
@@ -93,8 +114,8 @@ public final class InputValidationUtil {
         
         String valueStr = Objects.toString(value, "");
         
-        // 길이 제한 (DoS 방지) - 각 질문/답변 당
-        if (key.length() > 500 || valueStr.length() > 2000) {
+        // 질문 길이 제한 - 답변 길이는 전체 한도(validateFormContentLength)로 제한하고 토큰 예산 초과분은 프롬프트 생성 시 축약
+        if (key.length() > 500) {
             return false;
         }
         
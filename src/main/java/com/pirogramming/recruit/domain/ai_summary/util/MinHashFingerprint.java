@@ -0,0 +1,147 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import java.util.Arrays;
+
+/**
+ * 텍스트의 k-gram shingle MinHash 지문
+ * - 글자/숫자만 남기고 소문자로 바꾼 뒤 연속 SHINGLE_SIZE 글자 조각(shingle)을 해시
+ *   (띄어쓰기, 문장부호 차이에 영향받지 않음)
+ * - 해시 함수 SIGNATURE_SIZE 개 각각의 최솟값을 서명으로 저장 → 두 텍스트의 Jaccard 유사도를
+ *   서명 비교만으로 추정 (원문 길이와 무관하게 일정한 비용)
+ * 불변 객체 (스레드 안전)
+ */
+public final class MinHashFingerprint {
+
+    public static final int SHINGLE_SIZE = 5;
+    public static final int SIGNATURE_SIZE = 64;
+
+    // 해시 함수별 시드 (고정값 - 지문끼리 비교 가능해야 함)
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private static final MinHashFingerprint EMPTY = new MinHashFingerprint(new long[SIGNATURE_SIZE], 0);
+
+    private final long[] signature;
+    private final int shingleCount;
+
+    private MinHashFingerprint(long[] signature, int shingleCount) {
+        this.signature = signature;
+        this.shingleCount = shingleCount;
+    }
+
+    /**
+     * 텍스트 지문 생성 (텍스트 길이에 비례)
+     */
+    public static MinHashFingerprint of(String text) {
+        long[] shingles = shingles(text);
+        if (shingles.length == 0) {
+            return EMPTY;
+        }
+
+        long[] signature = new long[SIGNATURE_SIZE];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                long hash = mix(shingle ^ SEEDS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return new MinHashFingerprint(signature, shingles.length);
+    }
+
+    /**
+     * 텍스트의 서로 다른 shingle 해시 (오름차순 정렬, 짧은 텍스트는 전체를 shingle 하나로)
+     * 서명 대신 집합을 직접 비교해야 할 때 사용 (포함 비율처럼 길이 차이가 큰 두 텍스트 비교)
+     */
+    public static long[] shingles(String text) {
+        if (text == null) {
+            return new long[0];
+        }
+
+        char[] normalized = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized[length++] = Character.toLowerCase(c);
+            }
+        }
+        if (length == 0) {
+            return new long[0];
+        }
+
+        int size = Math.min(SHINGLE_SIZE, length);
+        long[] hashes = new long[length - size + 1];
+        for (int start = 0; start + size <= length; start++) {
+            long hash = 1125899906842597L;
+            for (int i = start; i < start + size; i++) {
+                hash = 31 * hash + normalized[i];
+            }
+            hashes[start] = hash;
+        }
+        return distinctSorted(hashes);
+    }
+
+    private static long[] distinctSorted(long[] values) {
+        Arrays.sort(values);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[count++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    public boolean isEmpty() {
+        return shingleCount == 0;
+    }
+
+    public int getShingleCount() {
+        return shingleCount;
+    }
+
+    /**
+     * Jaccard 유사도 추정 (서명 중 일치하는 비율)
+     */
+    public double jaccard(MinHashFingerprint other) {
+        if (isEmpty() || other.isEmpty()) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (signature[i] == other.signature[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    /**
+     * LSH 버킷 키 (서명을 rows개씩 나눈 band 구간의 해시)
+     * 두 지문의 같은 band 키가 같을 확률 = J^rows → 하나라도 같을 확률 = 1 - (1 - J^rows)^bands
+     */
+    public long bandKey(int band, int rows) {
+        long hash = mix(band + 1L);
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = mix(hash ^ signature[i]);
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
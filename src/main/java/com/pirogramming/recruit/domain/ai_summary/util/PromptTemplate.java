@@ -0,0 +1,91 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ * {{name}} 자리표시자를 기준으로 고정 문자열 조각과 변수 이름 배열로 나눠 두고,
+ * 렌더링 시에는 조각을 순서대로 이어 붙이기만 함 (매 호출마다 포맷 문자열을 다시 해석하지 않음)
+ */
+public final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([A-Za-z][A-Za-z0-9_]*)\\s*}}");
+
+    private final String name;
+    private final String version;
+    // literals.length == variables.length + 1 (변수 앞뒤의 고정 문자열)
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private PromptTemplate(String name, String version, String[] literals, String[] variables) {
+        this.name = name;
+        this.version = version;
+        this.literals = literals;
+        this.variables = variables;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 원문을 고정 조각 / 변수 배열로 컴파일
+     */
+    public static PromptTemplate compile(String name, String version, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(last, matcher.start()));
+            variables.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(source.substring(last));
+
+        return new PromptTemplate(name, version, literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    /**
+     * 변수 값을 채워 프롬프트 생성
+     */
+    public String render(Map<String, String> values) {
+        int capacity = literalLength;
+        for (String variable : variables) {
+            String value = values.get(variable);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing prompt template variable: " + variable + " (" + name + ")");
+            }
+            capacity += value.length();
+        }
+
+        StringBuilder builder = new StringBuilder(capacity);
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(literals[i]).append(values.get(variables[i]));
+        }
+        return builder.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * 첫 번째 변수 앞의 고정 문자열 (모든 요청이 공유하는 프롬프트 앞부분)
+     */
+    public String getStaticPrefix() {
+        return literals[0];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
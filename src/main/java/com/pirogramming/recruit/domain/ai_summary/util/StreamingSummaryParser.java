@@ -0,0 +1,257 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+
+/**
+ * 요약 JSON 증분 파서 (Jackson non-blocking parser)
+ * 스트리밍 응답 조각을 받는 즉시 파싱하여, questionSummaries 항목이 하나 완성될 때마다 바로 전달하고
+ * 루트 객체가 끝나면 점수와 근거를 전달
+ * 읽는 동안 필수 필드 존재 여부를 확인하고 결과 DTO를 함께 만들므로,
+ * 전체 응답도 문자열 탐색/복사나 트리 변환 없이 한 번에 읽어 DTO로 변환 (parse)
+ * 한 인스턴스는 응답 하나에만 사용 (스레드 안전하지 않음)
+ */
+public class StreamingSummaryParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Listener listener; // null이면 결과만 수집
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // 루트 객체 기준 깊이 (1: 루트, 2: questionSummaries 배열, 3: 항목 객체)
+    private int depth = 0;
+    private String rootField;
+    private boolean inQuestionSummaries;
+    private String itemField;
+    private String itemQuestion;
+    private String itemSummary;
+    private int itemIndex = 0;
+
+    private final List<ApplicationSummaryDto.QuestionSummaryDto> questionSummaries = new ArrayList<>();
+    private Integer score;
+    private String scoreReason;
+    private boolean completed;
+
+    // 필수 필드 확인
+    private boolean hasQuestionSummaries;
+    private boolean hasScore;
+    private boolean hasScoreReason;
+
+    public StreamingSummaryParser() {
+        this(null);
+    }
+
+    public StreamingSummaryParser(Listener listener) {
+        this.listener = listener;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 전체 응답을 한 번에 읽어 DTO로 변환 (JSON 앞의 설명 문구 등은 건너뜀)
+     * 형식 오류나 필수 필드 누락 시 AiProcessingException
+     */
+    public static ApplicationSummaryDto parse(String response) {
+        if (response == null || response.isBlank()) {
+            throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT,
+                "AI 서비스 응답이 비어있습니다.");
+        }
+
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+        while (start < bytes.length && bytes[start] != '{') {
+            start++;
+        }
+        if (start == bytes.length) {
+            throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT,
+                "AI 응답에서 유효한 JSON 구조를 찾을 수 없습니다.");
+        }
+
+        StreamingSummaryParser parser = new StreamingSummaryParser();
+        parser.feed(bytes, start, bytes.length - start);
+        parser.finish();
+        return parser.getResult();
+    }
+
+    /**
+     * 응답 조각 입력 (완성된 토큰까지 즉시 처리)
+     */
+    public void feed(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+        feed(bytes, 0, bytes.length);
+    }
+
+    private void feed(byte[] bytes, int offset, int length) {
+        if (completed) {
+            return;
+        }
+        try {
+            feeder.feedInput(bytes, offset, offset + length);
+            drain();
+        } catch (IOException e) {
+            throw new AiProcessingException(AiProcessingException.ErrorType.PARSING_ERROR,
+                "AI 스트리밍 응답 JSON 파싱에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 입력 종료 - 루트 객체가 끝나지 않았거나 필수 필드가 없으면 형식 오류
+     */
+    public void finish() {
+        if (!completed) {
+            feeder.endOfInput();
+            try {
+                drain();
+            } catch (JsonEOFException e) {
+                // 객체/문자열 중간에서 입력이 끝남 (응답 잘림) - 아래의 미완료 응답과 같은 형식 오류로 처리
+            } catch (IOException e) {
+                throw new AiProcessingException(AiProcessingException.ErrorType.PARSING_ERROR,
+                    "AI 스트리밍 응답 JSON 파싱에 실패했습니다.", e);
+            }
+        }
+        if (!completed) {
+            throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT,
+                "AI 스트리밍 응답이 완전한 JSON으로 끝나지 않았습니다.");
+        }
+        if (!hasQuestionSummaries || !hasScore || !hasScoreReason) {
+            throw new AiProcessingException(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT,
+                "AI 응답에 필수 필드가 누락되었습니다.");
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 파싱 결과 (finish 이후 호출, 검증/정제 전 원본)
+     */
+    public ApplicationSummaryDto getResult() {
+        return new ApplicationSummaryDto(questionSummaries, score != null ? score : 0, scoreReason);
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token);
+        }
+    }
+
+    private void handle(JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT, START_ARRAY -> {
+                depth++;
+                if (depth == 2 && token == JsonToken.START_ARRAY && "questionSummaries".equals(rootField)) {
+                    inQuestionSummaries = true;
+                    hasQuestionSummaries = true;
+                } else if (depth == 3 && inQuestionSummaries && token == JsonToken.START_OBJECT) {
+                    itemQuestion = null;
+                    itemSummary = null;
+                }
+            }
+            case END_OBJECT, END_ARRAY -> {
+                if (depth == 3 && inQuestionSummaries && token == JsonToken.END_OBJECT) {
+                    ApplicationSummaryDto.QuestionSummaryDto item =
+                        new ApplicationSummaryDto.QuestionSummaryDto(itemQuestion, itemSummary);
+                    questionSummaries.add(item);
+                    if (listener != null) {
+                        listener.onQuestionSummary(itemIndex, item);
+                    }
+                    itemIndex++;
+                } else if (depth == 2 && inQuestionSummaries) {
+                    inQuestionSummaries = false;
+                } else if (depth == 1) {
+                    completed = true;
+                    if (listener != null) {
+                        listener.onScore(score != null ? score : 0, scoreReason);
+                    }
+                }
+                depth--;
+                if (depth == 1) {
+                    rootField = null;
+                }
+            }
+            case FIELD_NAME -> {
+                if (depth == 1) {
+                    rootField = parser.currentName();
+                } else if (depth == 3 && inQuestionSummaries) {
+                    itemField = parser.currentName();
+                }
+            }
+            default -> handleValue(token);
+        }
+    }
+
+    private void handleValue(JsonToken token) throws IOException {
+        if (depth == 3 && inQuestionSummaries) {
+            if ("question".equals(itemField)) {
+                itemQuestion = parser.getValueAsString();
+            } else if ("aiSummary".equals(itemField)) {
+                itemSummary = parser.getValueAsString();
+            }
+            return;
+        }
+
+        if (depth == 1) {
+            if ("scoreOutOf100".equals(rootField)) {
+                hasScore = true;
+                score = readScore(token);
+            } else if ("scoreReason".equals(rootField)) {
+                hasScoreReason = true;
+                scoreReason = parser.getValueAsString();
+            } else if ("questionSummaries".equals(rootField) && token == JsonToken.VALUE_NULL) {
+                hasQuestionSummaries = true;
+            }
+            rootField = null;
+        }
+    }
+
+    private Integer readScore(JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            return (int) Math.round(parser.getValueAsDouble());
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        // "78" 처럼 문자열로 오는 경우
+        try {
+            return Integer.parseInt(parser.getText().trim());
+        } catch (NumberFormatException e) {
+            throw new AiProcessingException(AiProcessingException.ErrorType.PARSING_ERROR,
+                "AI 응답의 점수 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    /**
+     * 파싱 결과 수신
+     */
+    public interface Listener {
+        /**
+         * questionSummaries 항목 하나가 완성됨
+         */
+        void onQuestionSummary(int index, ApplicationSummaryDto.QuestionSummaryDto questionSummary);
+
+        /**
+         * 루트 객체가 끝남 (점수, 근거 확정)
+         */
+        void onScore(int scoreOutOf100, String scoreReason);
+    }
+}
@@ -1,16 +1,88 @@
 package com.pirogramming.recruit.domain.ai_summary.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 /**
  * 텍스트 정제 및 보안 유틸리티
  * ApplicationProcessingService와 ApplicationSummaryService의 중복 로직 통합
+ * 정제(제어 문자 제거, 공백 정규화, 패턴 치환)와 위험 패턴 탐지는 모두 입력을 한 번만 훑으며 수행
+ * - 패턴 탐지/치환: 미리 만들어 둔 Aho-Corasick 오토마톤 (패턴 수와 무관)
+ * - 결과는 스레드별로 재사용하는 버퍼에 기록
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TextSanitizerUtil {
     
     private static final int DEFAULT_MAX_LENGTH = 1000;
+    // 이보다 커진 버퍼는 재사용하지 않음 (큰 입력 한 번으로 메모리를 계속 점유하지 않도록)
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    
+    // 1. 직접적인 명령어 패턴
+    private static final String[] DIRECT_COMMANDS = {
+        "ignore", "forget", "disregard", "override", "replace", "update", "modify",
+        "new instructions", "different task", "change role", "act as", "you are now",
+        "pretend", "simulate", "roleplay", "behave as"
+    };
+    
+    // 2. 시스템 메시지 패턴
+    private static final String[] SYSTEM_PATTERNS = {
+        "system:", "assistant:", "user:", "human:", "ai:", "gpt:", "model:",
+        "[system]", "[assistant]", "[user]", "[human]", "<system>", "</system>"
+    };
+    
+    // 3. 출력 형식 조작 패턴
+    private static final String[] OUTPUT_PATTERNS = {
+        "output only", "respond with", "answer with", "reply with", "return only",
+        "don't include", "exclude", "omit", "skip", "bypass"
+    };
+    
+    // 4. 부적절한 내용 (AI 요약 검증용)
+    private static final String[] INAPPROPRIATE_PATTERNS = {
+        "개인정보", "전화번호", "주소", "이메일",
+        "비밀번호", "주민등록번호", "password", "email"
+    };
+    
+    // 특수 마크다운/프롬프트 패턴 치환 규칙 (같은 위치에서 여러 규칙이 끝나면 앞 규칙 우선)
+    private static final String[][] REPLACEMENTS = {
+        {"```", "'''"},
+        {"---", "—"},
+        {"###", ""},
+        {"**", ""},
+        {"<!--", "<comment>"},
+        {"-->", "</comment>"}
+    };
+    
+    // 탐지 패턴 전체를 하나의 오토마톤으로 구성하고, 패턴 순번 비트마스크로 종류 구분
+    private static final AhoCorasickMatcher DETECTOR;
+    private static final long INJECTION_MASK;
+    private static final long INAPPROPRIATE_MASK;
+    private static final AhoCorasickMatcher REPLACER;
+    
+    static {
+        List<String> patterns = new ArrayList<>();
+        INJECTION_MASK = addPatterns(patterns, DIRECT_COMMANDS)
+            | addPatterns(patterns, SYSTEM_PATTERNS)
+            | addPatterns(patterns, OUTPUT_PATTERNS);
+        INAPPROPRIATE_MASK = addPatterns(patterns, INAPPROPRIATE_PATTERNS);
+        DETECTOR = new AhoCorasickMatcher(patterns);
+        
+        REPLACER = new AhoCorasickMatcher(Arrays.stream(REPLACEMENTS).map(rule -> rule[0]).toList());
+    }
+    
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+    
+    private static long addPatterns(List<String> patterns, String[] group) {
+        long mask = 0;
+        for (String pattern : group) {
+            mask |= 1L << patterns.size();
+            patterns.add(pattern.toLowerCase());
+        }
+        return mask;
+    }
     
     /**
      * 기본 텍스트 정제 (1000자 제한)
@@ -21,45 +93,76 @@ public final class TextSanitizerUtil {
     
     /**
      * 텍스트 정제 (길이 제한 및 유해 콘텐츠 제거)
+     * 제어 문자 제거(탭, 줄바꿈 제외) → 연속 공백을 공백 하나로 → 앞뒤 공백 제거 → 길이 제한
+     * 길이 제한을 넘는 것이 확인되면 나머지 입력은 읽지 않음
      */
     public static String sanitize(String text, int maxLength) {
         if (text == null) return "";
         
-        String cleaned = text
-            .replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "") // 제어 문자 제거 (탭, 줄바꿈 제외)
-            .replaceAll("\\s+", " ") // 연속 공백 정규화
-            .trim();
+        StringBuilder out = BUFFER.get().begin(0);
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isRemovedControl(c)) {
+                continue;
+            }
+            if (isWhitespace(c)) {
+                // 앞쪽 공백은 버리고, 뒤쪽 공백은 다음 문자가 올 때만 기록
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(c);
+            if (maxLength > 3 && out.length() > maxLength) {
+                break;
+            }
+        }
         
         // 길이 제한 적용
-        if (cleaned.length() > maxLength && maxLength > 3) {
-            cleaned = cleaned.substring(0, maxLength - 3) + "...";
+        if (out.length() > maxLength && maxLength > 3) {
+            out.setLength(maxLength - 3);
+            out.append("...");
         }
         
-        return cleaned;
+        return out.toString();
     }
     
     /**
      * 입력값 sanitization (프롬프트 인젝션 방지 포함)
+     * 제어 문자 제거, 공백 정규화, 마크다운/프롬프트 패턴 치환을 한 번에 수행
+     * 치환은 출력에 문자를 쓸 때마다 출력 끝에서 끝나는 패턴을 확인하여 바로 적용 (삭제로 새로 이어진 패턴도 처리)
      */
     public static String sanitizeInput(String input) {
         if (input == null) return "";
         
-        String sanitized = input
-            // 제어 문자 제거 (탭, 줄바꿈 제외)
-            .replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "")
-            // 연속된 공백 정규화
-            .replaceAll("\\s+", " ")
-            // 특수 마크다운/프롬프트 패턴 이스케이프
-            .replace("```", "'''")
-            .replace("---", "—")
-            .replace("###", "")
-            .replace("**", "")
-            .replace("<!--", "<comment>")
-            .replace("-->", "</comment>")
-            // 앞뒤 공백 제거
-            .trim();
+        Buffer buffer = BUFFER.get();
+        StringBuilder out = buffer.begin(input.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isRemovedControl(c)) {
+                continue;
+            }
+            if (isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                buffer.appendReplacing(' ');
+                pendingSpace = false;
+            }
+            buffer.appendReplacing(c);
+        }
         
-        return sanitized;
+        // 앞뒤 공백 제거 (치환으로 지워진 패턴 앞뒤 공백이 남을 수 있음)
+        int start = 0;
+        int end = out.length();
+        while (start < end && out.charAt(start) == ' ') start++;
+        while (end > start && out.charAt(end - 1) == ' ') end--;
+        return out.substring(start, end);
     }
     
     /**
@@ -68,54 +171,65 @@ public final class TextSanitizerUtil {
     public static boolean containsPromptInjectionRisk(String input) {
         if (input == null || input.trim().isEmpty()) return false;
         
-        String normalized = normalizeForDetection(input);
-        
-        // 1. 직접적인 명령어 패턴
-        String[] directCommands = {
-            "ignore", "forget", "disregard", "override", "replace", "update", "modify",
-            "new instructions", "different task", "change role", "act as", "you are now",
-            "pretend", "simulate", "roleplay", "behave as"
-        };
-        
-        // 2. 시스템 메시지 패턴
-        String[] systemPatterns = {
-            "system:", "assistant:", "user:", "human:", "ai:", "gpt:", "model:",
-            "[system]", "[assistant]", "[user]", "[human]", "<system>", "</system>"
-        };
-        
-        // 3. 출력 형식 조작 패턴
-        String[] outputPatterns = {
-            "output only", "respond with", "answer with", "reply with", "return only",
-            "don't include", "exclude", "omit", "skip", "bypass"
-        };
-        
-        return containsAnyPattern(normalized, directCommands) ||
-               containsAnyPattern(normalized, systemPatterns) ||
-               containsAnyPattern(normalized, outputPatterns);
+        return containsAny(input, INJECTION_MASK);
     }
     
     /**
-     * 탐지를 위한 텍스트 정규화
+     * 부적절한 내용(개인정보 등) 포함 여부 감지
      */
-    private static String normalizeForDetection(String input) {
-        return input.toLowerCase()
-            .replaceAll("[\\s\\p{Punct}]+", " ") // 공백과 구두점을 공백으로 통일
-            .replaceAll("\\s+", " ") // 연속 공백 제거
-            .trim();
+    public static boolean containsInappropriateContent(String content) {
+        if (content == null || content.isEmpty()) return false;
+        
+        return containsAny(content, INAPPROPRIATE_MASK);
     }
     
     /**
-     * 패턴 배열에서 일치하는 항목 검사
+     * 탐지용 정규화(소문자, 공백과 구두점을 공백 하나로, 앞뒤 공백 제거)를 하면서 바로 오토마톤에 입력
+     * 정규화된 문자열을 따로 만들지 않으며, 일치하는 패턴이 나오면 즉시 종료
      */
-    private static boolean containsAnyPattern(String input, String[] patterns) {
-        for (String pattern : patterns) {
-            if (input.contains(pattern.toLowerCase())) {
+    private static boolean containsAny(String input, long mask) {
+        int state = AhoCorasickMatcher.ROOT;
+        boolean started = false;
+        boolean pendingSpace = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isDetectionSeparator(c)) {
+                pendingSpace = started;
+                continue;
+            }
+            if (pendingSpace) {
+                state = DETECTOR.next(state, ' ');
+                if ((DETECTOR.matches(state) & mask) != 0) {
+                    return true;
+                }
+                pendingSpace = false;
+            }
+            state = DETECTOR.next(state, Character.toLowerCase(c));
+            started = true;
+            if ((DETECTOR.matches(state) & mask) != 0) {
                 return true;
             }
         }
         return false;
     }
     
+    // \p{Cntrl} 중 탭, 줄바꿈을 제외한 문자
+    private static boolean isRemovedControl(char c) {
+        return (c < 0x20 || c == 0x7F) && c != '\r' && c != '\n' && c != '\t';
+    }
+    
+    // 제어 문자 제거 후 남는 \s 문자
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+    
+    // [\s\p{Punct}]
+    private static boolean isDetectionSeparator(char c) {
+        return isWhitespace(c) || c == 0x0B || c == '\f'
+            || (c >= '!' && c <= '/') || (c >= ':' && c <= '@')
+            || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+    
     /**
      * 비정상적인 반복 패턴 검사 (스팸 방지)
      */
@@ -125,7 +239,8 @@ public final class TextSanitizerUtil {
         // 1. 동일 문자 연속 반복 검사
         char prevChar = 0;
         int consecutiveCount = 1;
-        for (char c : input.toCharArray()) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
             if (c == prevChar) {
                 consecutiveCount++;
                 if (consecutiveCount > 10) { // 10개 이상 연속
@@ -139,4 +254,52 @@ public final class TextSanitizerUtil {
         
         return false;
     }
-}
\ No newline at end of file
+    
+    /**
+     * 스레드별 재사용 버퍼 (출력 문자열 + 출력 각 위치까지의 치환 오토마톤 상태)
+     */
+    private static final class Buffer {
+        private StringBuilder out = new StringBuilder();
+        private int[] states = new int[64];
+        
+        StringBuilder begin(int expectedLength) {
+            if (out.capacity() > MAX_RETAINED_BUFFER) {
+                out = new StringBuilder();
+                states = new int[64];
+            }
+            out.setLength(0);
+            if (expectedLength > states.length && expectedLength <= MAX_RETAINED_BUFFER) {
+                states = new int[expectedLength];
+            }
+            return out;
+        }
+        
+        /**
+         * 문자 하나를 쓰고, 출력 끝에서 패턴이 끝나면 치환
+         * 치환 결과 문자열은 새 패턴의 일부가 되지 않음 (치환 결과가 다시 치환되지 않도록)
+         */
+        void appendReplacing(char c) {
+            int length = out.length();
+            int state = REPLACER.next(length == 0 ? AhoCorasickMatcher.ROOT : states[length - 1], c);
+            push(c, state);
+            
+            long matched = REPLACER.matches(state);
+            if (matched != 0) {
+                int rule = Long.numberOfTrailingZeros(matched);
+                out.setLength(out.length() - REPLACEMENTS[rule][0].length());
+                for (char r : REPLACEMENTS[rule][1].toCharArray()) {
+                    push(r, AhoCorasickMatcher.ROOT);
+                }
+            }
+        }
+        
+        private void push(char c, int state) {
+            int index = out.length();
+            if (index == states.length) {
+                states = Arrays.copyOf(states, states.length * 2);
+            }
+            states[index] = state;
+            out.append(c);
+        }
+    }
+}
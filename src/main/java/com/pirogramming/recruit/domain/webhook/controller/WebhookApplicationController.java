@@ -15,9 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.pirogramming.recruit.domain.webhook.dto.BatchPassStatusUpdateRequest;
 import com.pirogramming.recruit.domain.webhook.dto.BatchPassStatusUpdateResponse;
+import com.pirogramming.recruit.domain.webhook.dto.SimilarAnswerClusterResponse;
 import com.pirogramming.recruit.domain.webhook.dto.WebhookApplicationRequest;
 import com.pirogramming.recruit.domain.webhook.dto.WebhookApplicationResponse;
 import com.pirogramming.recruit.domain.webhook.entity.WebhookApplication;
+import com.pirogramming.recruit.domain.webhook.service.AnswerSimilarityService;
 import com.pirogramming.recruit.domain.webhook.service.WebhookApplicationService;
 import com.pirogramming.recruit.global.exception.ApiRes;
 import com.pirogramming.recruit.global.exception.code.ErrorCode;
@@ -39,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class WebhookApplicationController {
 
     private final WebhookApplicationService webhookApplicationService;
+    private final AnswerSimilarityService answerSimilarityService;
 
     // 구글 폼 웹훅으로부터 지원서 데이터 수신 및 저장
     @PostMapping("/receive")
@@ -82,6 +85,20 @@ public class WebhookApplicationController {
         );
     }
 
+    // 구글 폼별 유사 답변 묶음 조회 (복사/템플릿 답변 탐지)
+    @GetMapping("/google-form/{googleFormId}/similar-answers")
+    @RequireAdmin
+    @Operation(summary = "유사 답변 묶음 조회", description = "특정 구글 폼에서 질문별로 서로 거의 같은 답변을 제출한 지원서 묶음을 조회합니다.")
+    public ResponseEntity<ApiRes<List<SimilarAnswerClusterResponse>>> getSimilarAnswerClusters(
+            @Parameter(description = "구글 폼 ID") @PathVariable Long googleFormId) {
+
+        List<SimilarAnswerClusterResponse> clusters = answerSimilarityService.findSimilarAnswerClusters(googleFormId);
+
+        return ResponseEntity.ok(
+                ApiRes.success(clusters, "구글 폼 " + googleFormId + "에서 유사 답변 묶음 " + clusters.size() + "개를 찾았습니다.")
+        );
+    }
+
     // 폼 ID별 지원서 목록 조회
     @GetMapping("/form-id/{formId}")
     @RequireAdmin
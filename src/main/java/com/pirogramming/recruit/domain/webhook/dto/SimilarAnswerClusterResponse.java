@@ -0,0 +1,37 @@
+package com.pirogramming.recruit.domain.webhook.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "유사 답변 묶음 응답 DTO")
+public class SimilarAnswerClusterResponse {
+
+    @Schema(description = "질문", example = "1. 지원 동기를 작성해주세요.")
+    private String question;
+
+    @Schema(description = "묶음에 속한 지원서 수", example = "3")
+    private int size;
+
+    @Schema(description = "답변이 서로 유사한 지원자 목록")
+    private List<Applicant> applicants;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "유사 답변 지원자")
+    public static class Applicant {
+
+        @Schema(description = "지원서 ID", example = "1")
+        private Long applicationId;
+
+        @Schema(description = "지원자 이름", example = "홍길동")
+        private String applicantName;
+    }
+}
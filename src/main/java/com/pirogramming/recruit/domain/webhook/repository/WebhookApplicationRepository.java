@@ -82,6 +82,10 @@ public interface WebhookApplicationRepository extends JpaRepository<WebhookAppli
     @Query("SELECT COUNT(w) FROM WebhookApplication w WHERE w.googleForm.formId = :formId")
     long countByFormId(@Param("formId") String formId);
 
+    // 구글 폼의 상태별 지원서 변경 확인용 (개수, 최대 ID, 최근 수정 시각)
+    @Query("SELECT COUNT(w), MAX(w.id), MAX(w.updatedAt) FROM WebhookApplication w WHERE w.googleForm.id = :googleFormId AND w.status = :status")
+    List<Object[]> findChangeMarker(@Param("googleFormId") Long googleFormId, @Param("status") WebhookApplication.ProcessingStatus status);
+
     // 여러 구글 폼의 지원서 개수를 한번에 조회 (N+1 방지)
     @Query("SELECT w.googleForm.id, COUNT(w) FROM WebhookApplication w WHERE w.googleForm.id IN :googleFormIds GROUP BY w.googleForm.id")
     List<Object[]> countByGoogleFormIds(@Param("googleFormIds") List<Long> googleFormIds);
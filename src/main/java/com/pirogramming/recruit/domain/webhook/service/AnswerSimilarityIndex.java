@@ -0,0 +1,137 @@
+package com.pirogramming.recruit.domain.webhook.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.pirogramming.recruit.domain.ai_summary.util.MinHashFingerprint;
+
+/**
+ * 구글 폼 하나의 질문별 답변 LSH 인덱스
+ * - 답변마다 MinHash 서명을 BANDS개 구간으로 나눠 버킷에 등록하고, 같은 버킷에 있는 답변만 유사도 비교
+ *   (모든 답변 쌍을 비교하지 않으므로 지원자 수가 늘어도 추가 비용은 비슷한 답변 수에 비례)
+ * - 유사도가 기준 이상인 답변끼리 추가 시점에 바로 묶어둠 (union-find) → 조회는 묶음만 모아 반환
+ * 지원서 추가는 같은 지원서가 다시 들어와도 한 번만 반영
+ * 만들 때 반영한 지원서 상태(marker)를 함께 보관하여, DB 상태와 다르면 호출자가 새로 만듦
+ */
+final class AnswerSimilarityIndex {
+
+    // 64 = 16 bands × 4 rows → 유사도 약 0.5부터 후보로 잡힘 ((1/16)^(1/4))
+    private static final int BANDS = 16;
+    private static final int ROWS = MinHashFingerprint.SIGNATURE_SIZE / BANDS;
+
+    private final double threshold;
+    private final int minShingles;
+    private final Map<String, QuestionIndex> questions = new LinkedHashMap<>();
+    private final Map<Long, String> applicantNames = new HashMap<>();
+    private final Marker marker;
+
+    AnswerSimilarityIndex(double threshold, int minAnswerLength, Marker marker) {
+        this.threshold = threshold;
+        this.minShingles = Math.max(1, minAnswerLength - MinHashFingerprint.SHINGLE_SIZE + 1);
+        this.marker = marker;
+    }
+
+    /**
+     * 인덱스를 만들 때의 지원서 상태와 같은지 (추가/삭제/수정이 없었는지)
+     */
+    boolean isUpToDate(Marker current) {
+        return marker.equals(current);
+    }
+
+    synchronized void add(Long applicationId, String applicantName, Map<String, Object> formData) {
+        if (formData == null || applicantNames.putIfAbsent(applicationId, applicantName) != null) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : formData.entrySet()) {
+            // 짧은 답변(이름, 학년, 예/아니오 등)은 우연히 같아도 의미가 없으므로 제외
+            MinHashFingerprint fingerprint = MinHashFingerprint.of(Objects.toString(entry.getValue(), ""));
+            if (fingerprint.getShingleCount() < minShingles) {
+                continue;
+            }
+            questions.computeIfAbsent(entry.getKey(), key -> new QuestionIndex())
+                .add(applicationId, fingerprint);
+        }
+    }
+
+    /**
+     * 유사 답변 묶음 (큰 묶음부터)
+     */
+    synchronized List<Cluster> clusters() {
+        List<Cluster> clusters = new ArrayList<>();
+        questions.forEach((question, index) -> {
+            for (List<Long> applicationIds : index.groups()) {
+                clusters.add(new Cluster(question, applicationIds));
+            }
+        });
+        clusters.sort(Comparator.comparingInt((Cluster cluster) -> cluster.applicationIds().size()).reversed());
+        return clusters;
+    }
+
+    synchronized String applicantName(Long applicationId) {
+        return applicantNames.get(applicationId);
+    }
+
+    record Cluster(String question, List<Long> applicationIds) {
+    }
+
+    /**
+     * 폼의 지원서 상태 (개수 - 삭제, 최대 ID - 삭제 후 추가, 최근 수정 시각 - 답변 수정)
+     */
+    record Marker(long count, Long maxApplicationId, LocalDateTime lastModifiedAt) {
+    }
+
+    /**
+     * 질문 하나의 답변들 (답변 순번으로 관리)
+     */
+    private final class QuestionIndex {
+        private final List<Long> applicationIds = new ArrayList<>();
+        private final List<MinHashFingerprint> fingerprints = new ArrayList<>();
+        private final List<Integer> parents = new ArrayList<>();
+        // band 구간 해시 → 답변 순번 (band 번호는 키에 포함됨)
+        private final Map<Long, List<Integer>> buckets = new HashMap<>();
+
+        void add(Long applicationId, MinHashFingerprint fingerprint) {
+            int index = applicationIds.size();
+            applicationIds.add(applicationId);
+            fingerprints.add(fingerprint);
+            parents.add(index);
+
+            for (int band = 0; band < BANDS; band++) {
+                List<Integer> bucket = buckets.computeIfAbsent(fingerprint.bandKey(band, ROWS), key -> new ArrayList<>());
+                for (int candidate : bucket) {
+                    // 이미 같은 묶음이면 비교 생략 (같은 템플릿 답변이 많아도 비교는 묶음 수만큼)
+                    if (find(candidate) != find(index)
+                            && fingerprint.jaccard(fingerprints.get(candidate)) >= threshold) {
+                        parents.set(find(candidate), find(index));
+                    }
+                }
+                bucket.add(index);
+            }
+        }
+
+        List<List<Long>> groups() {
+            Map<Integer, List<Long>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < applicationIds.size(); i++) {
+                groups.computeIfAbsent(find(i), root -> new ArrayList<>()).add(applicationIds.get(i));
+            }
+            return groups.values().stream()
+                .filter(group -> group.size() > 1)
+                .toList();
+        }
+
+        private int find(int index) {
+            while (parents.get(index) != index) {
+                int parent = parents.get(index);
+                parents.set(index, parents.get(parent)); // 경로 절반 압축
+                index = parent;
+            }
+            return index;
+        }
+    }
+}
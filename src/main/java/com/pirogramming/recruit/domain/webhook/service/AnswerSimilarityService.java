@@ -0,0 +1,191 @@
+package com.pirogramming.recruit.domain.webhook.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.pirogramming.recruit.domain.googleform.service.GoogleFormService;
+import com.pirogramming.recruit.domain.webhook.dto.SimilarAnswerClusterResponse;
+import com.pirogramming.recruit.domain.webhook.entity.WebhookApplication;
+import com.pirogramming.recruit.domain.webhook.repository.WebhookApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지원서 간 유사(복사/템플릿) 답변 탐지
+ * 구글 폼별 LSH 인덱스를 메모리에 유지하고, 조회할 때마다 DB의 지원서 상태(개수/최대 ID/최근 수정 시각)와 비교
+ * 상태가 다르면 저장된 지원서로 인덱스를 새로 만듦
+ * (다른 인스턴스로 들어온 지원서, 삭제/수정된 지원서도 다음 조회에 반영 - 변경이 없으면 집계 쿼리 한 번)
+ * 인덱스는 최대 max-cached-forms개 폼만 유지하고, 넘치면 가장 오래 조회되지 않은 폼부터 제거
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnswerSimilarityService {
+
+    private final WebhookApplicationRepository webhookApplicationRepository;
+    private final GoogleFormService googleFormService;
+
+    private final Map<Long, CachedIndex> indexes = new ConcurrentHashMap<>();
+    // 폼별 진행 중인 인덱스 재구성 (같은 폼을 동시에 조회해도 한 번만 만들고 결과를 공유)
+    private final Map<Long, CompletableFuture<AnswerSimilarityIndex>> rebuilds = new ConcurrentHashMap<>();
+    private final AtomicLong accessSequence = new AtomicLong();
+
+    @Value("${webhook.similarity.threshold:0.6}")
+    private double threshold;
+
+    @Value("${webhook.similarity.min-answer-length:50}")
+    private int minAnswerLength;
+
+    @Value("${webhook.similarity.max-cached-forms:10}")
+    private int maxCachedForms;
+
+    /**
+     * 구글 폼별 유사 답변 묶음 조회 (질문별, 큰 묶음부터)
+     */
+    public List<SimilarAnswerClusterResponse> findSimilarAnswerClusters(Long googleFormId) {
+        googleFormService.getGoogleFormByIdRequired(googleFormId);
+
+        AnswerSimilarityIndex index = currentIndex(googleFormId);
+
+        return index.clusters().stream()
+            .map(cluster -> new SimilarAnswerClusterResponse(
+                cluster.question(),
+                cluster.applicationIds().size(),
+                cluster.applicationIds().stream()
+                    .map(id -> new SimilarAnswerClusterResponse.Applicant(id, index.applicantName(id)))
+                    .toList()))
+            .toList();
+    }
+
+    /**
+     * DB 상태와 같은 인덱스 반환 (다르면 저장된 지원서로 새로 만듦 - 같은 폼을 동시에 조회해도 한 번만)
+     * 재구성은 맵 잠금 밖에서 수행하므로 다른 폼 조회는 기다리지 않음
+     */
+    private AnswerSimilarityIndex currentIndex(Long googleFormId) {
+        AnswerSimilarityIndex.Marker marker = loadMarker(googleFormId);
+        AnswerSimilarityIndex cached = upToDateIndex(googleFormId, marker);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<AnswerSimilarityIndex> created = new CompletableFuture<>();
+        CompletableFuture<AnswerSimilarityIndex> existing = rebuilds.putIfAbsent(googleFormId, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            // 확인과 등록 사이에 다른 조회가 재구성을 끝냈을 수 있음
+            AnswerSimilarityIndex index = upToDateIndex(googleFormId, marker);
+            if (index == null) {
+                index = buildIndex(googleFormId, marker);
+                // 재구성은 폼별로 한 번에 하나이므로 이 폼의 인덱스를 바꾸는 쪽은 여기뿐
+                indexes.put(googleFormId, new CachedIndex(index, accessSequence.incrementAndGet()));
+                evictIfNeeded(googleFormId);
+            }
+            created.complete(index);
+            return index;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilds.remove(googleFormId, created);
+        }
+    }
+
+    private AnswerSimilarityIndex upToDateIndex(Long googleFormId, AnswerSimilarityIndex.Marker marker) {
+        CachedIndex cached = indexes.get(googleFormId);
+        if (cached == null || !cached.index().isUpToDate(marker)) {
+            return null;
+        }
+        cached.touch(accessSequence.incrementAndGet());
+        return cached.index();
+    }
+
+    private AnswerSimilarityIndex buildIndex(Long googleFormId, AnswerSimilarityIndex.Marker marker) {
+        // 상태를 먼저 읽으므로 그 사이 추가된 지원서는 인덱스에 들어가고, 다음 조회에서 한 번 더 새로 만듦
+        AnswerSimilarityIndex rebuilt = new AnswerSimilarityIndex(threshold, minAnswerLength, marker);
+        for (WebhookApplication application : webhookApplicationRepository.findByGoogleFormIdAndStatus(
+                googleFormId, WebhookApplication.ProcessingStatus.COMPLETED)) {
+            rebuilt.add(application.getId(), application.getApplicantName(), application.getFormData());
+        }
+        log.debug("유사 답변 인덱스 재구성 - googleFormId: {}, 지원서: {}건", googleFormId, marker.count());
+        return rebuilt;
+    }
+
+    /**
+     * 유지하는 폼 수가 한도를 넘으면 가장 오래 조회되지 않은 폼의 인덱스 제거 (방금 만든 폼은 제외)
+     */
+    private void evictIfNeeded(Long keepFormId) {
+        while (indexes.size() > Math.max(1, maxCachedForms)) {
+            Map.Entry<Long, CachedIndex> eldest = null;
+            for (Map.Entry<Long, CachedIndex> entry : indexes.entrySet()) {
+                if (!entry.getKey().equals(keepFormId)
+                        && (eldest == null || entry.getValue().lastAccess() < eldest.getValue().lastAccess())) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            indexes.remove(eldest.getKey(), eldest.getValue());
+            log.debug("유사 답변 인덱스 제거 - googleFormId: {}", eldest.getKey());
+        }
+    }
+
+    private AnswerSimilarityIndex await(CompletableFuture<AnswerSimilarityIndex> rebuild) {
+        try {
+            return rebuild.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AnswerSimilarityIndex.Marker loadMarker(Long googleFormId) {
+        List<Object[]> rows = webhookApplicationRepository.findChangeMarker(
+            googleFormId, WebhookApplication.ProcessingStatus.COMPLETED);
+        Object[] row = rows.isEmpty() ? new Object[3] : rows.get(0);
+        return new AnswerSimilarityIndex.Marker(
+            row[0] == null ? 0 : ((Number) row[0]).longValue(),
+            row[1] == null ? null : ((Number) row[1]).longValue(),
+            (LocalDateTime) row[2]);
+    }
+
+    /**
+     * 폼별 인덱스와 마지막 조회 순번 (제거 대상 선택용)
+     */
+    private static final class CachedIndex {
+
+        private final AnswerSimilarityIndex index;
+        private volatile long lastAccess;
+
+        private CachedIndex(AnswerSimilarityIndex index, long lastAccess) {
+            this.index = index;
+            this.lastAccess = lastAccess;
+        }
+
+        AnswerSimilarityIndex index() {
+            return index;
+        }
+
+        long lastAccess() {
+            return lastAccess;
+        }
+
+        void touch(long sequence) {
+            lastAccess = sequence;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.pirogramming.recruit.domain.googleform.entity.GoogleForm;
@@ -394,8 +395,9 @@ public class WebhookApplicationService {
 
     /**
      * 기존 WebhookApplication에 대해 AI 요약 생성 (수동 트리거용)
+     * LLM 호출 동안 트랜잭션을 열어두지 않음 (조회/저장은 각각 짧은 트랜잭션)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WebhookApplication generateSummaryForExistingApplication(Long applicationId) {
         WebhookApplication application = getApplicationByIdRequired(applicationId);
         
@@ -21,6 +21,7 @@ import com.pirogramming.recruit.domain.admin.service.CustomUserDetailsService;
 import com.pirogramming.recruit.global.jwt.JwtAuthenticationFilter;
 import com.pirogramming.recruit.global.jwt.JwtTokenProvider;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -63,6 +64,7 @@ public class SecurityConfig {
 			}))
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // SSE 응답 완료 시 비동기 디스패치 (최초 요청에서 이미 인가됨)
 				.requestMatchers("/api/admin/login", "/api/admin/refresh", "/api/admin/token/exchange").permitAll()
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
 				.requestMatchers("/actuator/health").permitAll()
@@ -20,6 +20,10 @@ public class WebClientConfig {
 	@Value("${openai.api.key}")
 	private String openAiApiKey;
 
+	// 로컬 스텁 서버 등으로 교체할 수 있도록 설정으로 분리
+	@Value("${openai.api.base-url:https://api.openai.com/v1}")
+	private String openAiBaseUrl;
+
 	@Bean
 	public WebClient openAiWebClient() {
 		// HTTP 클라이언트 타임아웃 설정
@@ -32,7 +36,7 @@ public class WebClientConfig {
 			);
 
 		return WebClient.builder()
-			.baseUrl("https://api.openai.com/v1")
+			.baseUrl(openAiBaseUrl)
 			.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + openAiApiKey)
 			.defaultHeader(HttpHeaders.CONTENT_TYPE, "application/json")
 			.clientConnector(new ReactorClientHttpConnector(httpClient))
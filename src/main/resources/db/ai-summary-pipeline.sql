@@ -0,0 +1,50 @@
+-- ai-summary-pipeline.sql
+-- AI 요약 파이프라인 스키마 변경 (jsonb 요약 문서, 재시도 백오프, 작업 선점/lease, LLM 응답 영구 캐시)
+-- 운영(prod)은 ddl-auto: validate 이므로 배포 전에 한 번 실행해야 함
+-- 여러 번 실행해도 안전하도록 IF NOT EXISTS로 작성 (PostgreSQL 15)
+-- 이전 Key-Value 결과(application_summary_items)는 기동 시 SummaryDocumentMigrator가 summary 문서로 이관
+
+BEGIN;
+
+-- 요약 결과 문서 (이전 application_summary_items 대체)
+ALTER TABLE application_summary ADD COLUMN IF NOT EXISTS summary jsonb;
+
+-- 실패 작업 재시도 시각 (오류 유형별 지수 백오프)
+ALTER TABLE application_summary ADD COLUMN IF NOT EXISTS next_attempt_at timestamp(6);
+
+-- 작업 선점 소유자와 lease 만료 시각 (만료된 선점은 다른 인스턴스가 회수)
+ALTER TABLE application_summary ADD COLUMN IF NOT EXISTS worker_id varchar(100);
+ALTER TABLE application_summary ADD COLUMN IF NOT EXISTS lease_expires_at timestamp(6);
+
+-- 요약을 만든 프롬프트 템플릿 버전
+ALTER TABLE application_summary ADD COLUMN IF NOT EXISTS prompt_template_version varchar(50);
+
+-- 낙관적 잠금 버전 (기존 행은 0부터 시작)
+ALTER TABLE application_summary ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+-- 재시도 대상 조회 (processing_status = 'FAILED' AND next_attempt_at <= now)
+CREATE INDEX IF NOT EXISTS idx_application_summary_status_next_attempt
+    ON application_summary (processing_status, next_attempt_at);
+
+-- 만료된 lease 회수 (processing_status = 'PROCESSING' AND lease_expires_at < now)
+CREATE INDEX IF NOT EXISTS idx_application_summary_status_lease
+    ON application_summary (processing_status, lease_expires_at);
+
+-- LLM 응답 영구 캐시 (프롬프트 해시 + 템플릿 버전)
+CREATE TABLE IF NOT EXISTS llm_response_cache (
+    id                bigserial     PRIMARY KEY,
+    prompt_hash       varchar(64)   NOT NULL,
+    template_version  varchar(50)   NOT NULL,
+    model             varchar(100),
+    response_json     text          NOT NULL,
+    prompt_tokens     integer       NOT NULL DEFAULT 0,
+    completion_tokens integer       NOT NULL DEFAULT 0,
+    latency_ms        bigint        NOT NULL DEFAULT 0,
+    hit_count         bigint        NOT NULL DEFAULT 0,
+    last_hit_at       timestamp(6),
+    created_at        timestamp(6)  NOT NULL,
+    updated_at        timestamp(6),
+    CONSTRAINT uk_llm_response_cache_prompt_template UNIQUE (prompt_hash, template_version)
+);
+
+COMMIT;
@@ -0,0 +1,199 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pirogramming.recruit.domain.ai_summary.port.LlmPriority;
+
+class LlmConcurrencyLimiterTest {
+
+	// 응답 지연은 시계를 직접 움직여 재현 (실제 대기 시간의 흔들림에 영향받지 않음)
+	private final AtomicLong clock = new AtomicLong();
+	private final LlmConcurrencyLimiter limiter =
+		new LlmConcurrencyLimiter(10, 2, 100, 1000, 4, 1, 0.25, clock::get);
+
+	@Test
+	@DisplayName("긴 응답은 토큰당 지연으로 비교하여 한도를 줄이지 않는다")
+	void longCompletionDoesNotLookLikeCongestion() throws Exception {
+		warmUp();
+
+		// 기준(짧은 응답)보다 10배 오래 걸렸지만 출력 토큰도 그만큼 많음
+		complete(50, 1000);
+
+		assertThat(limiter.getLimitDecreases()).isZero();
+	}
+
+	@Test
+	@DisplayName("토큰당 지연이 기준의 두 배를 넘으면 한도를 줄인다")
+	void slowPerTokenLatencyDecreasesLimit() throws Exception {
+		warmUp();
+
+		complete(50, 64);
+
+		assertThat(limiter.getLimitDecreases()).isEqualTo(1);
+		assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("출력 토큰 수를 모르는 응답은 지연 비교에 사용하지 않는다")
+	void responseWithoutUsageIsNotCompared() throws Exception {
+		warmUp();
+
+		complete(50, 0);
+
+		assertThat(limiter.getLimitDecreases()).isZero();
+	}
+
+	@Test
+	@DisplayName("기준 표본이 부족하면 느린 응답에도 한도를 유지한다")
+	void keepsLimitUntilBaselineHasEnoughSamples() throws Exception {
+		complete(50, 64);
+
+		assertThat(limiter.getLimitDecreases()).isZero();
+		assertThat(limiter.getBaselineMillisPerToken()).isPositive();
+	}
+
+	@Test
+	@DisplayName("과부하 응답은 한도를 비율로 줄인다")
+	void droppedResponseDecreasesLimitByRatio() throws Exception {
+		limiter.acquire().get().release(LlmConcurrencyLimiter.Outcome.DROPPED);
+
+		assertThat(limiter.getLimit()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("BACKLOG 레인은 INTERACTIVE 최소 몫을 남기고 사용하여 대기 작업이 몰려도 사용자 요청은 바로 시작한다")
+	void backlogLeavesInteractiveShare() {
+		LlmConcurrencyLimiter fixed = new LlmConcurrencyLimiter(4, 4, 4, 1000, 4, 1, 0.25);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(fixed.acquire(LlmPriority.Lane.BACKLOG)).isDone();
+		}
+		CompletableFuture<LlmConcurrencyLimiter.Permit> fourthBacklog = fixed.acquire(LlmPriority.Lane.BACKLOG);
+
+		assertThat(fourthBacklog).isNotDone();
+		assertThat(fixed.acquire(LlmPriority.Lane.INTERACTIVE)).isDone();
+		assertThat(fixed.getLaneStats().get(LlmPriority.Lane.BACKLOG).maxInFlight()).isEqualTo(3);
+		assertThat(fixed.getLaneStats().get(LlmPriority.Lane.BACKLOG).queueLength()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("두 레인이 모두 기다리면 가중치 비율(4:1)로 번갈아 허가한다")
+	void grantsLanesByWeight() throws Exception {
+		LlmConcurrencyLimiter single = new LlmConcurrencyLimiter(1, 1, 1, 1000, 4, 1, 0.25);
+		Deque<LlmConcurrencyLimiter.Permit> running = new ArrayDeque<>(List.of(single.acquire().get()));
+		List<LlmPriority.Lane> grants = new ArrayList<>();
+		enqueue(single, LlmPriority.Lane.INTERACTIVE, 20, running, grants);
+		enqueue(single, LlmPriority.Lane.BACKLOG, 20, running, grants);
+
+		releaseInTurn(running, 10);
+
+		assertThat(Collections.frequency(grants, LlmPriority.Lane.INTERACTIVE)).isEqualTo(8);
+		assertThat(Collections.frequency(grants, LlmPriority.Lane.BACKLOG)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("쉬다가 돌아온 레인은 밀린 몫을 한꺼번에 가져가지 않는다")
+	void idleLaneDoesNotBankCredit() throws Exception {
+		LlmConcurrencyLimiter single = new LlmConcurrencyLimiter(1, 1, 1, 1000, 4, 1, 0.25);
+		Deque<LlmConcurrencyLimiter.Permit> running = new ArrayDeque<>(List.of(single.acquire().get()));
+		List<LlmPriority.Lane> grants = new ArrayList<>();
+		enqueue(single, LlmPriority.Lane.INTERACTIVE, 20, running, grants);
+		releaseInTurn(running, 10);
+
+		grants.clear();
+		enqueue(single, LlmPriority.Lane.BACKLOG, 5, running, grants);
+		releaseInTurn(running, 5);
+
+		assertThat(Collections.frequency(grants, LlmPriority.Lane.BACKLOG)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("대기 중에 취소한 허가 요청은 대기열에서 빠지고 허가를 받지 않는다")
+	void cancelledWaiterLeavesQueue() throws Exception {
+		LlmConcurrencyLimiter single = new LlmConcurrencyLimiter(1, 1, 1, 1000, 4, 1, 0.25);
+		LlmConcurrencyLimiter.Permit running = single.acquire().get();
+		CompletableFuture<LlmConcurrencyLimiter.Permit> waiting = single.acquire(LlmPriority.Lane.BACKLOG);
+
+		single.cancel(waiting);
+
+		assertThat(waiting).isCancelled();
+		assertThat(single.getQueueLength()).isZero();
+		running.release();
+		assertThat(single.getInFlight()).isZero();
+		assertThat(single.getAvailablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("허가가 나는 도중에 취소해도 이미 넘겨진 허가는 반환된다")
+	void cancelDuringGrantReleasesPermit() throws Exception {
+		LlmConcurrencyLimiter single = new LlmConcurrencyLimiter(1, 1, 1, 1000, 4, 1, 0.25);
+		LlmConcurrencyLimiter.Permit running = single.acquire().get();
+		CompletableFuture<LlmConcurrencyLimiter.Permit> waiting = single.acquire();
+		// 허가를 넘기는 중(complete 콜백 안)에 구독 취소가 들어온 상황
+		waiting.thenRun(() -> single.cancel(waiting));
+
+		running.release();
+
+		assertThat(waiting).isCompleted();
+		assertThat(single.getInFlight()).isZero();
+		assertThat(single.acquire()).isDone();
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 허가 요청을 거절한다")
+	void rejectsWhenQueueIsFull() throws Exception {
+		LlmConcurrencyLimiter single = new LlmConcurrencyLimiter(1, 1, 1, 1, 4, 1, 0.25);
+		single.acquire().get();
+		single.acquire(LlmPriority.Lane.BACKLOG);
+
+		assertThat(single.acquire(LlmPriority.Lane.INTERACTIVE))
+			.failsWithin(Duration.ZERO)
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(RejectedExecutionException.class);
+	}
+
+	// 허가를 받으면 레인을 기록하고 실행 중 목록에 넣음 (허가는 반환 시점에 동기적으로 넘어감)
+	private void enqueue(LlmConcurrencyLimiter target, LlmPriority.Lane lane, int count,
+						 Deque<LlmConcurrencyLimiter.Permit> running, List<LlmPriority.Lane> grants) {
+		for (int i = 0; i < count; i++) {
+			target.acquire(lane).thenAccept(permit -> {
+				grants.add(lane);
+				running.addLast(permit);
+			});
+		}
+	}
+
+	private void releaseInTurn(Deque<LlmConcurrencyLimiter.Permit> running, int count) {
+		for (int i = 0; i < count; i++) {
+			running.pollFirst().release();
+		}
+	}
+
+	// 짧은 응답 표본으로 기준 지연 확보
+	private void warmUp() throws Exception {
+		for (int i = 0; i < 20; i++) {
+			complete(5, 64);
+		}
+	}
+
+	private void complete(long latencyMillis, int outputTokens) throws Exception {
+		LlmConcurrencyLimiter.Permit permit = limiter.acquire().get();
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+		permit.release(LlmConcurrencyLimiter.Outcome.SUCCESS, outputTokens);
+	}
+}
@@ -0,0 +1,66 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LlmHedgingPolicyTest {
+
+	@Test
+	@DisplayName("표본이 부족하면 헤징하지 않고, 충분하면 최근 지연의 지정 백분위를 지연 시간으로 쓴다")
+	void hedgeDelayFollowsLatencyPercentile() {
+		LlmHedgingPolicy policy = new LlmHedgingPolicy(true, 0.95, 0.05, 100, 0);
+		for (int latency = 1; latency <= 99; latency++) {
+			policy.recordLatency(latency);
+		}
+		assertThat(policy.hedgeDelay()).isNull();
+
+		policy.recordLatency(100);
+		assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(95));
+	}
+
+	@Test
+	@DisplayName("백분위가 최소 지연보다 짧으면 최소 지연을 쓰고, 오래된 표본은 최근 표본으로 밀려난다")
+	void hedgeDelayUsesRecentWindowAndMinimum() {
+		LlmHedgingPolicy policy = new LlmHedgingPolicy(true, 0.95, 0.05, 1, 200);
+		policy.recordLatency(50);
+		assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(200));
+
+		for (int i = 0; i < 256; i++) {
+			policy.recordLatency(10_000);
+		}
+		for (int i = 0; i < 256; i++) {
+			policy.recordLatency(500);
+		}
+		assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Test
+	@DisplayName("요청마다 예산이 적립되고 헤지 1회에 1씩 쓰며, 부족하면 거절한다")
+	void budgetAccruesPerRequestAndIsSpentPerHedge() {
+		LlmHedgingPolicy policy = new LlmHedgingPolicy(true, 0.95, 0.5, 20, 0);
+
+		policy.hedgeDelay();
+		assertThat(policy.tryAcquireHedge()).isFalse();
+		policy.hedgeDelay();
+		assertThat(policy.tryAcquireHedge()).isTrue();
+		assertThat(policy.tryAcquireHedge()).isFalse();
+
+		assertThat(policy.getHedgedRequests()).isEqualTo(1);
+		assertThat(policy.getBudgetRejections()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("한가한 동안 적립되는 예산은 상한을 넘지 않는다")
+	void budgetIsCapped() {
+		LlmHedgingPolicy policy = new LlmHedgingPolicy(true, 0.95, 1.0, 20, 0);
+		for (int i = 0; i < 50; i++) {
+			policy.hedgeDelay();
+		}
+
+		assertThat(policy.getAvailableBudget()).isEqualTo(10.0);
+	}
+}
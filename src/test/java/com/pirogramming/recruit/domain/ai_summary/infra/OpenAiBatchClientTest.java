@@ -0,0 +1,109 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmBatchClient;
+
+class OpenAiBatchClientTest {
+
+	static ApplicationContextRunner stubRunner(int port) {
+		return new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.withPropertyValues(
+				"openai.stub.enabled=true",
+				"openai.stub.port=" + port,
+				"openai.stub.batch.completion-ms=0");
+	}
+
+	static OpenAiBatchClient batchClient(int port) {
+		return new OpenAiBatchClient(WebClient.builder()
+			.baseUrl("http://localhost:" + port + "/v1")
+			.defaultHeader("Content-Type", "application/json")
+			.build());
+	}
+
+	@Test
+	@DisplayName("JSONL 업로드 → 배치 생성 → 상태 조회 → 결과 파일 읽기까지 스텁 서버와 주고받는다")
+	void submitsPollsAndReadsResults() throws Exception {
+		int port = freePort();
+		stubRunner(port).run(context -> {
+			OpenAiBatchClient client = batchClient(port);
+
+			String batchId = client.submit(List.of(
+				new LlmBatchClient.Request("summary-1", "첫 번째 지원서"),
+				new LlmBatchClient.Request("summary-2", "두 번째 지원서")));
+			LlmBatchClient.BatchStatus status = client.getStatus(batchId);
+
+			assertThat(status.isFinished()).isTrue();
+			assertThat(status.totalRequests()).isEqualTo(2);
+			assertThat(status.completedRequests()).isEqualTo(2);
+			assertThat(status.errorFileId()).isNull();
+
+			List<LlmBatchClient.Result> results = new ArrayList<>();
+			client.readResults(status.outputFileId(), results::add);
+
+			assertThat(results).extracting(LlmBatchClient.Result::customId).containsExactly("summary-1", "summary-2");
+			assertThat(results).allSatisfy(result -> {
+				assertThat(result.isSuccess()).isTrue();
+				assertThat(result.response().content()).contains("scoreOutOf100");
+				assertThat(result.response().completionTokens()).isPositive();
+			});
+		});
+	}
+
+	@Test
+	@DisplayName("완료 전에는 진행 중 상태와 결과 파일 없이 응답한다")
+	void reportsInProgressBeforeCompletion() throws Exception {
+		int port = freePort();
+		stubRunner(port).withPropertyValues("openai.stub.batch.completion-ms=60000").run(context -> {
+			OpenAiBatchClient client = batchClient(port);
+
+			LlmBatchClient.BatchStatus status = client.getStatus(
+				client.submit(List.of(new LlmBatchClient.Request("summary-1", "지원서"))));
+
+			assertThat(status.isFinished()).isFalse();
+			assertThat(status.status()).isEqualTo("in_progress");
+			assertThat(status.outputFileId()).isNull();
+		});
+	}
+
+	@Test
+	@DisplayName("실패한 요청은 error 파일로 분리되고 상태 코드로 오류 유형을 분류한다")
+	void classifiesFailedRequests() throws Exception {
+		int port = freePort();
+		stubRunner(port).withPropertyValues("openai.stub.rate-limit-ratio=1.0").run(context -> {
+			OpenAiBatchClient client = batchClient(port);
+
+			LlmBatchClient.BatchStatus status = client.getStatus(
+				client.submit(List.of(new LlmBatchClient.Request("summary-1", "지원서"))));
+			assertThat(status.outputFileId()).isNull();
+			assertThat(status.failedRequests()).isEqualTo(1);
+
+			List<LlmBatchClient.Result> results = new ArrayList<>();
+			client.readResults(status.errorFileId(), results::add);
+
+			assertThat(results).singleElement().satisfies(result -> {
+				assertThat(result.isSuccess()).isFalse();
+				assertThat(result.errorType()).isEqualTo(AiProcessingException.ErrorType.API_LIMIT_EXCEEDED);
+				assertThat(result.error()).contains("Rate limit");
+			});
+		});
+	}
+
+	static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+
+class OpenAiChatClientTest {
+
+	@Test
+	@DisplayName("응답이 헤지 지연을 넘기면 헤지 요청을 한 번 보내고, 먼저 온 응답을 쓰며 진 요청은 취소해 허가를 반환한다")
+	void hedgesSlowRequestOnceAndCancelsLoser() throws Exception {
+		int port = freePort();
+		new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.withPropertyValues(
+				"openai.stub.enabled=true",
+				"openai.stub.port=" + port,
+				"openai.stub.latency.median-ms=1500",
+				"openai.stub.latency.sigma=0")
+			.run(context -> {
+				OpenAiStubServer stub = context.getBean(OpenAiStubServer.class);
+				LlmConcurrencyLimiter limiter = new LlmConcurrencyLimiter(10, 2, 100, 1000, 4, 1, 0.25);
+				// 최근 지연 300ms 표본 하나로 헤지 지연 300ms, 요청마다 헤지 1회분 예산 적립
+				LlmHedgingPolicy hedgingPolicy = new LlmHedgingPolicy(true, 0.95, 1.0, 1, 0);
+				hedgingPolicy.recordLatency(300);
+				OpenAiChatClient client = new OpenAiChatClient(
+					WebClient.builder().baseUrl("http://localhost:" + port + "/v1").build(), limiter,
+					new OpenAiRateLimiter(500, 30000), new TokenEstimator("ai/token-estimation.properties"),
+					hedgingPolicy);
+
+				LlmResponse response = client.chatWithUsageAsync("지원서를 요약해 주세요").join();
+
+				assertThat(response.content()).contains("scoreOutOf100");
+				assertThat(stub.getStats()).containsEntry("totalRequests", 2L);
+				assertThat(hedgingPolicy.getHedgedRequests()).isEqualTo(1);
+				// 원 요청이 먼저 끝나고, 아직 스텁이 응답 중인 헤지 요청은 취소되어 허가가 바로 반환됨
+				assertThat(hedgingPolicy.getHedgeWins()).isZero();
+				assertThat(limiter.getInFlight()).isZero();
+				assertThat(client.getApiStats()).containsEntry("successfulRequests", 1L);
+			});
+	}
+
+	@Test
+	@DisplayName("헤지 예산이 없으면 느린 요청도 헤지하지 않는다")
+	void doesNotHedgeWithoutBudget() throws Exception {
+		int port = freePort();
+		new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.withPropertyValues(
+				"openai.stub.enabled=true",
+				"openai.stub.port=" + port,
+				"openai.stub.latency.median-ms=600",
+				"openai.stub.latency.sigma=0")
+			.run(context -> {
+				OpenAiStubServer stub = context.getBean(OpenAiStubServer.class);
+				LlmHedgingPolicy hedgingPolicy = new LlmHedgingPolicy(true, 0.95, 0.0, 1, 0);
+				hedgingPolicy.recordLatency(100);
+				OpenAiChatClient client = new OpenAiChatClient(
+					WebClient.builder().baseUrl("http://localhost:" + port + "/v1").build(),
+					new LlmConcurrencyLimiter(10, 2, 100, 1000, 4, 1, 0.25),
+					new OpenAiRateLimiter(500, 30000), new TokenEstimator("ai/token-estimation.properties"),
+					hedgingPolicy);
+
+				client.chatWithUsageAsync("지원서를 요약해 주세요").join();
+
+				assertThat(stub.getStats()).containsEntry("totalRequests", 1L);
+				assertThat(hedgingPolicy.getHedgedRequests()).isZero();
+				assertThat(hedgingPolicy.getBudgetRejections()).isEqualTo(1);
+			});
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class OpenAiRateLimiterTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	@DisplayName("분당 요청 수를 넘는 예약은 부족분이 채워질 때까지 순서대로 기다린다")
+	void spacesRequestsPastRequestLimit() {
+		OpenAiRateLimiter limiter = new OpenAiRateLimiter(60, 1_000_000, clock::get);
+
+		for (int i = 0; i < 60; i++) {
+			assertThat(limiter.reserve(10)).isZero();
+		}
+		assertThat(limiter.reserve(10)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(limiter.reserve(10)).isEqualTo(Duration.ofSeconds(2));
+
+		advance(Duration.ofSeconds(2));
+		assertThat(limiter.reserve(10)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(limiter.getThrottledRequests()).isEqualTo(3);
+		assertThat(limiter.getThrottledMillis()).isEqualTo(4000);
+	}
+
+	@Test
+	@DisplayName("예상 토큰이 분당 토큰 수를 넘으면 그만큼 기다리고, 한도보다 큰 예약은 한도만큼만 차감한다")
+	void reservesTokens() {
+		OpenAiRateLimiter limiter = new OpenAiRateLimiter(1000, 6000, clock::get);
+
+		assertThat(limiter.reserve(6000)).isZero();
+		assertThat(limiter.reserve(3000)).isEqualTo(Duration.ofSeconds(30));
+
+		OpenAiRateLimiter fresh = new OpenAiRateLimiter(1000, 6000, clock::get);
+		assertThat(fresh.reserve(100_000)).isZero();
+		assertThat(fresh.getAvailableTokens()).isZero();
+
+		advance(Duration.ofSeconds(30));
+		assertThat(fresh.getAvailableTokens()).isEqualTo(3000);
+	}
+
+	@Test
+	@DisplayName("응답 헤더의 한도와 잔여량으로 버킷을 맞추고, 잔여량이 0이면 reset 시간까지 보류한다")
+	void syncsFromRateLimitHeaders() {
+		OpenAiRateLimiter limiter = new OpenAiRateLimiter(500, 30000, clock::get);
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("x-ratelimit-limit-requests", "60");
+		headers.add("x-ratelimit-remaining-requests", "0");
+		headers.add("x-ratelimit-reset-requests", "1.5s");
+		headers.add("x-ratelimit-limit-tokens", "10000");
+		headers.add("x-ratelimit-remaining-tokens", "100");
+
+		limiter.updateFromHeaders(headers);
+
+		assertThat(limiter.getRequestsPerMinute()).isEqualTo(60);
+		assertThat(limiter.getTokensPerMinute()).isEqualTo(10000);
+		assertThat(limiter.getAvailableTokens()).isEqualTo(100);
+		// 요청 버킷 부족분(1초)보다 reset 보류(1.5초)가 길다
+		assertThat(limiter.reserve(0)).isEqualTo(Duration.ofMillis(1500));
+
+		advance(Duration.ofSeconds(2));
+		// 토큰 버킷: 100 + 2초분(333) - 600 → 부족분 167개 = 1.002초
+		assertThat(limiter.reserve(600)).isBetween(Duration.ofMillis(1000), Duration.ofMillis(1010));
+	}
+
+	@Test
+	@DisplayName("reset 헤더는 분/초/밀리초 조합을 읽는다")
+	void parsesResetDurations() {
+		OpenAiRateLimiter limiter = new OpenAiRateLimiter(500, 30000, clock::get);
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("x-ratelimit-remaining-tokens", "0");
+		headers.add("x-ratelimit-reset-tokens", "6m0s");
+		headers.add("x-ratelimit-remaining-requests", "abc");
+
+		limiter.updateFromHeaders(headers);
+
+		assertThat(limiter.reserve(0)).isEqualTo(Duration.ofMinutes(6));
+		assertThat(limiter.getRequestsPerMinute()).isEqualTo(500);
+	}
+
+	@Test
+	@DisplayName("429를 받으면 retry-after 동안 모든 요청을 보류하고 버킷을 비운다")
+	void holdsRequestsAfterRateLimited() {
+		OpenAiRateLimiter limiter = new OpenAiRateLimiter(500, 30000, clock::get);
+		HttpHeaders millis = new HttpHeaders();
+		millis.add("retry-after-ms", "250");
+
+		limiter.onRateLimited(millis);
+
+		assertThat(limiter.getAvailableRequests()).isZero();
+		assertThat(limiter.reserve(0)).isEqualTo(Duration.ofMillis(250));
+
+		advance(Duration.ofSeconds(10));
+		HttpHeaders seconds = new HttpHeaders();
+		seconds.add(HttpHeaders.RETRY_AFTER, "2");
+		limiter.onRateLimited(seconds);
+		assertThat(limiter.reserve(0)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(limiter.getRateLimitedResponses()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("retry-after가 없는 429는 분당 요청 간격만큼 보류한다")
+	void holdsForOneRequestIntervalWithoutRetryAfter() {
+		OpenAiRateLimiter limiter = new OpenAiRateLimiter(500, 30000, clock::get);
+
+		limiter.onRateLimited(new HttpHeaders());
+
+		assertThat(limiter.reserve(0)).isEqualTo(Duration.ofMillis(120));
+		advance(Duration.ofMillis(120));
+		assertThat(limiter.reserve(0)).isEqualTo(Duration.ofMillis(120));
+	}
+
+	private void advance(Duration duration) {
+		clock.addAndGet(duration.toNanos());
+	}
+}
@@ -0,0 +1,95 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class OpenAiStubServerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	private ApplicationContextRunner runner(int port) {
+		return new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.withPropertyValues(
+				"openai.stub.enabled=true",
+				"openai.stub.port=" + port,
+				"openai.stub.latency.median-ms=0",
+				"openai.stub.latency.sigma=0");
+	}
+
+	@Test
+	@DisplayName("채팅 요청에 OpenAI 형식의 응답과 사용량, 한도 헤더를 돌려준다")
+	void respondsLikeChatCompletions() throws Exception {
+		int port = freePort();
+		runner(port).run(context -> {
+			assertThat(context).hasSingleBean(OpenAiStubServer.class);
+
+			HttpResponse<String> response = post(port, Map.of(
+				"model", "stub",
+				"messages", List.of(Map.of("role", "user", "content", "요약해 주세요"))));
+
+			assertThat(response.statusCode()).isEqualTo(200);
+			assertThat(response.headers().firstValue("x-ratelimit-remaining-requests")).contains("499");
+			JsonNode body = objectMapper.readTree(response.body());
+			assertThat(body.at("/choices/0/message/content").asText()).contains("scoreOutOf100");
+			assertThat(body.at("/usage/completion_tokens").asInt()).isPositive();
+			assertThat(context.getBean(OpenAiStubServer.class).getStats()).containsEntry("totalRequests", 1L);
+		});
+	}
+
+	@Test
+	@DisplayName("429 비율을 1로 두면 모든 요청에 retry-after-ms와 함께 429를 돌려준다")
+	void injectsRateLimitErrors() throws Exception {
+		int port = freePort();
+		runner(port).withPropertyValues("openai.stub.rate-limit-ratio=1.0", "openai.stub.retry-after-ms=250")
+			.run(context -> {
+				HttpResponse<String> response = post(port, Map.of("messages", List.of()));
+
+				assertThat(response.statusCode()).isEqualTo(429);
+				assertThat(response.headers().firstValue("retry-after-ms")).contains("250");
+				assertThat(objectMapper.readTree(response.body()).at("/error/type").asText())
+					.isEqualTo("rate_limit_exceeded");
+			});
+	}
+
+	@Test
+	@DisplayName("설정하지 않으면 스텁 서버와 기록/재생 클라이언트를 등록하지 않는다")
+	void notRegisteredWithoutProperties() {
+		new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.run(context -> {
+				assertThat(context).doesNotHaveBean(OpenAiStubServer.class);
+				assertThat(context).doesNotHaveBean(RecordReplayLlmClient.class);
+			});
+	}
+
+	private HttpResponse<String> post(int port, Map<String, Object> body) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v1/chat/completions"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+			.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
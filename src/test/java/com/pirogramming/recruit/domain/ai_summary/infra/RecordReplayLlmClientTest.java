@@ -0,0 +1,85 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+
+class RecordReplayLlmClientTest {
+
+	private static final String PROMPT = "지원서를 요약해 주세요";
+	private static final LlmResponse RESPONSE = new LlmResponse(
+		"{\"questionSummaries\":[],\"scoreOutOf100\":70,\"scoreReason\":\"기록된 응답\"}", "gpt-test", 120, 40, 300);
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("기록한 응답을 API 호출 없이 그대로 재생한다")
+	void replaysRecordedResponse() throws Exception {
+		OpenAiChatClient recordingDelegate = mock(OpenAiChatClient.class);
+		when(recordingDelegate.chatWithUsageAsync(PROMPT, 700)).thenReturn(CompletableFuture.completedFuture(RESPONSE));
+		RecordReplayLlmClient recorder = new RecordReplayLlmClient(recordingDelegate, "record", directory.toString(), false);
+
+		assertThat(recorder.chatWithUsageAsync(PROMPT, 700).join()).isEqualTo(RESPONSE);
+		try (var files = Files.list(directory)) {
+			assertThat(files.filter(file -> file.toString().endsWith(".json"))).hasSize(1);
+		}
+
+		OpenAiChatClient replayDelegate = mock(OpenAiChatClient.class);
+		RecordReplayLlmClient replayer = new RecordReplayLlmClient(replayDelegate, "replay", directory.toString(), false);
+
+		assertThat(replayer.chatWithUsageAsync(PROMPT, 700).join()).isEqualTo(RESPONSE);
+		assertThat(replayer.getStats()).containsEntry("replayed", 1L);
+		verifyNoInteractions(replayDelegate);
+	}
+
+	@Test
+	@DisplayName("응답 토큰 한도가 다른 요청은 다른 기록으로 취급한다")
+	void missesWhenTokenLimitDiffers() throws Exception {
+		OpenAiChatClient delegate = mock(OpenAiChatClient.class);
+		when(delegate.chatWithUsageAsync(PROMPT, 700)).thenReturn(CompletableFuture.completedFuture(RESPONSE));
+		new RecordReplayLlmClient(delegate, "record", directory.toString(), false).chatWithUsageAsync(PROMPT, 700).join();
+
+		RecordReplayLlmClient replayer = new RecordReplayLlmClient(delegate, "replay", directory.toString(), false);
+
+		assertThatThrownBy(() -> replayer.chatWithUsageAsync(PROMPT, 1400).join())
+			.isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(AiProcessingException.class);
+		assertThat(replayer.getStats()).containsEntry("misses", 1L);
+	}
+
+	@Test
+	@DisplayName("스트리밍 재생은 기록된 본문을 조각으로 나눠 순서대로 전달한다")
+	void replaysStreamInChunks() throws Exception {
+		OpenAiChatClient delegate = mock(OpenAiChatClient.class);
+		when(delegate.chatWithUsageAsync(PROMPT)).thenReturn(CompletableFuture.completedFuture(RESPONSE));
+		new RecordReplayLlmClient(delegate, "record", directory.toString(), false).chatWithUsageAsync(PROMPT).join();
+
+		RecordReplayLlmClient replayer = new RecordReplayLlmClient(delegate, "replay", directory.toString(), false);
+		StringBuilder streamed = new StringBuilder();
+		int[] chunks = {0};
+
+		LlmResponse response = replayer.chatStream(PROMPT, delta -> {
+			streamed.append(delta);
+			chunks[0]++;
+		}).join();
+
+		assertThat(response).isEqualTo(RESPONSE);
+		assertThat(streamed.toString()).isEqualTo(RESPONSE.content());
+		assertThat(chunks[0]).isGreaterThan(1);
+	}
+}
@@ -0,0 +1,40 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenEstimatorTest {
+
+	private final TokenEstimator estimator = new TokenEstimator("ai/token-estimation.properties");
+
+	@Test
+	@DisplayName("한글 음절은 글자당 비율로, 영문 단어는 토큰당 글자 수로 계산한 뒤 안전 계수를 곱한다")
+	void estimatesFromRatioTable() {
+		// 5 * 0.8 = 4 → 4.4
+		assertThat(estimator.estimate("안녕하세요")).isEqualTo(5);
+		// hello(2) + world(2), 단일 공백은 0 → 4.4
+		assertThat(estimator.estimate("hello world")).isEqualTo(5);
+		// Java(1) + 개발자(2.4) + 3(1) + 년(0.8) = 5.2 → 5.72
+		assertThat(estimator.estimate("Java 개발자 3년")).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("자모, 줄바꿈, 이모지는 각각의 비율로 계산하고 빈 입력은 0이다")
+	void estimatesOtherCharacterClasses() {
+		// ㅋ 3개(3) + 줄바꿈(1) + 이모지 코드 포인트 1개(2) = 6 → 6.6
+		assertThat(estimator.estimate("ㅋㅋㅋ\n😀")).isEqualTo(7);
+		assertThat(estimator.estimate("")).isZero();
+		assertThat(estimator.estimate(null)).isZero();
+		assertThat(estimator.estimateMessage("안녕하세요")).isEqualTo(5 + 8);
+	}
+
+	@Test
+	@DisplayName("비율 표를 찾을 수 없으면 기본 비율을 사용한다")
+	void fallsBackToDefaultRatios() {
+		TokenEstimator defaults = new TokenEstimator("ai/missing.properties");
+
+		assertThat(defaults.estimate("안녕하세요")).isEqualTo(estimator.estimate("안녕하세요"));
+	}
+}
@@ -0,0 +1,311 @@
+package com.pirogramming.recruit.domain.ai_summary.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary.ProcessingStatus;
+import com.pirogramming.recruit.domain.ai_summary.entity.SummaryDocument;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException.ErrorType;
+import com.pirogramming.recruit.domain.ai_summary.service.RetryBackoffPolicy;
+import com.pirogramming.recruit.domain.googleform.entity.GoogleForm;
+import com.pirogramming.recruit.domain.googleform.repository.GoogleFormRepository;
+import com.pirogramming.recruit.domain.webhook.entity.WebhookApplication;
+import com.pirogramming.recruit.domain.webhook.repository.WebhookApplicationRepository;
+import com.pirogramming.recruit.global.config.JpaConfig;
+
+// 행 잠금(FOR UPDATE SKIP LOCKED)과 선점/회수 네이티브 쿼리는 PostgreSQL에서만 검증 가능 (Docker가 없으면 건너뜀)
+// 동시 트랜잭션을 다뤄야 하므로 테스트 메서드 트랜잭션은 끄고 TransactionTemplate으로 직접 커밋
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationSummaryRepositoryTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private ApplicationSummaryRepository summaryRepository;
+
+	@Autowired
+	private WebhookApplicationRepository webhookApplicationRepository;
+
+	@Autowired
+	private GoogleFormRepository googleFormRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private GoogleForm googleForm;
+	private int sequence;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		googleForm = googleFormRepository.save(GoogleForm.builder()
+			.formId("form-" + System.nanoTime())
+			.title("25기 리크루팅")
+			.formUrl("https://forms.example.com/25")
+			.generation(25)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		summaryRepository.deleteAllInBatch();
+		webhookApplicationRepository.deleteAllInBatch();
+		googleFormRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("동시에 선점하는 두 트랜잭션은 상대가 잠근 행을 건너뛰어 서로 다른 작업을 가져간다")
+	void concurrentClaimsSkipLockedRows() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			ids.add(save(pending()).getId());
+		}
+		save(failed(0, null));
+
+		List<Long> second = new ArrayList<>();
+		List<Long> first = transactionTemplate.execute(status -> {
+			List<Long> locked = claim("worker-1");
+			// 첫 트랜잭션이 잠금을 쥔 채로 다른 스레드(다른 커넥션)에서 선점 - 잠긴 행을 기다리지 않아야 함
+			second.addAll(CompletableFuture.supplyAsync(() -> transactionTemplate.execute(s -> claim("worker-2")))
+				.orTimeout(10, TimeUnit.SECONDS).join());
+			return locked;
+		});
+
+		assertThat(first).hasSize(2).doesNotContainAnyElementsOf(second);
+		assertThat(second).hasSize(2);
+		assertThat(summaryRepository.findAllById(ids))
+			.allSatisfy(summary -> {
+				assertThat(summary.getProcessingStatus()).isEqualTo(ProcessingStatus.PROCESSING);
+				assertThat(summary.getWorkerId()).isEqualTo(first.contains(summary.getId()) ? "worker-1" : "worker-2");
+				assertThat(summary.getLeaseExpiresAt()).isAfter(summary.getProcessingStartedAt());
+				assertThat(summary.getUpdatedAt()).isEqualTo(summary.getProcessingStartedAt());
+				assertThat(summary.getVersion()).isEqualTo(1L);
+			});
+		List<Long> third = transactionTemplate.execute(status -> claim("worker-3"));
+		assertThat(third).isEmpty();
+	}
+
+	@Test
+	@DisplayName("선점 연장은 자기 워커가 처리 중인 작업에만 적용된다")
+	void extendsOnlyOwnLeases() {
+		LocalDateTime lease = now().plusMinutes(1);
+		ApplicationSummary own = save(processing("worker-1", lease, 0));
+		ApplicationSummary other = save(processing("worker-2", lease, 0));
+
+		LocalDateTime extended = lease.plusMinutes(5);
+		int updated = summaryRepository.extendLeases(List.of(own.getId(), other.getId()), "worker-1", extended,
+			ProcessingStatus.PROCESSING);
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(reload(own).getLeaseExpiresAt()).isEqualTo(extended);
+		assertThat(reload(own).getVersion()).isEqualTo(own.getVersion());
+		assertThat(reload(other).getLeaseExpiresAt()).isEqualTo(lease);
+	}
+
+	@Test
+	@DisplayName("선점이 만료된 작업은 재시도 횟수가 남았으면 PENDING, 다 썼으면 FAILED로 회수한다")
+	void recoversExpiredLeases() {
+		LocalDateTime now = now();
+		ApplicationSummary retryable = save(processing("worker-1", now.minusSeconds(1), 0));
+		ApplicationSummary exhausted = save(processing("worker-1", now.minusSeconds(1), 2));
+		ApplicationSummary alive = save(processing("worker-2", now.plusMinutes(1), 0));
+		ApplicationSummary legacy = save(processing("worker-3", null, 0));
+		legacy.setProcessingStartedAt(now.minusHours(1));
+		save(legacy);
+
+		int recovered = summaryRepository.recoverExpiredLeases(now, now.minusMinutes(30), 3, "lease expired");
+
+		assertThat(recovered).isEqualTo(3);
+		assertThat(reload(retryable)).satisfies(summary -> {
+			assertThat(summary.getProcessingStatus()).isEqualTo(ProcessingStatus.PENDING);
+			assertThat(summary.getRetryCount()).isEqualTo(1);
+			assertThat(summary.getWorkerId()).isNull();
+			assertThat(summary.getLeaseExpiresAt()).isNull();
+			assertThat(summary.getProcessingCompletedAt()).isNull();
+			assertThat(summary.getUpdatedAt()).isEqualTo(now);
+		});
+		assertThat(reload(exhausted)).satisfies(summary -> {
+			assertThat(summary.getProcessingStatus()).isEqualTo(ProcessingStatus.FAILED);
+			assertThat(summary.getRetryCount()).isEqualTo(3);
+			assertThat(summary.getProcessingCompletedAt()).isEqualTo(now);
+			assertThat(summary.getErrorMessage()).isEqualTo("lease expired");
+		});
+		assertThat(reload(alive).getProcessingStatus()).isEqualTo(ProcessingStatus.PROCESSING);
+		assertThat(reload(legacy).getProcessingStatus()).isEqualTo(ProcessingStatus.PENDING);
+	}
+
+	@Test
+	@DisplayName("재시도 시각이 지났거나 시각이 없는 실패 작업만 재시도 횟수 안에서 다시 PENDING으로 돌린다")
+	void requeuesDueFailedTasks() {
+		LocalDateTime now = now();
+		ApplicationSummary due = save(failed(1, now.minusSeconds(1)));
+		ApplicationSummary beforeBackoff = save(failed(1, null));
+		ApplicationSummary notYet = save(failed(1, now.plusMinutes(5)));
+		ApplicationSummary exhausted = save(failed(3, now.minusSeconds(1)));
+
+		int requeued = summaryRepository.requeueDueFailed(now, 3, 10);
+
+		assertThat(requeued).isEqualTo(2);
+		assertThat(reload(due).getProcessingStatus()).isEqualTo(ProcessingStatus.PENDING);
+		assertThat(reload(due).getNextAttemptAt()).isNull();
+		assertThat(reload(due).getUpdatedAt()).isEqualTo(now);
+		assertThat(reload(beforeBackoff).getProcessingStatus()).isEqualTo(ProcessingStatus.PENDING);
+		assertThat(reload(notYet).getProcessingStatus()).isEqualTo(ProcessingStatus.FAILED);
+		assertThat(reload(exhausted).getProcessingStatus()).isEqualTo(ProcessingStatus.FAILED);
+		assertThat(summaryRepository.requeueDueFailed(now, 3, 10)).isZero();
+	}
+
+	@Test
+	@DisplayName("일괄 실패 처리는 RetryBackoffPolicy와 같은 범위(상한의 절반 ~ 상한)로 다음 시도 시각을 정한다")
+	void failClaimsSchedulesBackoffWithinPolicyBounds() {
+		RetryBackoffPolicy policy = new RetryBackoffPolicy(300, 3600, 3);
+		LocalDateTime completedAt = now();
+		List<ApplicationSummary> claimed = IntStream.of(0, 1, 2, 3, 4, 10, 40)
+			.mapToObj(retryCount -> save(processing("batch:1", completedAt.plusMinutes(1), retryCount)))
+			.toList();
+		ApplicationSummary other = save(processing("batch:2", completedAt.plusMinutes(1), 0));
+
+		int failed = transactionTemplate.execute(status ->
+			summaryRepository.failClaims("batch:1", "batch failed", completedAt,
+				policy.baseDelaySeconds(ErrorType.UNKNOWN), policy.getMaxDelaySeconds()));
+
+		assertThat(failed).isEqualTo(claimed.size());
+		for (ApplicationSummary before : claimed) {
+			ApplicationSummary summary = reload(before);
+			int attempt = before.getRetryCount() + 1;
+			long ceiling = policy.ceilingSeconds(ErrorType.UNKNOWN, attempt);
+			assertThat(summary.getProcessingStatus()).isEqualTo(ProcessingStatus.FAILED);
+			assertThat(summary.getRetryCount()).isEqualTo(attempt);
+			assertThat(summary.getErrorMessage()).isEqualTo("batch failed");
+			assertThat(summary.getLeaseExpiresAt()).isNull();
+			assertThat(summary.getUpdatedAt()).isEqualTo(completedAt);
+			assertThat(summary.getNextAttemptAt())
+				.isBetween(completedAt.plusSeconds(ceiling / 2), completedAt.plusSeconds(ceiling));
+		}
+		assertThat(reload(other).getProcessingStatus()).isEqualTo(ProcessingStatus.PROCESSING);
+	}
+
+	@Test
+	@DisplayName("결과 반영, 소유자 변경, 선점 해제도 updated_at을 갱신한다")
+	void bulkTransitionsTouchUpdatedAt() {
+		LocalDateTime later = now().plusHours(1);
+		ApplicationSummary completed = save(processing("worker-1", later, 0));
+		ApplicationSummary reassigned = save(processing("worker-2", later, 0));
+		ApplicationSummary released = save(processing("worker-3", later, 0));
+
+		int updated = summaryRepository.completeClaimed(completed.getId(), completed.getVersion(), "worker-1",
+			new SummaryDocument(80, "근거", List.of()), "v1", later, ProcessingStatus.COMPLETED,
+			ProcessingStatus.PROCESSING);
+		transactionTemplate.executeWithoutResult(status -> {
+			summaryRepository.reassignClaims("worker-2", "batch:1", later.plusMinutes(1), ProcessingStatus.PROCESSING);
+			summaryRepository.releaseClaims("worker-3", later.plusMinutes(2), ProcessingStatus.PENDING,
+				ProcessingStatus.PROCESSING);
+		});
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(reload(completed).getUpdatedAt()).isEqualTo(later);
+		assertThat(reload(completed).getProcessingStatus()).isEqualTo(ProcessingStatus.COMPLETED);
+		assertThat(reload(reassigned).getUpdatedAt()).isEqualTo(later.plusMinutes(1));
+		assertThat(reload(reassigned).getWorkerId()).isEqualTo("batch:1");
+		assertThat(reload(released).getUpdatedAt()).isEqualTo(later.plusMinutes(2));
+		assertThat(reload(released).getProcessingStatus()).isEqualTo(ProcessingStatus.PENDING);
+	}
+
+	// ApplicationSummaryService.claimPendingBatch와 같은 순서 (잠금 → PROCESSING 전환)
+	private List<Long> claim(String workerId) {
+		List<Long> locked = summaryRepository.lockPendingTaskIds(2);
+		if (!locked.isEmpty()) {
+			LocalDateTime now = now();
+			summaryRepository.claimTasks(locked, workerId, now, now.plusMinutes(5),
+				ProcessingStatus.PENDING, ProcessingStatus.PROCESSING);
+		}
+		return locked;
+	}
+
+	private ApplicationSummary pending() {
+		return ApplicationSummary.builder()
+			.webhookApplication(application())
+			.build();
+	}
+
+	private ApplicationSummary processing(String workerId, LocalDateTime leaseExpiresAt, int retryCount) {
+		ApplicationSummary summary = ApplicationSummary.builder()
+			.webhookApplication(application())
+			.processingStatus(ProcessingStatus.PROCESSING)
+			.processingStartedAt(now())
+			.retryCount(retryCount)
+			.build();
+		summary.setWorkerId(workerId);
+		summary.setLeaseExpiresAt(leaseExpiresAt);
+		return summary;
+	}
+
+	private ApplicationSummary failed(int retryCount, LocalDateTime nextAttemptAt) {
+		ApplicationSummary summary = ApplicationSummary.builder()
+			.webhookApplication(application())
+			.processingStatus(ProcessingStatus.FAILED)
+			.retryCount(retryCount)
+			.errorMessage("timeout")
+			.build();
+		summary.setNextAttemptAt(nextAttemptAt);
+		return summary;
+	}
+
+	private WebhookApplication application() {
+		int number = ++sequence;
+		return webhookApplicationRepository.save(WebhookApplication.builder()
+			.googleForm(googleForm)
+			.applicantName("지원자" + number)
+			.applicantEmail("applicant" + number + "@example.com")
+			.formResponseId("response-" + number)
+			.submissionTimestamp(now())
+			.formData(Map.of("1. 지원 동기", "협업 경험을 쌓고 싶습니다."))
+			.build());
+	}
+
+	private ApplicationSummary save(ApplicationSummary summary) {
+		return summaryRepository.save(summary);
+	}
+
+	private ApplicationSummary reload(ApplicationSummary summary) {
+		return summaryRepository.findById(summary.getId()).orElseThrow();
+	}
+
+	// PostgreSQL timestamp 정밀도(마이크로초)에 맞춤
+	private LocalDateTime now() {
+		return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+	}
+}
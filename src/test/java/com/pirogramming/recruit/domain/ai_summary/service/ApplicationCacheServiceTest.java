@@ -0,0 +1,99 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+
+class ApplicationCacheServiceTest {
+
+	private static final String TEMPLATE = "v1";
+
+	private final ApplicationCacheService cache = new ApplicationCacheService();
+
+	@BeforeEach
+	void setUp() {
+		// protected 구간 용량 = 4
+		ReflectionTestUtils.setField(cache, "maxSize", 5);
+		ReflectionTestUtils.setField(cache, "ttlHours", 24L);
+	}
+
+	@Test
+	@DisplayName("다시 조회된 항목은 protected 구간으로 승격되어 probation 항목보다 늦게 제거된다")
+	void promotedEntriesOutliveProbation() {
+		for (int i = 1; i <= 5; i++) {
+			cache.cacheSummary(questions(i), TEMPLATE, summary(i));
+		}
+		assertThat(cache.getCachedSummary(questions(1), TEMPLATE)).isNotNull();
+		assertThat(cache.getCachedSummary(questions(2), TEMPLATE)).isNotNull();
+
+		cache.cacheSummary(questions(6), TEMPLATE, summary(6));
+
+		// probation 구간의 가장 오래된 항목(3)이 제거되고 승격된 1, 2는 남는다
+		assertThat(cache.getCachedSummary(questions(3), TEMPLATE)).isNull();
+		assertThat(cache.getCachedSummary(questions(1), TEMPLATE).getScoreReason()).isEqualTo("요약 1");
+		assertThat(cache.getCachedSummary(questions(2), TEMPLATE)).isNotNull();
+
+		ApplicationCacheService.CacheStats stats = cache.getCacheStats();
+		assertThat(stats.totalEntries).isEqualTo(5);
+		assertThat(stats.protectedEntries).isEqualTo(2);
+		assertThat(stats.probationEntries).isEqualTo(3);
+		assertThat(stats.evictions).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("protected 구간이 넘치면 가장 오래된 항목이 probation 구간으로 강등되어 먼저 제거된다")
+	void overflowingProtectedDemotesOldest() {
+		for (int i = 1; i <= 5; i++) {
+			cache.cacheSummary(questions(i), TEMPLATE, summary(i));
+		}
+		for (int i = 1; i <= 5; i++) {
+			cache.getCachedSummary(questions(i), TEMPLATE);
+		}
+
+		ApplicationCacheService.CacheStats promoted = cache.getCacheStats();
+		assertThat(promoted.protectedEntries).isEqualTo(4);
+		assertThat(promoted.probationEntries).isEqualTo(1);
+
+		cache.cacheSummary(questions(6), TEMPLATE, summary(6));
+
+		assertThat(cache.getCachedSummary(questions(1), TEMPLATE)).isNull();
+		for (int i = 2; i <= 6; i++) {
+			assertThat(cache.getCachedSummary(questions(i), TEMPLATE)).isNotNull();
+		}
+	}
+
+	@Test
+	@DisplayName("질문 번호, 대소문자, 공백 차이는 같은 키로 취급하고 템플릿 버전이 다르면 다른 키로 취급한다")
+	void normalizesQuestionsAndAnswers() {
+		cache.cacheSummary(List.of(new ApplicationQuestionDto("1. Self  Introduction", "안녕하세요.\n저는   학생입니다.")),
+			TEMPLATE, summary(1));
+
+		assertThat(cache.getCachedSummary(
+			List.of(new ApplicationQuestionDto("2. self introduction ", " 안녕하세요. 저는 학생입니다. ")), TEMPLATE))
+			.isNotNull();
+		assertThat(cache.getCachedSummary(
+			List.of(new ApplicationQuestionDto("1. Self Introduction", "안녕하세요. 저는 학생입니다.")), "v2"))
+			.isNull();
+		assertThat(cache.getCachedSummary(
+			List.of(new ApplicationQuestionDto("1. Self Introduction", "안녕하세요. 저는 직장인입니다.")), TEMPLATE))
+			.isNull();
+	}
+
+	private List<ApplicationQuestionDto> questions(int id) {
+		return List.of(new ApplicationQuestionDto("자기소개", "답변 " + id));
+	}
+
+	private ApplicationSummaryDto summary(int id) {
+		ApplicationSummaryDto summary = new ApplicationSummaryDto();
+		summary.setScoreReason("요약 " + id);
+		return summary;
+	}
+}
@@ -0,0 +1,325 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.infra.LlmConcurrencyLimiter;
+import com.pirogramming.recruit.domain.ai_summary.infra.LlmHedgingPolicy;
+import com.pirogramming.recruit.domain.ai_summary.infra.LlmLoadTestConfiguration;
+import com.pirogramming.recruit.domain.ai_summary.infra.OpenAiChatClient;
+import com.pirogramming.recruit.domain.ai_summary.infra.OpenAiRateLimiter;
+import com.pirogramming.recruit.domain.ai_summary.infra.OpenAiStubServer;
+import com.pirogramming.recruit.domain.ai_summary.infra.RecordReplayLlmClient;
+import com.pirogramming.recruit.domain.ai_summary.infra.TokenEstimator;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmClient;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmPriority;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+import com.pirogramming.recruit.domain.ai_summary.util.StreamingSummaryParser;
+
+class ApplicationProcessingServiceTest {
+
+	private static final String SUMMARY_JSON = """
+		{"questionSummaries":[{"question":"자기소개","aiSummary":"팀 프로젝트 경험을 바탕으로 협업을 중시하는 지원자임"}],
+		"scoreOutOf100":75,"scoreReason":"열정과 협업 역량이 드러나며 기술 기반도 갖춤"}""";
+
+	@TempDir
+	Path recordings;
+
+	private final LlmResponseCacheService responseCacheService = mock(LlmResponseCacheService.class);
+
+	@Test
+	@DisplayName("같은 프롬프트를 동시에 요청하면 한 번만 호출하고 결과를 공유한 뒤 진행 중 목록에서 제거한다")
+	void sharesInFlightCall() {
+		PendingLlmClient llmClient = new PendingLlmClient();
+		ApplicationProcessingService service = service(llmClient);
+
+		CompletableFuture<ApplicationSummaryDto> leader = service.processApplicationAsync(application("답변 1"));
+		CompletableFuture<ApplicationSummaryDto> follower = service.processApplicationAsync(application("답변 1"));
+
+		assertThat(llmClient.calls).hasSize(1);
+		assertThat(service.getDeduplicatedCallCount()).isEqualTo(1);
+		assertThat(service.getInFlightPromptCount()).isEqualTo(1);
+
+		llmClient.calls.get(0).complete(response(SUMMARY_JSON));
+
+		assertThat(leader.join().getScoreOutOf100()).isEqualTo(75);
+		assertThat(follower.join().getScoreOutOf100()).isEqualTo(75);
+		assertThat(service.getInFlightPromptCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("공유 호출이 실패하면 참여한 호출자 모두 같은 오류 유형을 받고, 다음 요청은 새로 호출한다")
+	void propagatesFailureToJoinedCallers() {
+		PendingLlmClient llmClient = new PendingLlmClient();
+		ApplicationProcessingService service = service(llmClient);
+
+		CompletableFuture<ApplicationSummaryDto> leader = service.processApplicationAsync(application("답변 1"));
+		CompletableFuture<ApplicationSummaryDto> follower = service.processApplicationAsync(application("답변 1"));
+		llmClient.calls.get(0).completeExceptionally(
+			new AiProcessingException(AiProcessingException.ErrorType.TIMEOUT, "시간 초과"));
+
+		// 비동기 경로는 오류 유형별 fallback 요약으로 완료
+		assertThat(leader.join().getScoreReason()).contains("시간이 초과");
+		assertThat(follower.join().getScoreReason()).contains("시간이 초과");
+		assertThat(service.getInFlightPromptCount()).isZero();
+
+		service.processApplicationAsync(application("답변 1"));
+		assertThat(llmClient.calls).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("한 호출자가 취소해도 공유 호출과 다른 호출자의 결과에는 영향이 없다")
+	void callerCancellationDoesNotAffectOthers() {
+		PendingLlmClient llmClient = new PendingLlmClient();
+		ApplicationProcessingService service = service(llmClient);
+
+		CompletableFuture<ApplicationSummaryDto> leader = service.processApplicationAsync(application("답변 1"));
+		CompletableFuture<ApplicationSummaryDto> follower = service.processApplicationAsync(application("답변 1"));
+		leader.cancel(true);
+
+		assertThat(llmClient.calls.get(0)).isNotCancelled();
+		llmClient.calls.get(0).complete(response(SUMMARY_JSON));
+		assertThat(follower.join().getScoreOutOf100()).isEqualTo(75);
+	}
+
+	@Test
+	@DisplayName("사용자 요청은 진행 중인 백로그 호출을 기다리지 않고 자기 레인에서 호출하며, 이후 백로그 요청은 사용자 호출을 공유한다")
+	void doesNotShareBacklogCallWithInteractiveCaller() {
+		PendingLlmClient llmClient = new PendingLlmClient();
+		ApplicationProcessingService service = service(llmClient);
+
+		CompletableFuture<ApplicationSummaryDto> backlog = LlmPriority.callAs(LlmPriority.Lane.BACKLOG,
+			() -> service.processApplicationAsync(application("답변 1")));
+		CompletableFuture<ApplicationSummaryDto> interactive = service.processApplicationAsync(application("답변 1"));
+		CompletableFuture<ApplicationSummaryDto> laterBacklog = LlmPriority.callAs(LlmPriority.Lane.BACKLOG,
+			() -> service.processApplicationAsync(application("답변 1")));
+
+		assertThat(llmClient.lanes).containsExactly(LlmPriority.Lane.BACKLOG, LlmPriority.Lane.INTERACTIVE);
+		assertThat(service.getDeduplicatedCallCount()).isEqualTo(1);
+
+		llmClient.calls.get(1).complete(response(SUMMARY_JSON));
+
+		assertThat(interactive.join().getScoreOutOf100()).isEqualTo(75);
+		assertThat(laterBacklog.join().getScoreOutOf100()).isEqualTo(75);
+		assertThat(backlog).isNotDone();
+
+		llmClient.calls.get(0).complete(response(SUMMARY_JSON));
+		assertThat(backlog.join().getScoreOutOf100()).isEqualTo(75);
+		assertThat(service.getInFlightPromptCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("짧은 지원서 여러 개를 한 번에 요약하고, 기록한 응답은 API 호출 없이 그대로 재생된다")
+	void coalescesApplicationsAndReplaysRecording() throws Exception {
+		OpenAiChatClient delegate = mock(OpenAiChatClient.class);
+		when(delegate.chatWithUsageAsync(anyString(), eq(1400))).thenReturn(CompletableFuture.completedFuture(
+			response(multiResponse(entry("A1"), entry("A2")))));
+		ApplicationProcessingService recording = service(
+			new RecordReplayLlmClient(delegate, "record", recordings.toString(), false));
+		List<List<ApplicationQuestionDto>> applications = List.of(application("답변 1"), application("답변 2"));
+
+		List<ApplicationProcessingService.VersionedSummary> results = recording.processApplicationsCoalesced(applications);
+
+		ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+		verify(delegate).chatWithUsageAsync(prompt.capture(), eq(1400));
+		assertThat(prompt.getValue()).contains("### Application A1", "### Application A2", "답변 1", "답변 2");
+		assertThat(results).allSatisfy(result -> {
+			assertThat(result.summary().getScoreOutOf100()).isEqualTo(75);
+			assertThat(result.templateVersion()).isEqualTo(recording.getCoalescedTemplateVersion());
+		});
+		assertThat(recording.getCoalescedCallCount()).isEqualTo(1);
+		assertThat(recording.getCoalescedApplicationCount()).isEqualTo(2);
+		verify(responseCacheService).store(eq(prompt.getValue()), anyString(), any());
+
+		ApplicationProcessingService replaying = service(
+			new RecordReplayLlmClient(null, "replay", recordings.toString(), false));
+		assertThat(replaying.processApplicationsCoalesced(applications))
+			.extracting(result -> result.summary().getScoreOutOf100())
+			.containsExactly(75, 75);
+	}
+
+	@Test
+	@DisplayName("응답에 없거나 ID가 다른 지원서는 null로 남겨 단건 호출로 넘기고, 일부 실패한 응답은 영구 캐시에 저장하지 않는다")
+	void leavesMissingOrMismatchedApplicationsForSingleCalls() throws Exception {
+		OpenAiChatClient delegate = mock(OpenAiChatClient.class);
+		when(delegate.chatWithUsageAsync(anyString(), eq(2100))).thenReturn(CompletableFuture.completedFuture(
+			response(multiResponse(entry("A1"), entry("A9")))));
+		ApplicationProcessingService service = service(
+			new RecordReplayLlmClient(delegate, "record", recordings.toString(), false));
+
+		List<ApplicationProcessingService.VersionedSummary> results = service.processApplicationsCoalesced(
+			List.of(application("답변 1"), application("답변 2"), application("답변 3")));
+
+		assertThat(results.get(0)).isNotNull();
+		assertThat(results.get(1)).isNull();
+		assertThat(results.get(2)).isNull();
+		assertThat(service.getCoalescedApplicationCount()).isEqualTo(1);
+		assertThat(service.getCoalesceFallbackCount()).isEqualTo(2);
+		verify(responseCacheService, never()).store(anyString(), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("묶음 응답을 해석할 수 없으면 모든 지원서를 단건 호출로 넘긴다")
+	void fallsBackWhenCoalescedResponseIsMalformed() throws Exception {
+		OpenAiChatClient delegate = mock(OpenAiChatClient.class);
+		when(delegate.chatWithUsageAsync(anyString(), eq(1400))).thenReturn(CompletableFuture.completedFuture(
+			response(SUMMARY_JSON)));
+		ApplicationProcessingService service = service(
+			new RecordReplayLlmClient(delegate, "record", recordings.toString(), false));
+
+		List<ApplicationProcessingService.VersionedSummary> results = service.processApplicationsCoalesced(
+			List.of(application("답변 1"), application("답변 2")));
+
+		assertThat(results).containsOnlyNulls();
+		assertThat(service.getCoalesceFallbackCount()).isEqualTo(2);
+		assertThat(service.getInFlightPromptCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("스트리밍 결과 대기를 취소하면 API 스트림 구독도 취소되어 동시성 허가가 반환된다")
+	void cancellingStreamingCancelsUpstreamRequest() throws Exception {
+		int port = freePort();
+		new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.withPropertyValues(
+				"openai.stub.enabled=true",
+				"openai.stub.port=" + port,
+				"openai.stub.latency.median-ms=4000",
+				"openai.stub.latency.sigma=0",
+				"openai.stub.stream.chunk-chars=4")
+			.run(context -> {
+				OpenAiStubServer stub = context.getBean(OpenAiStubServer.class);
+				LlmConcurrencyLimiter limiter = new LlmConcurrencyLimiter(10, 2, 100, 1000, 4, 1, 0.25);
+				OpenAiChatClient llmClient = new OpenAiChatClient(
+					WebClient.builder().baseUrl("http://localhost:" + port + "/v1").build(), limiter,
+					new OpenAiRateLimiter(500, 30000), new TokenEstimator("ai/token-estimation.properties"),
+					new LlmHedgingPolicy(false, 0.95, 0.05, 20, 1000));
+				ApplicationProcessingService service = service(llmClient);
+
+				CompletableFuture<ApplicationSummaryDto> processing = service.processApplicationStreaming(
+					application("답변 1"), new StreamingSummaryParser.Listener() {
+						@Override
+						public void onQuestionSummary(int index, ApplicationSummaryDto.QuestionSummaryDto questionSummary) {
+						}
+
+						@Override
+						public void onScore(int scoreOutOf100, String scoreReason) {
+						}
+					});
+				await().atMost(Duration.ofSeconds(5))
+					.until(() -> limiter.getInFlight() == 1 && stub.getStats().get("streamedResponses").equals(1L));
+
+				processing.cancel(true);
+
+				await().atMost(Duration.ofSeconds(10))
+					.until(() -> stub.getStats().get("cancelledStreams").equals(1L));
+				assertThat(limiter.getInFlight()).isZero();
+			});
+	}
+
+	private ApplicationProcessingService service(LlmClient llmClient) {
+		when(responseCacheService.findResponse(anyString(), anyString())).thenReturn(Optional.empty());
+
+		ApplicationCacheService cacheService = new ApplicationCacheService();
+		ReflectionTestUtils.setField(cacheService, "maxSize", 100);
+		ReflectionTestUtils.setField(cacheService, "ttlHours", 24L);
+
+		PromptCompactor promptCompactor = new PromptCompactor(new TokenEstimator("ai/token-estimation.properties"));
+		ReflectionTestUtils.setField(promptCompactor, "contentTokenBudget", 4000);
+
+		ApplicationProcessingService service = new ApplicationProcessingService(llmClient, cacheService,
+			responseCacheService, new PromptTemplateRegistry(), promptCompactor, new ApplicationValidationService());
+		ReflectionTestUtils.setField(service, "coalesceEnabled", true);
+		ReflectionTestUtils.setField(service, "maxCoalescedApplications", 4);
+		ReflectionTestUtils.setField(service, "shortContentTokens", 800);
+		ReflectionTestUtils.setField(service, "completionTokensPerApplication", 700);
+		return service;
+	}
+
+	private List<ApplicationQuestionDto> application(String answer) {
+		return List.of(new ApplicationQuestionDto("자기소개", answer));
+	}
+
+	private String entry(String applicationId) {
+		return SUMMARY_JSON.replaceFirst("\\{", "{\"applicationId\":\"" + applicationId + "\",");
+	}
+
+	private String multiResponse(String... entries) {
+		return "{\"applications\":[" + String.join(",", entries) + "]}";
+	}
+
+	private LlmResponse response(String content) {
+		return new LlmResponse(content, "gpt-4o-mini", 100, 50, 10);
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	/**
+	 * 호출마다 완료되지 않은 future를 돌려주는 클라이언트 (테스트가 완료 시점을 정함)
+	 */
+	private static class PendingLlmClient implements LlmClient {
+
+		private final List<CompletableFuture<LlmResponse>> calls = new CopyOnWriteArrayList<>();
+		private final List<LlmPriority.Lane> lanes = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String chat(String prompt) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<String> chatAsync(String prompt) {
+			return chatWithUsageAsync(prompt).thenApply(LlmResponse::content);
+		}
+
+		@Override
+		public CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt) {
+			CompletableFuture<LlmResponse> call = new CompletableFuture<>();
+			calls.add(call);
+			lanes.add(LlmPriority.current());
+			return call;
+		}
+
+		@Override
+		public CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt, int maxCompletionTokens) {
+			return chatWithUsageAsync(prompt);
+		}
+
+		@Override
+		public CompletableFuture<LlmResponse> chatStream(String prompt, Consumer<String> onDelta) {
+			return chatWithUsageAsync(prompt);
+		}
+	}
+}
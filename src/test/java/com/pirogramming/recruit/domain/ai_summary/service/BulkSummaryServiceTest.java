@@ -0,0 +1,92 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.infra.LlmLoadTestConfiguration;
+import com.pirogramming.recruit.domain.ai_summary.infra.OpenAiBatchClient;
+import com.pirogramming.recruit.domain.ai_summary.repository.ApplicationSummaryRepository;
+
+class BulkSummaryServiceTest {
+
+	private final ApplicationSummaryService summaryService = mock(ApplicationSummaryService.class);
+	private final ApplicationSummaryRepository summaryRepository = mock(ApplicationSummaryRepository.class);
+	private final ApplicationProcessingService processingService = mock(ApplicationProcessingService.class);
+
+	@Test
+	@DisplayName("대기 작업을 배치로 제출하고, 완료된 배치를 조회해 결과를 선점 소유자로 반영한다")
+	void submitsPollsAndAppliesResults() throws Exception {
+		int port = freePort();
+		new ApplicationContextRunner()
+			.withUserConfiguration(LlmLoadTestConfiguration.class)
+			.withPropertyValues(
+				"openai.stub.enabled=true",
+				"openai.stub.port=" + port,
+				"openai.stub.batch.completion-ms=0")
+			.run(context -> {
+				BulkSummaryService service = new BulkSummaryService(summaryService, summaryRepository, processingService,
+					new OpenAiBatchClient(WebClient.builder().baseUrl("http://localhost:" + port + "/v1").build()));
+				ReflectionTestUtils.setField(service, "maxRequests", 10);
+				ReflectionTestUtils.setField(service, "leaseHours", 25);
+
+				ApplicationSummary first = summary(1L);
+				ApplicationSummary second = summary(2L);
+				ApplicationSummaryDto parsed = new ApplicationSummaryDto(List.of(), 70, "근거");
+				when(summaryService.claimPendingBatch(anyString(), eq(10), any())).thenReturn(List.of(1L, 2L));
+				when(summaryRepository.findByIdsWithAssociations(anyList())).thenReturn(List.of(first, second));
+				when(summaryService.extractQuestions(any())).thenReturn(List.of());
+				when(processingService.buildSummaryPrompt(anyList())).thenReturn("프롬프트");
+				when(processingService.parseSummaryResponse(anyString(), anyList())).thenReturn(parsed);
+				when(summaryService.applyBulkResult(any(), anyString(), any(), any(), any())).thenReturn(true);
+
+				// 제출: 임시 소유자로 선점한 뒤 배치 ID 소유자로 변경
+				assertThat(service.submitPending()).isEqualTo(2);
+				ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+				verify(summaryService).reassignClaims(anyString(), owner.capture());
+				assertThat(owner.getValue()).startsWith("batch:batch_stub_");
+
+				// 조회 + 반영: 완료된 배치의 결과 파일을 읽어 선점 소유자 기준으로 저장하고 남은 선점은 실패 처리
+				when(summaryRepository.findClaimOwnersLike("batch:%", ApplicationSummary.ProcessingStatus.PROCESSING))
+					.thenReturn(List.of(owner.getValue()));
+				service.pollSubmittedBatches();
+
+				verify(summaryService).applyBulkResult(eq(first), eq(owner.getValue()), eq(parsed), isNull(), isNull());
+				verify(summaryService).applyBulkResult(eq(second), eq(owner.getValue()), eq(parsed), isNull(), isNull());
+				verify(summaryService).failClaims(eq(owner.getValue()), anyString());
+				assertThat(service.getStats().completedResults).isEqualTo(2);
+			});
+	}
+
+	private ApplicationSummary summary(Long id) {
+		ApplicationSummary summary = mock(ApplicationSummary.class);
+		when(summary.getId()).thenReturn(id);
+		return summary;
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
+import com.pirogramming.recruit.domain.ai_summary.infra.TokenEstimator;
+
+class PromptCompactorTest {
+
+	private static final String TRUNCATION_MARK = " …(이하 생략)";
+
+	private final TokenEstimator estimator = new TokenEstimator("ai/token-estimation.properties");
+	private final PromptCompactor compactor = new PromptCompactor(estimator);
+
+	@Test
+	@DisplayName("예산 안의 지원서는 그대로 반환한다")
+	void keepsContentWithinBudget() {
+		setBudget(4000);
+		List<ApplicationQuestionDto> questions = List.of(new ApplicationQuestionDto("1. 자기소개", "안녕하세요. 지원자입니다."));
+
+		assertThat(compactor.fitToBudget(questions)).isSameAs(questions);
+	}
+
+	@Test
+	@DisplayName("예산을 넘으면 먼저 공백, 반복 문자(ㅋㅋㅋ, !!!), 연속으로 반복된 문장을 정리한다")
+	void collapsesWhitespaceAndRepetition() {
+		String collapsed = "정말 좋아요ㅋㅋ!! 열심히 하겠습니다.";
+		setBudget(compactor.estimateContent(List.of(new ApplicationQuestionDto("1. 각오", collapsed))));
+
+		List<ApplicationQuestionDto> result = compactor.fitToBudget(List.of(new ApplicationQuestionDto("1. 각오",
+			"정말   좋아요ㅋㅋㅋㅋㅋㅋ!!!!\n\n열심히 하겠습니다. 열심히 하겠습니다. 열심히 하겠습니다.")));
+
+		assertThat(result.get(0).getAnswer()).isEqualTo(collapsed);
+	}
+
+	@Test
+	@DisplayName("정리 후에도 넘으면 짧은 답변은 그대로 두고 긴 답변들을 예산 안에서 비슷한 길이로 자른다")
+	void waterFillsBudgetAcrossAnswers() {
+		setBudget(600);
+		String shortAnswer = "백엔드 개발자로 지원합니다.";
+		List<ApplicationQuestionDto> questions = List.of(
+			new ApplicationQuestionDto("1. 지원 분야", shortAnswer),
+			new ApplicationQuestionDto("2. 프로젝트 경험", longAnswer("프로젝트")),
+			new ApplicationQuestionDto("3. 협업 경험", longAnswer("협업")));
+
+		List<ApplicationQuestionDto> result = compactor.fitToBudget(questions);
+
+		assertThat(result.get(0).getAnswer()).isEqualTo(shortAnswer);
+		assertThat(result.get(1).getAnswer()).endsWith(TRUNCATION_MARK);
+		assertThat(result.get(2).getAnswer()).endsWith(TRUNCATION_MARK);
+		assertThat(compactor.estimateContent(result)).isLessThanOrEqualTo(600);
+
+		int first = estimator.estimate(result.get(1).getAnswer());
+		int second = estimator.estimate(result.get(2).getAnswer());
+		assertThat(Math.abs(first - second)).isLessThanOrEqualTo(first / 5);
+	}
+
+	@Test
+	@DisplayName("긴 답변은 문장 경계에서 자르고 생략 표시를 붙인다")
+	void truncatesAtSentenceBoundary() {
+		setBudget(200);
+
+		List<ApplicationQuestionDto> result = compactor.fitToBudget(
+			List.of(new ApplicationQuestionDto("1. 프로젝트 경험", longAnswer("프로젝트"))));
+
+		String answer = result.get(0).getAnswer();
+		String kept = answer.substring(0, answer.length() - TRUNCATION_MARK.length());
+		assertThat(kept).endsWith("습니다.");
+		assertThat(longAnswer("프로젝트")).startsWith(kept);
+		assertThat(compactor.estimateContent(result)).isLessThanOrEqualTo(200);
+	}
+
+	private void setBudget(int tokens) {
+		ReflectionTestUtils.setField(compactor, "contentTokenBudget", tokens);
+	}
+
+	private String longAnswer(String topic) {
+		return IntStream.rangeClosed(1, 150)
+			.mapToObj(i -> topic + " 경험 " + i + "번째 항목을 정리했습니다.")
+			.collect(Collectors.joining(" "));
+	}
+}
@@ -0,0 +1,86 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException.ErrorType;
+
+class RetryBackoffPolicyTest {
+
+	private final RetryBackoffPolicy policy = new RetryBackoffPolicy(300, 3600, 3);
+
+	@Test
+	@DisplayName("오류 유형별로 첫 대기 시간이 다르다")
+	void baseDelayDependsOnErrorType() {
+		assertThat(policy.baseDelaySeconds(ErrorType.NETWORK_ERROR)).isEqualTo(300);
+		assertThat(policy.baseDelaySeconds(ErrorType.API_LIMIT_EXCEEDED)).isEqualTo(600);
+		assertThat(policy.baseDelaySeconds(ErrorType.PARSING_ERROR)).isEqualTo(60);
+		assertThat(new RetryBackoffPolicy(60, 3600, 3).baseDelaySeconds(ErrorType.VALIDATION_ERROR)).isEqualTo(30);
+	}
+
+	@Test
+	@DisplayName("대기 시간은 시도마다 두 배로 늘어난 상한의 절반 ~ 상한 사이에서 정해진다")
+	void backoffDoublesWithEqualJitter() {
+		for (int attempt = 1; attempt <= 3; attempt++) {
+			long ceiling = 300L << (attempt - 1);
+			for (int i = 0; i < 200; i++) {
+				assertThat(policy.backoff(ErrorType.TIMEOUT, attempt))
+					.isBetween(Duration.ofSeconds(ceiling / 2), Duration.ofSeconds(ceiling));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("대기 시간은 최대 대기를 넘지 않고, 시도 횟수가 매우 커도 넘치지 않는다")
+	void backoffIsCappedAtMaxDelay() {
+		for (int attempt : new int[] {5, 40, Integer.MAX_VALUE}) {
+			assertThat(policy.backoff(ErrorType.API_LIMIT_EXCEEDED, attempt))
+				.isBetween(Duration.ofSeconds(1800), Duration.ofSeconds(3600));
+		}
+		assertThat(policy.backoff(ErrorType.UNKNOWN, 0))
+			.isBetween(Duration.ofSeconds(150), Duration.ofSeconds(300));
+	}
+
+	@Test
+	@DisplayName("같은 오류로 동시에 실패한 작업들의 재시도 시각이 한 시점에 몰리지 않는다")
+	void jitterSpreadsRetries() {
+		LocalDateTime before = LocalDateTime.now();
+		long distinct = IntStream.range(0, 100)
+			.mapToObj(i -> policy.nextAttemptAt(ErrorType.NETWORK_ERROR, 1))
+			.peek(next -> assertThat(next).isAfterOrEqualTo(before.plusSeconds(150)))
+			.map(next -> next.withNano(0))
+			.distinct()
+			.count();
+
+		assertThat(distinct).isGreaterThan(10);
+	}
+
+	@Test
+	@DisplayName("설정값이 범위를 벗어나면 최소값으로 보정한다")
+	void clampsConfiguration() {
+		RetryBackoffPolicy clamped = new RetryBackoffPolicy(0, 0, 0);
+
+		assertThat(clamped.getMaxAttempts()).isEqualTo(1);
+		assertThat(clamped.getMaxDelaySeconds()).isEqualTo(1);
+		assertThat(clamped.backoff(ErrorType.NETWORK_ERROR, 3)).isBetween(Duration.ZERO, Duration.ofSeconds(1));
+	}
+
+	@Test
+	@DisplayName("원인 체인에서 AI 처리 예외의 오류 유형을 찾고, 없으면 UNKNOWN으로 분류한다")
+	void classifiesCauseChain() {
+		AiProcessingException timeout = new AiProcessingException(ErrorType.TIMEOUT, "timeout");
+
+		assertThat(RetryBackoffPolicy.classify(new CompletionException(new RuntimeException(timeout))))
+			.isEqualTo(ErrorType.TIMEOUT);
+		assertThat(RetryBackoffPolicy.classify(new IllegalStateException("other"))).isEqualTo(ErrorType.UNKNOWN);
+		assertThat(RetryBackoffPolicy.classify(null)).isEqualTo(ErrorType.UNKNOWN);
+	}
+}
@@ -0,0 +1,194 @@
+package com.pirogramming.recruit.domain.ai_summary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary;
+import com.pirogramming.recruit.domain.ai_summary.entity.ApplicationSummary.ProcessingStatus;
+import com.pirogramming.recruit.domain.ai_summary.entity.SummaryDocument;
+import com.pirogramming.recruit.domain.ai_summary.entity.SummaryDocument.QuestionSummary;
+import com.pirogramming.recruit.domain.ai_summary.repository.ApplicationSummaryRepository;
+import com.pirogramming.recruit.domain.googleform.entity.GoogleForm;
+import com.pirogramming.recruit.domain.googleform.repository.GoogleFormRepository;
+import com.pirogramming.recruit.domain.webhook.entity.WebhookApplication;
+import com.pirogramming.recruit.domain.webhook.repository.WebhookApplicationRepository;
+import com.pirogramming.recruit.global.config.JpaConfig;
+
+// 이관 쿼리는 jsonb 캐스팅과 to_regclass를 사용하므로 PostgreSQL에서만 검증 가능 (Docker가 없으면 건너뜀)
+// 이전 Key-Value 테이블은 엔티티가 없으므로 이전 @ElementCollection 매핑과 같은 구조로 직접 생성
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SummaryDocumentMigratorTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private ApplicationSummaryRepository summaryRepository;
+
+	@Autowired
+	private WebhookApplicationRepository webhookApplicationRepository;
+
+	@Autowired
+	private GoogleFormRepository googleFormRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private SummaryDocumentMigrator migrator;
+	private GoogleForm googleForm;
+	private int sequence;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.execute("CREATE TABLE application_summary_items (summary_id bigint NOT NULL, "
+			+ "item_value TEXT, item_key varchar(100) NOT NULL, PRIMARY KEY (summary_id, item_key))");
+		migrator = new SummaryDocumentMigrator(summaryRepository);
+		ReflectionTestUtils.setField(migrator, "enabled", true);
+		googleForm = googleFormRepository.save(GoogleForm.builder()
+			.formId("form-" + System.nanoTime())
+			.title("25기 리크루팅")
+			.formUrl("https://forms.example.com/25")
+			.generation(25)
+			.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("DROP TABLE IF EXISTS application_summary_items");
+		summaryRepository.deleteAllInBatch();
+		webhookApplicationRepository.deleteAllInBatch();
+		googleFormRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("문서가 없는 요약만 이관하고, 다시 실행해도 이미 이관된 문서는 바뀌지 않는다")
+	void migratesLegacyItemsIdempotently() {
+		ApplicationSummary legacy = completed(null);
+		items(legacy, "82", "열정과 협업 역량이 드러남", "[{\"question\":\"1. 지원 동기\",\"aiSummary\":\"협업 경험을 쌓고자 함\"}]");
+		SummaryDocument current = new SummaryDocument(70, "새 문서", List.of());
+		ApplicationSummary alreadyMigrated = completed(current);
+		items(alreadyMigrated, "10", "이전 값", "[]");
+		ApplicationSummary pending = summaryRepository.save(ApplicationSummary.builder()
+			.webhookApplication(application())
+			.processingStatus(ProcessingStatus.PENDING)
+			.build());
+
+		migrator.run(null);
+
+		SummaryDocument expected = new SummaryDocument(82, "열정과 협업 역량이 드러남",
+			List.of(new QuestionSummary("1. 지원 동기", "협업 경험을 쌓고자 함")));
+		assertThat(reload(legacy).getSummary()).isEqualTo(expected);
+		assertThat(reload(alreadyMigrated).getSummary()).isEqualTo(current);
+		assertThat(reload(pending).getSummary()).isNull();
+
+		// 이전 테이블이 바뀌어도 이미 이관된 행은 다시 이관하지 않음
+		jdbcTemplate.update("UPDATE application_summary_items SET item_value = '5' "
+			+ "WHERE summary_id = ? AND item_key = 'scoreOutOf100'", legacy.getId());
+		migrator.run(null);
+
+		assertThat(reload(legacy).getSummary()).isEqualTo(expected);
+		assertThat(summaryRepository.findLegacyQuestionSummaries(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("질문별 요약이 JSON 배열이 아니거나 점수가 정수가 아닌 행은 빈 목록과 0점으로 이관하고 나머지 행도 계속 이관한다")
+	void migratesMalformedRowsWithDefaults() {
+		ApplicationSummary notJson = completed(null);
+		items(notJson, "75", "근거", "요약 없음");
+		ApplicationSummary notArray = completed(null);
+		items(notArray, "75", "근거", "{\"question\":\"1. 지원 동기\"}");
+		ApplicationSummary trailing = completed(null);
+		items(trailing, "75", "근거", "[] []");
+		ApplicationSummary nullCharacter = completed(null);
+		items(nullCharacter, "75", "근거", "[{\"question\":\"\\u0000\",\"aiSummary\":\"요약\"}]");
+		ApplicationSummary badScore = completed(null);
+		items(badScore, "칠십", "근거", "[]");
+		ApplicationSummary overflowScore = completed(null);
+		items(overflowScore, "99999999999", "근거", "[]");
+		ApplicationSummary missingItems = completed(null);
+		jdbcTemplate.update("INSERT INTO application_summary_items (summary_id, item_key, item_value) VALUES (?, ?, ?)",
+			missingItems.getId(), "scoreReason", "근거만 있음");
+
+		migrator.run(null);
+
+		for (ApplicationSummary summary : List.of(notJson, notArray, trailing, nullCharacter)) {
+			assertThat(reload(summary).getSummary()).isEqualTo(new SummaryDocument(75, "근거", List.of()));
+		}
+		assertThat(reload(badScore).getSummary()).isEqualTo(new SummaryDocument(0, "근거", List.of()));
+		assertThat(reload(overflowScore).getSummary()).isEqualTo(new SummaryDocument(0, "근거", List.of()));
+		assertThat(reload(missingItems).getSummary()).isEqualTo(new SummaryDocument(0, "근거만 있음", List.of()));
+		assertThat(summaryRepository.findLegacyQuestionSummaries(10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이전 테이블이 없으면 아무것도 하지 않는다")
+	void skipsWithoutLegacyTable() {
+		jdbcTemplate.execute("DROP TABLE application_summary_items");
+		ApplicationSummary summary = completed(null);
+
+		migrator.run(null);
+
+		assertThat(reload(summary).getSummary()).isNull();
+	}
+
+	private ApplicationSummary completed(SummaryDocument document) {
+		return summaryRepository.save(ApplicationSummary.builder()
+			.webhookApplication(application())
+			.summary(document)
+			.processingStatus(ProcessingStatus.COMPLETED)
+			.processingCompletedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+			.build());
+	}
+
+	private void items(ApplicationSummary summary, String score, String reason, String questionSummaries) {
+		Map<String, String> items = Map.of(
+			"scoreOutOf100", score,
+			"scoreReason", reason,
+			"questionSummaries", questionSummaries);
+		items.forEach((key, value) -> jdbcTemplate.update(
+			"INSERT INTO application_summary_items (summary_id, item_key, item_value) VALUES (?, ?, ?)",
+			summary.getId(), key, value));
+	}
+
+	private WebhookApplication application() {
+		int number = ++sequence;
+		return webhookApplicationRepository.save(WebhookApplication.builder()
+			.googleForm(googleForm)
+			.applicantName("지원자" + number)
+			.applicantEmail("applicant" + number + "@example.com")
+			.formResponseId("response-" + number)
+			.submissionTimestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+			.formData(Map.of("1. 지원 동기", "협업 경험을 쌓고 싶습니다."))
+			.build());
+	}
+
+	private ApplicationSummary reload(ApplicationSummary summary) {
+		return summaryRepository.findById(summary.getId()).orElseThrow();
+	}
+}
@@ -0,0 +1,109 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+	@Test
+	@DisplayName("겹치거나 다른 패턴의 접미사인 패턴도 끝나는 위치마다 모두 찾는다")
+	void findsOverlappingMatches() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+		assertThat(scan(matcher, "ushers")).containsExactly("3:he", "3:she", "5:hers");
+		assertThat(scan(matcher, "ahishe")).containsExactly("3:his", "5:he", "5:she");
+	}
+
+	@Test
+	@DisplayName("한글 등 ASCII 밖의 문자 패턴을 찾고, 패턴에 없는 문자를 만나면 처음부터 다시 찾는다")
+	void matchesNonAsciiAndResetsOnUnknownCharacters() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("무시하고", "system:"));
+
+		assertThat(scan(matcher, "이전 지시를 무시하고 SYSTEM: system:")).containsExactly("10:무시하고", "26:system:");
+		assertThat(scan(matcher, "무시x하고 syst em:")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("무작위 입력에서 단순 탐색과 같은 결과를 낸다")
+	void agreesWithNaiveSearch() {
+		Random random = new Random(7);
+		List<String> patterns = new ArrayList<>();
+		while (patterns.size() < 20) {
+			String pattern = randomText(random, 1 + random.nextInt(4));
+			if (!patterns.contains(pattern)) {
+				patterns.add(pattern);
+			}
+		}
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher(patterns);
+
+		for (int round = 0; round < 50; round++) {
+			String text = randomText(random, 200);
+			assertThat(scan(matcher, text)).isEqualTo(naiveScan(patterns, text));
+		}
+	}
+
+	@Test
+	@DisplayName("패턴 수는 1~64개이고 빈 패턴은 허용하지 않는다")
+	void validatesPatterns() {
+		assertThatThrownBy(() -> new AhoCorasickMatcher(List.of())).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new AhoCorasickMatcher(List.of("a", "")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new AhoCorasickMatcher(
+			IntStream.range(0, 65).mapToObj(i -> "p" + i).toList())).isInstanceOf(IllegalArgumentException.class);
+
+		AhoCorasickMatcher full = new AhoCorasickMatcher(IntStream.range(0, 64).mapToObj(i -> "p" + i).toList());
+		assertThat(scan(full, "p63")).containsExactly("1:p6", "2:p63");
+	}
+
+	// "끝 위치:패턴" 목록 (같은 위치는 패턴 순번 순)
+	private List<String> scan(AhoCorasickMatcher matcher, String text) {
+		List<String> found = new ArrayList<>();
+		int state = AhoCorasickMatcher.ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			state = matcher.next(state, text.charAt(i));
+			long matches = matcher.matches(state);
+			List<String> atPosition = new ArrayList<>();
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				if ((matches & (1L << bit)) != 0) {
+					atPosition.add(i + ":" + matcher.pattern(bit));
+				}
+			}
+			Collections.sort(atPosition);
+			found.addAll(atPosition);
+		}
+		return found;
+	}
+
+	private List<String> naiveScan(List<String> patterns, String text) {
+		List<String> found = new ArrayList<>();
+		for (int end = 0; end < text.length(); end++) {
+			List<String> atPosition = new ArrayList<>();
+			for (String pattern : patterns) {
+				int start = end - pattern.length() + 1;
+				if (start >= 0 && text.startsWith(pattern, start)) {
+					atPosition.add(end + ":" + pattern);
+				}
+			}
+			Collections.sort(atPosition);
+			found.addAll(atPosition);
+		}
+		return found;
+	}
+
+	private String randomText(Random random, int length) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			text.append("ab가나".charAt(random.nextInt(4)));
+		}
+		return text.toString();
+	}
+}
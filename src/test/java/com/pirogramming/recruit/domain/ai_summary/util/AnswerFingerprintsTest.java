@@ -0,0 +1,39 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationQuestionDto;
+
+class AnswerFingerprintsTest {
+
+	private static final String ANSWER = MinHashFingerprintTest.ANSWER;
+
+	@Test
+	@DisplayName("요약이 답변을 옮긴 비율은 요약 shingle 중 한 답변에 있는 비율의 최댓값이다")
+	void measuresLeakageAgainstEachAnswer() {
+		AnswerFingerprints answers = AnswerFingerprints.of(List.of(
+			new ApplicationQuestionDto("1. 지원 동기", ANSWER),
+			new ApplicationQuestionDto("2. 목표", "끝까지 완성해 실제 사용자가 쓰는 서비스를 운영해 보는 것이 목표입니다.")));
+
+		// 긴 답변의 일부를 그대로 옮긴 짧은 요약 (Jaccard는 작지만 포함 비율은 1)
+		assertThat(answers.leakage("백엔드 API 설계와 데이터베이스 모델링을 맡았습니다")).isEqualTo(1.0);
+		assertThat(answers.leakage("실제 사용자가 쓰는 서비스를 운영")).isEqualTo(1.0);
+		assertThat(answers.leakage("협업 경험이 풍부하고 성장 의지가 강한 지원자로 보입니다")).isLessThan(0.2);
+		assertThat(answers.leakage("!!!")).isZero();
+	}
+
+	@Test
+	@DisplayName("원본 답변이 없으면 옮긴 비율은 항상 0이다")
+	void noAnswersMeansNoLeakage() {
+		assertThat(AnswerFingerprints.none().leakage(ANSWER)).isZero();
+		assertThat(AnswerFingerprints.of(List.of(new ApplicationQuestionDto("1. 질문", "  ")))).satisfies(answers -> {
+			assertThat(answers.isEmpty()).isTrue();
+			assertThat(answers.leakage(ANSWER)).isZero();
+		});
+	}
+}
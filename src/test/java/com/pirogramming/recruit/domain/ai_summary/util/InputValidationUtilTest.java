@@ -0,0 +1,34 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pirogramming.recruit.global.exception.RecruitException;
+
+class InputValidationUtilTest {
+
+	@Test
+	@DisplayName("긴 답변도 버리지 않고 프롬프트 축약 대상으로 남긴다")
+	void keepsLongAnswers() {
+		String longAnswer = "프로젝트 경험을 정리했습니다. ".repeat(500);
+
+		assertThat(InputValidationUtil.isValidFormEntry("1. 프로젝트 경험", longAnswer)).isTrue();
+		InputValidationUtil.validateFormContentLength(Map.of("1. 프로젝트 경험", longAnswer).entrySet());
+	}
+
+	@Test
+	@DisplayName("전체 길이가 한도를 넘으면 지원서 전체를 거절한다")
+	void rejectsOversizedForm() {
+		String answer = "가나다라마바사아자차. ".repeat(1000);
+
+		assertThatThrownBy(() -> InputValidationUtil.validateFormContentLength(
+			Map.of("1. 자기소개", answer, "2. 지원 동기", answer, "3. 협업 경험", answer).entrySet()))
+			.isInstanceOf(RecruitException.class)
+			.hasMessageContaining("너무 깁니다");
+	}
+}
@@ -0,0 +1,96 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinHashFingerprintTest {
+
+	static final String ANSWER = "학교 수업에서 처음 프로그래밍을 접하고 직접 서비스를 만들어 보고 싶다는 생각이 들었습니다. "
+		+ "동아리에서 웹 프로젝트를 진행하며 백엔드 API 설계와 데이터베이스 모델링을 맡았습니다. "
+		+ "배포 과정에서 발생한 메모리 부족 문제를 로그를 분석해 원인을 찾고 설정을 조정해 해결했습니다.";
+
+	@Test
+	@DisplayName("띄어쓰기, 문장부호, 대소문자 차이는 같은 shingle로 본다")
+	void normalizesBeforeShingling() {
+		assertThat(MinHashFingerprint.shingles("Spring Boot, JPA!"))
+			.isEqualTo(MinHashFingerprint.shingles("springboot jpa"));
+		assertThat(MinHashFingerprint.shingles("  ...  ")).isEmpty();
+		assertThat(MinHashFingerprint.shingles(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("shingle은 중복 없이 오름차순이고, 짧은 텍스트는 전체가 shingle 하나다")
+	void shinglesAreDistinctAndSorted() {
+		long[] shingles = MinHashFingerprint.shingles("abcabcabcabc");
+
+		assertThat(shingles).hasSize(3);
+		assertThat(shingles).isSorted();
+		assertThat(MinHashFingerprint.shingles("ab")).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("서명 일치 비율로 추정한 Jaccard 유사도가 실제 집합 유사도와 가깝다")
+	void estimatesJaccardSimilarity() {
+		String edited = ANSWER.replace("메모리 부족 문제를", "응답 지연 문제를").replace("동아리에서", "학회에서");
+
+		double actual = exactJaccard(ANSWER, edited);
+		double estimated = MinHashFingerprint.of(ANSWER).jaccard(MinHashFingerprint.of(edited));
+
+		assertThat(MinHashFingerprint.of(ANSWER).jaccard(MinHashFingerprint.of(ANSWER + " "))).isEqualTo(1.0);
+		assertThat(estimated).isCloseTo(actual, within(0.2));
+		assertThat(MinHashFingerprint.of(ANSWER).jaccard(MinHashFingerprint.of(randomText(new Random(1)))))
+			.isLessThan(0.1);
+	}
+
+	@Test
+	@DisplayName("빈 텍스트의 지문은 어떤 지문과도 유사도 0이다")
+	void emptyFingerprintNeverMatches() {
+		MinHashFingerprint empty = MinHashFingerprint.of("!!!");
+
+		assertThat(empty.isEmpty()).isTrue();
+		assertThat(empty.jaccard(empty)).isZero();
+		assertThat(MinHashFingerprint.of(ANSWER).getShingleCount()).isPositive();
+	}
+
+	@Test
+	@DisplayName("같은 텍스트는 모든 band 키가 같고, 겹치지 않는 텍스트는 모든 band 키가 다르다")
+	void bandKeysFollowSignature() {
+		MinHashFingerprint first = MinHashFingerprint.of(ANSWER);
+		MinHashFingerprint same = MinHashFingerprint.of(ANSWER.toUpperCase());
+		MinHashFingerprint other = MinHashFingerprint.of(randomText(new Random(2)));
+
+		int differentBands = 0;
+		for (int band = 0; band < 16; band++) {
+			assertThat(first.bandKey(band, 4)).isEqualTo(same.bandKey(band, 4));
+			if (first.bandKey(band, 4) != other.bandKey(band, 4)) {
+				differentBands++;
+			}
+		}
+		assertThat(differentBands).isEqualTo(16);
+	}
+
+	private double exactJaccard(String first, String second) {
+		Set<Long> a = new HashSet<>(Arrays.stream(MinHashFingerprint.shingles(first)).boxed().toList());
+		Set<Long> b = new HashSet<>(Arrays.stream(MinHashFingerprint.shingles(second)).boxed().toList());
+		Set<Long> union = new HashSet<>(a);
+		union.addAll(b);
+		a.retainAll(b);
+		return (double) a.size() / union.size();
+	}
+
+	private String randomText(Random random) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			text.append((char) ('가' + random.nextInt(2000)));
+		}
+		return text.toString();
+	}
+}
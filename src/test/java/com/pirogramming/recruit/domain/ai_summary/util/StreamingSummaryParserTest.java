@@ -0,0 +1,118 @@
+package com.pirogramming.recruit.domain.ai_summary.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pirogramming.recruit.domain.ai_summary.dto.ApplicationSummaryDto;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+
+class StreamingSummaryParserTest {
+
+	private static final String RESPONSE = """
+		{"questionSummaries":[
+		  {"question":"1. 지원 동기","aiSummary":"협업 경험을 쌓고 싶어 지원함"},
+		  {"question":"2. 프로젝트 경험","aiSummary":"Spring으로 게시판을 만들어 \\"배포\\"까지 진행함"}
+		 ],
+		 "extra":{"ignored":[1,2,3]},
+		 "scoreOutOf100":78,
+		 "scoreReason":"학습 태도가 구체적임"}""";
+
+	@Test
+	@DisplayName("전체 응답을 한 번에 읽어 DTO로 변환하고 JSON 앞의 설명 문구와 모르는 필드는 건너뛴다")
+	void parsesWholeResponse() {
+		ApplicationSummaryDto result = StreamingSummaryParser.parse("다음은 분석 결과입니다.\n" + RESPONSE);
+
+		assertThat(result.getScoreOutOf100()).isEqualTo(78);
+		assertThat(result.getScoreReason()).isEqualTo("학습 태도가 구체적임");
+		assertThat(result.getQuestionSummaries())
+			.extracting(ApplicationSummaryDto.QuestionSummaryDto::getQuestion,
+				ApplicationSummaryDto.QuestionSummaryDto::getAiSummary)
+			.containsExactly(
+				tuple("1. 지원 동기", "협업 경험을 쌓고 싶어 지원함"),
+				tuple("2. 프로젝트 경험", "Spring으로 게시판을 만들어 \"배포\"까지 진행함"));
+	}
+
+	@Test
+	@DisplayName("한 글자씩 나눠 들어와도 항목이 완성될 때마다 순서대로 전달하고, 루트 객체가 끝나면 점수를 전달한다")
+	void emitsItemsAsSoonAsTheyComplete() {
+		List<String> events = new ArrayList<>();
+		StreamingSummaryParser parser = new StreamingSummaryParser(new StreamingSummaryParser.Listener() {
+			@Override
+			public void onQuestionSummary(int index, ApplicationSummaryDto.QuestionSummaryDto questionSummary) {
+				events.add(index + ":" + questionSummary.getQuestion());
+			}
+
+			@Override
+			public void onScore(int scoreOutOf100, String scoreReason) {
+				events.add("score:" + scoreOutOf100);
+			}
+		});
+
+		int firstItemEnd = RESPONSE.indexOf('}') + 1;
+		for (int i = 0; i < RESPONSE.length(); i++) {
+			parser.feed(RESPONSE.substring(i, i + 1));
+			if (i + 1 == firstItemEnd) {
+				assertThat(events).containsExactly("0:1. 지원 동기");
+			}
+		}
+		parser.finish();
+
+		assertThat(parser.isCompleted()).isTrue();
+		assertThat(events).containsExactly("0:1. 지원 동기", "1:2. 프로젝트 경험", "score:78");
+	}
+
+	@Test
+	@DisplayName("문자열이나 소수로 온 점수도 정수로 읽는다")
+	void readsLenientScores() {
+		assertThat(StreamingSummaryParser.parse(
+			"{\"questionSummaries\":[],\"scoreOutOf100\":\"65\",\"scoreReason\":\"근거\"}").getScoreOutOf100())
+			.isEqualTo(65);
+		assertThat(StreamingSummaryParser.parse(
+			"{\"questionSummaries\":null,\"scoreOutOf100\":77.6,\"scoreReason\":\"근거\"}").getScoreOutOf100())
+			.isEqualTo(78);
+	}
+
+	@Test
+	@DisplayName("루트 객체가 끝난 뒤의 입력은 무시한다")
+	void ignoresInputAfterRootObject() {
+		StreamingSummaryParser parser = new StreamingSummaryParser();
+		parser.feed(RESPONSE);
+		parser.feed(" 추가 설명 {\"scoreOutOf100\":1}");
+		parser.finish();
+
+		assertThat(parser.getResult().getScoreOutOf100()).isEqualTo(78);
+	}
+
+	@Test
+	@DisplayName("필수 필드가 없거나 JSON이 끝나지 않으면 응답 형식 오류로 처리한다")
+	void rejectsIncompleteResponses() {
+		assertThatThrownBy(() -> StreamingSummaryParser.parse("{\"questionSummaries\":[],\"scoreOutOf100\":70}"))
+			.isInstanceOf(AiProcessingException.class)
+			.extracting("errorType").isEqualTo(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT);
+		assertThatThrownBy(() -> StreamingSummaryParser.parse(RESPONSE.substring(0, RESPONSE.length() - 1)))
+			.isInstanceOf(AiProcessingException.class)
+			.extracting("errorType").isEqualTo(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT);
+		assertThatThrownBy(() -> StreamingSummaryParser.parse("JSON 없음"))
+			.isInstanceOf(AiProcessingException.class)
+			.extracting("errorType").isEqualTo(AiProcessingException.ErrorType.INVALID_RESPONSE_FORMAT);
+	}
+
+	@Test
+	@DisplayName("JSON 문법 오류와 숫자가 아닌 점수는 파싱 오류로 처리한다")
+	void rejectsMalformedJson() {
+		assertThatThrownBy(() -> StreamingSummaryParser.parse("{\"questionSummaries\":[}"))
+			.isInstanceOf(AiProcessingException.class)
+			.extracting("errorType").isEqualTo(AiProcessingException.ErrorType.PARSING_ERROR);
+		assertThatThrownBy(() -> StreamingSummaryParser.parse(
+			"{\"questionSummaries\":[],\"scoreOutOf100\":\"높음\",\"scoreReason\":\"근거\"}"))
+			.isInstanceOf(AiProcessingException.class)
+			.extracting("errorType").isEqualTo(AiProcessingException.ErrorType.PARSING_ERROR);
+	}
+}
@@ -0,0 +1,91 @@
+package com.pirogramming.recruit.domain.webhook.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pirogramming.recruit.domain.ai_summary.util.MinHashFingerprint;
+
+class AnswerSimilarityIndexTest {
+
+	private static final String MOTIVATION = "1. 지원 동기";
+	private static final String GOAL = "2. 목표";
+	private static final String TEMPLATE = "학교 수업에서 처음 프로그래밍을 접하고 직접 서비스를 만들어 보고 싶다는 생각이 들었습니다. "
+		+ "동아리에서 웹 프로젝트를 진행하며 백엔드 API 설계와 데이터베이스 모델링을 맡았습니다. "
+		+ "배포 과정에서 발생한 메모리 부족 문제를 로그를 분석해 원인을 찾고 설정을 조정해 해결했습니다.";
+	private static final String DIFFERENT = "사진 동아리에서 전시회를 기획하며 일정 관리와 홍보를 맡았고, "
+		+ "관람객 설문을 정리해 다음 전시 주제를 정하는 데 활용했습니다. 꾸준히 기록하는 습관이 장점입니다.";
+	private static final AnswerSimilarityIndex.Marker MARKER =
+		new AnswerSimilarityIndex.Marker(3, 3L, LocalDateTime.of(2026, 1, 1, 0, 0));
+
+	@Test
+	@DisplayName("질문별로 유사한 답변만 묶고, 큰 묶음부터 반환한다")
+	void clustersSimilarAnswersPerQuestion() {
+		AnswerSimilarityIndex index = new AnswerSimilarityIndex(0.6, 50, MARKER);
+		index.add(1L, "지원자1", Map.of(MOTIVATION, TEMPLATE, GOAL, DIFFERENT));
+		index.add(2L, "지원자2", Map.of(MOTIVATION, TEMPLATE + " 감사합니다.", GOAL, DIFFERENT + "!"));
+		index.add(3L, "지원자3", Map.of(MOTIVATION, TEMPLATE.replace("동아리에서", "학회에서"), GOAL, TEMPLATE));
+		index.add(4L, "지원자4", Map.of(MOTIVATION, DIFFERENT));
+
+		assertThat(index.clusters()).containsExactly(
+			new AnswerSimilarityIndex.Cluster(MOTIVATION, List.of(1L, 2L, 3L)),
+			new AnswerSimilarityIndex.Cluster(GOAL, List.of(1L, 2L)));
+		assertThat(index.applicantName(3L)).isEqualTo("지원자3");
+	}
+
+	@Test
+	@DisplayName("직접 비슷하지 않은 두 답변도 둘 다와 비슷한 답변이 들어오면 한 묶음이 된다")
+	void mergesClustersTransitively() {
+		String first = TEMPLATE;
+		String middle = TEMPLATE.replace("학교 수업에서 처음", "고등학교 방과후 수업에서 우연히");
+		String last = middle.replace("메모리 부족 문제를 로그를 분석해", "응답 지연 문제를 모니터링 지표로 추적해");
+		double firstMiddle = jaccard(first, middle);
+		double middleLast = jaccard(middle, last);
+		double threshold = Math.min(firstMiddle, middleLast);
+		assumeThat(jaccard(first, last)).isLessThan(threshold);
+
+		AnswerSimilarityIndex index = new AnswerSimilarityIndex(threshold, 50, MARKER);
+		index.add(1L, "지원자1", Map.of(MOTIVATION, first));
+		index.add(2L, "지원자2", Map.of(MOTIVATION, last));
+		assertThat(index.clusters()).isEmpty();
+
+		index.add(3L, "지원자3", Map.of(MOTIVATION, middle));
+
+		assertThat(index.clusters()).singleElement()
+			.extracting(AnswerSimilarityIndex.Cluster::applicationIds)
+			.isEqualTo(List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	@DisplayName("짧은 답변은 같아도 묶지 않고, 같은 지원서는 한 번만 반영한다")
+	void ignoresShortAnswersAndDuplicateApplications() {
+		AnswerSimilarityIndex index = new AnswerSimilarityIndex(0.6, 50, MARKER);
+		index.add(1L, "지원자1", Map.of("학년", "3학년", MOTIVATION, TEMPLATE));
+		index.add(2L, "지원자2", Map.of("학년", "3학년", MOTIVATION, DIFFERENT));
+		index.add(2L, "다른 이름", Map.of(MOTIVATION, TEMPLATE));
+
+		assertThat(index.clusters()).isEmpty();
+		assertThat(index.applicantName(2L)).isEqualTo("지원자2");
+	}
+
+	@Test
+	@DisplayName("만들 때의 지원서 상태와 다르면 최신이 아니다")
+	void comparesMarker() {
+		AnswerSimilarityIndex index = new AnswerSimilarityIndex(0.6, 50, MARKER);
+
+		assertThat(index.isUpToDate(new AnswerSimilarityIndex.Marker(3, 3L, MARKER.lastModifiedAt()))).isTrue();
+		assertThat(index.isUpToDate(new AnswerSimilarityIndex.Marker(3, 4L, MARKER.lastModifiedAt()))).isFalse();
+		assertThat(index.isUpToDate(new AnswerSimilarityIndex.Marker(3, 3L, MARKER.lastModifiedAt().plusSeconds(1))))
+			.isFalse();
+	}
+
+	private double jaccard(String first, String second) {
+		return MinHashFingerprint.of(first).jaccard(MinHashFingerprint.of(second));
+	}
+}
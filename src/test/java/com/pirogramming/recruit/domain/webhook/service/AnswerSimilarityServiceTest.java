@@ -0,0 +1,86 @@
+package com.pirogramming.recruit.domain.webhook.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pirogramming.recruit.domain.googleform.service.GoogleFormService;
+import com.pirogramming.recruit.domain.webhook.dto.SimilarAnswerClusterResponse;
+import com.pirogramming.recruit.domain.webhook.entity.WebhookApplication;
+import com.pirogramming.recruit.domain.webhook.repository.WebhookApplicationRepository;
+
+class AnswerSimilarityServiceTest {
+
+	private static final WebhookApplication.ProcessingStatus COMPLETED = WebhookApplication.ProcessingStatus.COMPLETED;
+
+	private final WebhookApplicationRepository repository = mock(WebhookApplicationRepository.class);
+	private final AnswerSimilarityService service =
+		new AnswerSimilarityService(repository, mock(GoogleFormService.class));
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(service, "threshold", 0.6);
+		ReflectionTestUtils.setField(service, "minAnswerLength", 50);
+		ReflectionTestUtils.setField(service, "maxCachedForms", 2);
+		for (long formId = 1; formId <= 3; formId++) {
+			when(repository.findChangeMarker(formId, COMPLETED))
+				.thenReturn(List.<Object[]>of(new Object[] {0L, null, LocalDateTime.of(2026, 1, 1, 0, 0)}));
+		}
+	}
+
+	@Test
+	@DisplayName("같은 폼을 동시에 조회하면 인덱스를 한 번만 만들고, 만드는 동안 다른 폼 조회는 기다리지 않는다")
+	void rebuildsOnceWithoutBlockingOtherForms() throws Exception {
+		CountDownLatch building = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(repository.findByGoogleFormIdAndStatus(1L, COMPLETED)).thenAnswer(invocation -> {
+			building.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		});
+
+		CompletableFuture<List<SimilarAnswerClusterResponse>> first =
+			CompletableFuture.supplyAsync(() -> service.findSimilarAnswerClusters(1L));
+		assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<List<SimilarAnswerClusterResponse>> second =
+			CompletableFuture.supplyAsync(() -> service.findSimilarAnswerClusters(1L));
+
+		assertThat(service.findSimilarAnswerClusters(2L)).isEmpty();
+		assertThat(second).isNotDone();
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEmpty();
+		verify(repository, times(1)).findByGoogleFormIdAndStatus(1L, COMPLETED);
+	}
+
+	@Test
+	@DisplayName("유지하는 폼 수가 한도를 넘으면 가장 오래 조회되지 않은 폼의 인덱스를 제거한다")
+	void evictsLeastRecentlyUsedForm() {
+		service.findSimilarAnswerClusters(1L);
+		service.findSimilarAnswerClusters(2L);
+		service.findSimilarAnswerClusters(1L);
+		service.findSimilarAnswerClusters(3L);
+
+		service.findSimilarAnswerClusters(1L);
+		service.findSimilarAnswerClusters(2L);
+
+		verify(repository, times(1)).findByGoogleFormIdAndStatus(eq(1L), eq(COMPLETED));
+		verify(repository, times(2)).findByGoogleFormIdAndStatus(eq(2L), eq(COMPLETED));
+		verify(repository, times(1)).findByGoogleFormIdAndStatus(eq(3L), eq(COMPLETED));
+	}
+}
@@ -0,0 +1,37 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 부하 테스트용 LLM 대체 빈 등록 (테스트/벤치마크 클래스패스에만 존재)
+ * - openai.stub.enabled=true: OpenAI 호환 스텁 서버 시작
+ * - openai.record-replay.mode=record|replay: OpenAiChatClient를 감싼 기록/재생 클라이언트를 LlmClient로 우선 주입
+ */
+@Configuration(proxyBeanMethods = false)
+public class LlmLoadTestConfiguration {
+
+	// 포트/지연/오류 비율은 openai.stub.* (@Value) - 시작/종료는 빈 생명주기(@PostConstruct/@PreDestroy)
+	@Bean
+	@ConditionalOnProperty(name = "openai.stub.enabled", havingValue = "true")
+	public OpenAiStubServer openAiStubServer() {
+		return new OpenAiStubServer();
+	}
+
+	@Bean
+	@Primary
+	@ConditionalOnProperty(name = "openai.record-replay.mode")
+	public RecordReplayLlmClient recordReplayLlmClient(
+		OpenAiChatClient delegate,
+		@Value("${openai.record-replay.mode}") String mode,
+		@Value("${openai.record-replay.directory:./llm-recordings}") String directory,
+		@Value("${openai.record-replay.replay-latency:true}") boolean replayLatency
+	) throws IOException {
+		return new RecordReplayLlmClient(delegate, mode, directory, replayLatency);
+	}
+}
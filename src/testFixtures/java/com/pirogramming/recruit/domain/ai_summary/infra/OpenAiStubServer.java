@@ -0,0 +1,542 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 부하 테스트용 OpenAI 호환 스텁 서버 (/chat/completions, Batch API의 /files, /batches)
+ * 실제 API 없이 OpenAiChatClient ~ 배치 처리 전체 경로의 처리량과 동시성 설정을 측정하기 위해 사용
+ * - 응답 지연: 로그정규분포 (중앙값, 표준편차 설정 - 표준편차 0이면 고정 지연)
+ * - 오류 주입: 설정 비율만큼 429(retry-after-ms 포함) / 5xx 응답
+ * - x-ratelimit-* 헤더: 설정한 RPM/TPM 기준 최근 1분 사용량으로 계산 (OpenAiRateLimiter 동기화 확인용)
+ * - 응답 본문의 usage 토큰 수는 글자 수로 추정, stream=true면 SSE 조각으로 나눠 전송 후 usage 조각 전송
+ *   (전송 도중 클라이언트가 연결을 끊으면 cancelledStreams로 집계 - 호출 취소가 API까지 전파되는지 확인용)
+ * - Batch API: 업로드한 JSONL의 요청마다 채팅 응답과 같은 본문을 만들고, 설정한 시간이 지나면 completed로 전환
+ *   (오류 주입 비율은 요청 줄마다 적용되어 error 파일로 분리, 파일과 배치는 메모리에만 보관)
+ * 테스트/벤치마크 전용 (testFixtures) - LlmLoadTestConfiguration이 openai.stub.enabled=true일 때만 등록
+ * openai.api.base-url을 http://localhost:{port}/v1로 지정하여 사용
+ */
+@Slf4j
+public class OpenAiStubServer {
+
+	private static final String CHAT_COMPLETIONS_PATH = "/chat/completions";
+	private static final String FILES_PATH = "/files";
+	private static final String BATCHES_PATH = "/batches";
+	private static final Pattern BATCH_PATH = Pattern.compile(".*/batches/([^/]+)");
+	private static final Pattern FILE_CONTENT_PATH = Pattern.compile(".*/files/([^/]+)/content");
+	private static final String DEFAULT_CONTENT = """
+		{"questionSummaries":[{"question":"지원 동기","aiSummary":"스텁 서버가 생성한 요약입니다. 지원자는 개발 동아리 활동을 통해 협업 경험을 쌓고 싶어 합니다."}],\
+		"scoreOutOf100":70,"scoreReason":"스텁 서버 응답 - 부하 테스트용 고정 점수입니다."}""";
+	// 글자 수 기반 토큰 추정 비율 (한국어/영어 혼합 기준 대략값)
+	private static final double CHARS_PER_TOKEN = 2.5;
+	private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Value("${openai.stub.port:18080}")
+	private int port;
+
+	@Value("${openai.stub.latency.median-ms:800}")
+	private long latencyMedianMs;
+
+	@Value("${openai.stub.latency.sigma:0.5}")
+	private double latencySigma;
+
+	@Value("${openai.stub.rate-limit-ratio:0.0}")
+	private double rateLimitRatio;
+
+	@Value("${openai.stub.server-error-ratio:0.0}")
+	private double serverErrorRatio;
+
+	@Value("${openai.stub.retry-after-ms:1000}")
+	private long retryAfterMs;
+
+	@Value("${openai.stub.requests-per-minute:500}")
+	private long requestsPerMinute;
+
+	@Value("${openai.stub.tokens-per-minute:30000}")
+	private long tokensPerMinute;
+
+	@Value("${openai.stub.stream.chunk-chars:16}")
+	private int streamChunkChars;
+
+	// 배치 생성 후 completed로 바뀌기까지의 시간
+	@Value("${openai.stub.batch.completion-ms:5000}")
+	private long batchCompletionMs;
+
+	// 응답 본문(모델이 생성한 내용) 파일 - 없으면 기본 요약 JSON
+	@Value("${openai.stub.response-file:}")
+	private String responseFile;
+
+	private HttpServer server;
+	private ExecutorService executor;
+	private String content;
+
+	// 최근 1분 요청/토큰 사용 기록 (x-ratelimit-remaining-* 계산용)
+	private final Deque<long[]> usageWindow = new ArrayDeque<>();
+	private long windowRequests;
+	private long windowTokens;
+
+	// Batch API 파일(ID → 내용)과 배치
+	private final Map<String, String> files = new ConcurrentHashMap<>();
+	private final Map<String, StubBatch> batches = new ConcurrentHashMap<>();
+
+	private final AtomicLong totalRequests = new AtomicLong();
+	private final AtomicLong rateLimitedResponses = new AtomicLong();
+	private final AtomicLong serverErrorResponses = new AtomicLong();
+	private final AtomicLong streamedResponses = new AtomicLong();
+	private final AtomicLong cancelledStreams = new AtomicLong();
+	private final AtomicLong batchRequests = new AtomicLong();
+
+	/**
+	 * 생성된 배치 (결과 파일은 생성 시점에 만들고, 완료 시각 이후에만 노출)
+	 */
+	private record StubBatch(String id, long completeAtNanos, String outputFileId, String errorFileId,
+							 int total, int completed, int failed) {
+		boolean isCompleted() {
+			return System.nanoTime() - completeAtNanos >= 0;
+		}
+	}
+
+	@PostConstruct
+	public void start() throws IOException {
+		content = responseFile.isBlank()
+			? DEFAULT_CONTENT
+			: Files.readString(Path.of(responseFile), StandardCharsets.UTF_8);
+
+		// 지연 동안 스레드를 점유하므로 요청마다 가상 스레드 사용
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+		log.warn("OpenAI stub server started on port {} (latency median {}ms, sigma {}, 429 ratio {}, 5xx ratio {})",
+			port, latencyMedianMs, latencySigma, rateLimitRatio, serverErrorRatio);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (server != null) {
+			server.stop(0);
+		}
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+		log.info("OpenAI stub server stopped. Stats: {}", getStats());
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String method = exchange.getRequestMethod();
+			String path = exchange.getRequestURI().getPath();
+			Matcher batchPath = BATCH_PATH.matcher(path);
+			Matcher fileContentPath = FILE_CONTENT_PATH.matcher(path);
+			if ("POST".equals(method) && path.endsWith(CHAT_COMPLETIONS_PATH)) {
+				handleChatCompletion(exchange);
+			} else if ("POST".equals(method) && path.endsWith(FILES_PATH)) {
+				uploadFile(exchange);
+			} else if ("POST".equals(method) && path.endsWith(BATCHES_PATH)) {
+				createBatch(exchange);
+			} else if ("GET".equals(method) && batchPath.matches()) {
+				getBatch(exchange, batchPath.group(1));
+			} else if ("GET".equals(method) && fileContentPath.matches()) {
+				getFileContent(exchange, fileContentPath.group(1));
+			} else {
+				sendJson(exchange, 404, error("Unknown stub endpoint", "invalid_request_error"));
+			}
+		}
+	}
+
+	private void handleChatCompletion(HttpExchange exchange) throws IOException {
+		try {
+			totalRequests.incrementAndGet();
+
+			Map<String, Object> request;
+			try (InputStream body = exchange.getRequestBody()) {
+				request = objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {});
+			} catch (IOException e) {
+				sendJson(exchange, 400, error("Invalid JSON body", "invalid_request_error"));
+				return;
+			}
+
+			long latencyMillis = sampleLatencyMillis();
+			double roll = ThreadLocalRandom.current().nextDouble();
+			if (roll < rateLimitRatio) {
+				rateLimitedResponses.incrementAndGet();
+				exchange.getResponseHeaders().set("retry-after-ms", String.valueOf(retryAfterMs));
+				sendJson(exchange, 429, error("Rate limit reached (stub)", "rate_limit_exceeded"));
+				return;
+			}
+			if (roll < rateLimitRatio + serverErrorRatio) {
+				serverErrorResponses.incrementAndGet();
+				sleep(latencyMillis);
+				sendJson(exchange, ThreadLocalRandom.current().nextBoolean() ? 500 : 503,
+					error("Upstream error (stub)", "server_error"));
+				return;
+			}
+
+			int promptTokens = estimateTokens(promptText(request));
+			int completionTokens = Math.min(estimateTokens(content), maxTokens(request));
+			setRateLimitHeaders(exchange, promptTokens + completionTokens);
+
+			if (Boolean.TRUE.equals(request.get("stream"))) {
+				streamedResponses.incrementAndGet();
+				stream(exchange, latencyMillis, promptTokens, completionTokens);
+			} else {
+				sleep(latencyMillis);
+				sendJson(exchange, 200, completion(promptTokens, completionTokens));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 배치 입력 파일 업로드 (multipart의 file 파트를 그대로 보관)
+	 */
+	private void uploadFile(HttpExchange exchange) throws IOException {
+		String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+		String body;
+		try (InputStream in = exchange.getRequestBody()) {
+			body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		String file = multipartFile(body, contentType);
+		if (file == null) {
+			sendJson(exchange, 400, error("Missing file part", "invalid_request_error"));
+			return;
+		}
+		String fileId = "file-stub-" + UUID.randomUUID();
+		files.put(fileId, file);
+		sendJson(exchange, 200, Map.of("id", fileId, "object", "file", "purpose", "batch",
+			"bytes", file.getBytes(StandardCharsets.UTF_8).length));
+	}
+
+	private String multipartFile(String body, String contentType) {
+		int boundaryIndex = contentType == null ? -1 : contentType.indexOf("boundary=");
+		if (boundaryIndex < 0) {
+			return null;
+		}
+		String boundary = "--" + contentType.substring(boundaryIndex + "boundary=".length()).replace("\"", "").trim();
+		for (String part : body.split(Pattern.quote(boundary))) {
+			int headerEnd = part.indexOf("\r\n\r\n");
+			if (headerEnd < 0 || !part.substring(0, headerEnd).contains("name=\"file\"")) {
+				continue;
+			}
+			String content = part.substring(headerEnd + 4);
+			return content.endsWith("\r\n") ? content.substring(0, content.length() - 2) : content;
+		}
+		return null;
+	}
+
+	/**
+	 * 배치 생성 - 입력 파일의 요청마다 채팅 응답(또는 주입한 오류)을 만들어 output / error 파일로 보관
+	 */
+	private void createBatch(HttpExchange exchange) throws IOException {
+		Map<String, Object> request;
+		try (InputStream body = exchange.getRequestBody()) {
+			request = objectMapper.readValue(body, new TypeReference<Map<String, Object>>() {});
+		} catch (IOException e) {
+			sendJson(exchange, 400, error("Invalid JSON body", "invalid_request_error"));
+			return;
+		}
+		String input = files.get(String.valueOf(request.get("input_file_id")));
+		if (input == null) {
+			sendJson(exchange, 404, error("No such file", "invalid_request_error"));
+			return;
+		}
+
+		StringBuilder output = new StringBuilder();
+		StringBuilder errors = new StringBuilder();
+		int total = 0;
+		int failed = 0;
+		for (String line : input.split("\n")) {
+			if (line.isBlank()) {
+				continue;
+			}
+			total++;
+			Map<String, Object> row = batchResultRow(objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {}));
+			boolean success = row.get("response") instanceof Map<?, ?> response
+				&& Integer.valueOf(200).equals(response.get("status_code"));
+			if (!success) {
+				failed++;
+			}
+			(success ? output : errors).append(objectMapper.writeValueAsString(row)).append('\n');
+		}
+		batchRequests.addAndGet(total);
+
+		String outputFileId = null;
+		String errorFileId = null;
+		if (!output.isEmpty()) {
+			outputFileId = "file-stub-" + UUID.randomUUID();
+			files.put(outputFileId, output.toString());
+		}
+		if (!errors.isEmpty()) {
+			errorFileId = "file-stub-" + UUID.randomUUID();
+			files.put(errorFileId, errors.toString());
+		}
+		StubBatch batch = new StubBatch("batch_stub_" + UUID.randomUUID(),
+			System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchCompletionMs),
+			outputFileId, errorFileId, total, total - failed, failed);
+		batches.put(batch.id(), batch);
+		sendJson(exchange, 200, batchBody(batch));
+	}
+
+	/**
+	 * 배치 결과 한 줄 (OpenAI 결과 파일 형식 - custom_id, response.status_code, response.body)
+	 */
+	private Map<String, Object> batchResultRow(Map<String, Object> line) {
+		Map<String, Object> request = line.get("body") instanceof Map<?, ?> body
+			? objectMapper.convertValue(body, new TypeReference<Map<String, Object>>() {})
+			: Map.of();
+
+		int status = 200;
+		Map<String, Object> body;
+		double roll = ThreadLocalRandom.current().nextDouble();
+		if (roll < rateLimitRatio) {
+			rateLimitedResponses.incrementAndGet();
+			status = 429;
+			body = error("Rate limit reached (stub)", "rate_limit_exceeded");
+		} else if (roll < rateLimitRatio + serverErrorRatio) {
+			serverErrorResponses.incrementAndGet();
+			status = 500;
+			body = error("Upstream error (stub)", "server_error");
+		} else {
+			int promptTokens = estimateTokens(promptText(request));
+			body = completion(promptTokens, Math.min(estimateTokens(content), maxTokens(request)));
+		}
+
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("status_code", status);
+		response.put("request_id", "req-stub-" + UUID.randomUUID());
+		response.put("body", body);
+
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("id", "batch_req_stub_" + UUID.randomUUID());
+		row.put("custom_id", line.get("custom_id"));
+		row.put("response", response);
+		row.put("error", null);
+		return row;
+	}
+
+	private void getBatch(HttpExchange exchange, String batchId) throws IOException {
+		StubBatch batch = batches.get(batchId);
+		if (batch == null) {
+			sendJson(exchange, 404, error("No such batch", "invalid_request_error"));
+			return;
+		}
+		sendJson(exchange, 200, batchBody(batch));
+	}
+
+	private Map<String, Object> batchBody(StubBatch batch) {
+		boolean completed = batch.isCompleted();
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("id", batch.id());
+		body.put("object", "batch");
+		body.put("endpoint", "/v1/chat/completions");
+		body.put("status", completed ? "completed" : "in_progress");
+		body.put("output_file_id", completed ? batch.outputFileId() : null);
+		body.put("error_file_id", completed ? batch.errorFileId() : null);
+		body.put("request_counts", Map.of(
+			"total", batch.total(),
+			"completed", completed ? batch.completed() : 0,
+			"failed", completed ? batch.failed() : 0));
+		return body;
+	}
+
+	private void getFileContent(HttpExchange exchange, String fileId) throws IOException {
+		String file = files.get(fileId);
+		if (file == null) {
+			sendJson(exchange, 404, error("No such file", "invalid_request_error"));
+			return;
+		}
+		byte[] bytes = file.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/jsonl");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * SSE 스트리밍 응답 - 첫 조각까지 지연의 절반, 나머지 절반은 조각 사이에 나눠 전송
+	 */
+	private void stream(HttpExchange exchange, long latencyMillis, int promptTokens, int completionTokens)
+			throws IOException, InterruptedException {
+		List<String> chunks = splitContent();
+		long firstChunkDelay = latencyMillis / 2;
+		long chunkDelay = (latencyMillis - firstChunkDelay) / Math.max(1, chunks.size());
+
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+		exchange.sendResponseHeaders(200, 0);
+		sleep(firstChunkDelay);
+		try (OutputStream out = exchange.getResponseBody()) {
+			String id = "chatcmpl-stub-" + UUID.randomUUID();
+			for (String chunk : chunks) {
+				writeEvent(out, Map.of("id", id, "object", "chat.completion.chunk", "model", "stub",
+					"choices", List.of(Map.of("index", 0, "delta", Map.of("content", chunk)))));
+				sleep(chunkDelay);
+			}
+			writeEvent(out, Map.of("id", id, "object", "chat.completion.chunk", "model", "stub",
+				"choices", List.of(), "usage", usage(promptTokens, completionTokens)));
+			out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			// 클라이언트가 스트림 도중 연결을 끊음 (구독 취소)
+			cancelledStreams.incrementAndGet();
+			log.debug("Stub stream cancelled by client: {}", e.getMessage());
+		}
+	}
+
+	private List<String> splitContent() {
+		int size = Math.max(1, streamChunkChars);
+		List<String> chunks = new ArrayList<>();
+		for (int start = 0; start < content.length(); start += size) {
+			chunks.add(content.substring(start, Math.min(content.length(), start + size)));
+		}
+		return chunks;
+	}
+
+	private void writeEvent(OutputStream out, Map<String, Object> data) throws IOException {
+		out.write(("data: " + objectMapper.writeValueAsString(data) + "\n\n").getBytes(StandardCharsets.UTF_8));
+		out.flush();
+	}
+
+	private Map<String, Object> completion(int promptTokens, int completionTokens) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("id", "chatcmpl-stub-" + UUID.randomUUID());
+		body.put("object", "chat.completion");
+		body.put("model", "stub");
+		body.put("choices", List.of(Map.of(
+			"index", 0,
+			"message", Map.of("role", "assistant", "content", content),
+			"finish_reason", "stop")));
+		body.put("usage", usage(promptTokens, completionTokens));
+		return body;
+	}
+
+	private Map<String, Object> usage(int promptTokens, int completionTokens) {
+		return Map.of(
+			"prompt_tokens", promptTokens,
+			"completion_tokens", completionTokens,
+			"total_tokens", promptTokens + completionTokens);
+	}
+
+	private Map<String, Object> error(String message, String type) {
+		return Map.of("error", Map.of("message", message, "type", type));
+	}
+
+	private void sendJson(HttpExchange exchange, int status, Map<String, ?> body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * 최근 1분 사용량 기준 잔여 한도 헤더 (OpenAI 응답과 같은 이름/형식)
+	 */
+	private void setRateLimitHeaders(HttpExchange exchange, int tokens) {
+		long remainingRequests;
+		long remainingTokens;
+		synchronized (usageWindow) {
+			long now = System.nanoTime();
+			while (!usageWindow.isEmpty() && now - usageWindow.peekFirst()[0] > WINDOW_NANOS) {
+				long[] expired = usageWindow.pollFirst();
+				windowRequests--;
+				windowTokens -= expired[1];
+			}
+			usageWindow.addLast(new long[] {now, tokens});
+			windowRequests++;
+			windowTokens += tokens;
+			remainingRequests = Math.max(0, requestsPerMinute - windowRequests);
+			remainingTokens = Math.max(0, tokensPerMinute - windowTokens);
+		}
+		var headers = exchange.getResponseHeaders();
+		headers.set("x-ratelimit-limit-requests", String.valueOf(requestsPerMinute));
+		headers.set("x-ratelimit-limit-tokens", String.valueOf(tokensPerMinute));
+		headers.set("x-ratelimit-remaining-requests", String.valueOf(remainingRequests));
+		headers.set("x-ratelimit-remaining-tokens", String.valueOf(remainingTokens));
+		headers.set("x-ratelimit-reset-requests", "1s");
+		headers.set("x-ratelimit-reset-tokens", "1s");
+	}
+
+	private long sampleLatencyMillis() {
+		if (latencySigma <= 0) {
+			return latencyMedianMs;
+		}
+		double gaussian = ThreadLocalRandom.current().nextGaussian();
+		return Math.round(latencyMedianMs * Math.exp(latencySigma * gaussian));
+	}
+
+	private String promptText(Map<String, Object> request) {
+		StringBuilder text = new StringBuilder();
+		if (request.get("messages") instanceof List<?> messages) {
+			for (Object message : messages) {
+				if (message instanceof Map<?, ?> map && map.get("content") != null) {
+					text.append(map.get("content"));
+				}
+			}
+		}
+		return text.toString();
+	}
+
+	private int maxTokens(Map<String, Object> request) {
+		return request.get("max_tokens") instanceof Number number ? number.intValue() : Integer.MAX_VALUE;
+	}
+
+	private int estimateTokens(String text) {
+		return (int) Math.ceil(text.length() / CHARS_PER_TOKEN);
+	}
+
+	private void sleep(long millis) throws InterruptedException {
+		if (millis > 0) {
+			Thread.sleep(millis);
+		}
+	}
+
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("port", port);
+		stats.put("totalRequests", totalRequests.get());
+		stats.put("rateLimitedResponses", rateLimitedResponses.get());
+		stats.put("serverErrorResponses", serverErrorResponses.get());
+		stats.put("streamedResponses", streamedResponses.get());
+		stats.put("cancelledStreams", cancelledStreams.get());
+		stats.put("batches", batches.size());
+		stats.put("batchRequests", batchRequests.get());
+		return stats;
+	}
+}
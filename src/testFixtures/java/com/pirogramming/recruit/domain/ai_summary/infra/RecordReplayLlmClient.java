@@ -0,0 +1,171 @@
+package com.pirogramming.recruit.domain.ai_summary.infra;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pirogramming.recruit.domain.ai_summary.exception.AiProcessingException;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmClient;
+import com.pirogramming.recruit.domain.ai_summary.port.LlmResponse;
+import com.pirogramming.recruit.domain.ai_summary.util.ContentHashUtil;
+import com.pirogramming.recruit.domain.ai_summary.util.FallbackResponseUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * LLM 응답 기록/재생 (OpenAiChatClient 데코레이터)
+ * - RECORD: 실제 호출 결과를 디렉터리에 파일 하나씩 기록 (키: 프롬프트 + 응답 토큰 한도의 SHA-256)
+ * - REPLAY: 기록된 응답을 API 호출 없이 그대로 반환 (기록이 없으면 AiProcessingException)
+ *   기록된 지연 시간만큼 기다렸다가 완료할 수 있어, 같은 응답/지연으로 처리량과 동시성 설정을 반복 측정 가능
+ * 재생은 동시성 한도/RPM 버킷을 거치지 않음 (API 쪽 병목 없이 파싱/저장/디스패처 처리량만 측정)
+ * 테스트/벤치마크 전용 (testFixtures) - LlmLoadTestConfiguration이 openai.record-replay.mode를 지정했을 때만
+ * LlmClient로 우선 등록 (운영 jar에는 포함되지 않으므로 설정 오타로 운영 클라이언트가 바뀌지 않음)
+ */
+@Slf4j
+public class RecordReplayLlmClient implements LlmClient {
+
+	// 호출 시 토큰 한도를 지정하지 않은 요청의 키 (스트리밍/비스트리밍 기록을 서로 재생 가능)
+	private static final String DEFAULT_MAX_TOKENS = "default";
+	// 재생 시 스트리밍 조각 크기
+	private static final int REPLAY_CHUNK_CHARS = 16;
+
+	private final OpenAiChatClient delegate;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Mode mode;
+	private final Path directory;
+	private final boolean replayLatency;
+
+	private final AtomicLong recorded = new AtomicLong();
+	private final AtomicLong replayed = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public RecordReplayLlmClient(
+		OpenAiChatClient delegate,
+		String mode,
+		String directory,
+		boolean replayLatency
+	) throws IOException {
+		this.delegate = delegate;
+		this.mode = Mode.valueOf(mode.trim().toUpperCase());
+		this.directory = Path.of(directory);
+		this.replayLatency = replayLatency;
+		Files.createDirectories(this.directory);
+		log.warn("LLM record/replay enabled - mode: {}, directory: {}", this.mode, this.directory.toAbsolutePath());
+	}
+
+	@Override
+	public String chat(String prompt) {
+		try {
+			return chatAsync(prompt).join();
+		} catch (Exception e) {
+			log.error("Synchronous chat call failed: {}", e.getClass().getSimpleName());
+			return FallbackResponseUtil.createFallbackJson();
+		}
+	}
+
+	@Override
+	public CompletableFuture<String> chatAsync(String prompt) {
+		// OpenAiChatClient.chatAsync와 같이 실패 시 fallback 응답으로 완료
+		return chatWithUsageAsync(prompt)
+			.thenApply(LlmResponse::content)
+			.exceptionally(error -> FallbackResponseUtil.createFallbackJson());
+	}
+
+	@Override
+	public CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt) {
+		return call(key(prompt, DEFAULT_MAX_TOKENS), () -> delegate.chatWithUsageAsync(prompt));
+	}
+
+	@Override
+	public CompletableFuture<LlmResponse> chatWithUsageAsync(String prompt, int maxCompletionTokens) {
+		return call(key(prompt, String.valueOf(maxCompletionTokens)),
+			() -> delegate.chatWithUsageAsync(prompt, maxCompletionTokens));
+	}
+
+	@Override
+	public CompletableFuture<LlmResponse> chatStream(String prompt, Consumer<String> onDelta) {
+		String key = key(prompt, DEFAULT_MAX_TOKENS);
+		if (mode == Mode.RECORD) {
+			return delegate.chatStream(prompt, onDelta).thenApply(response -> record(key, response));
+		}
+		return replay(key).thenApply(response -> {
+			String content = response.content();
+			for (int start = 0; start < content.length(); start += REPLAY_CHUNK_CHARS) {
+				onDelta.accept(content.substring(start, Math.min(content.length(), start + REPLAY_CHUNK_CHARS)));
+			}
+			return response;
+		});
+	}
+
+	private CompletableFuture<LlmResponse> call(String key,
+			Supplier<CompletableFuture<LlmResponse>> request) {
+		if (mode == Mode.RECORD) {
+			return request.get().thenApply(response -> record(key, response));
+		}
+		return replay(key);
+	}
+
+	private LlmResponse record(String key, LlmResponse response) {
+		try {
+			// 임시 파일에 쓴 뒤 이동 (동시에 같은 키를 기록해도 읽는 쪽이 반쯤 쓴 파일을 보지 않도록)
+			Path temp = Files.createTempFile(directory, key, ".tmp");
+			objectMapper.writeValue(temp.toFile(), response);
+			Files.move(temp, file(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			recorded.incrementAndGet();
+		} catch (IOException e) {
+			// 기록 실패가 실제 호출 결과에 영향을 주지 않도록
+			log.warn("Failed to record LLM response {}: {}", key, e.getMessage());
+		}
+		return response;
+	}
+
+	private CompletableFuture<LlmResponse> replay(String key) {
+		LlmResponse response;
+		try {
+			response = objectMapper.readValue(file(key).toFile(), LlmResponse.class);
+		} catch (IOException e) {
+			misses.incrementAndGet();
+			return CompletableFuture.failedFuture(new AiProcessingException(AiProcessingException.ErrorType.UNKNOWN,
+				"기록된 LLM 응답이 없습니다: " + key));
+		}
+		replayed.incrementAndGet();
+
+		if (!replayLatency || response.latencyMillis() <= 0) {
+			return CompletableFuture.completedFuture(response);
+		}
+		// 기록된 지연만큼 스레드를 점유하지 않고 기다림
+		Executor delayed = CompletableFuture.delayedExecutor(response.latencyMillis(), TimeUnit.MILLISECONDS);
+		return CompletableFuture.supplyAsync(() -> response, delayed);
+	}
+
+	private String key(String prompt, String maxTokens) {
+		return ContentHashUtil.sha256Hex(List.of(maxTokens, prompt));
+	}
+
+	private Path file(String key) {
+		return directory.resolve(key + ".json");
+	}
+
+	public Map<String, Object> getStats() {
+		return Map.of(
+			"mode", mode,
+			"recorded", recorded.get(),
+			"replayed", replayed.get(),
+			"misses", misses.get());
+	}
+
+	private enum Mode {
+		RECORD,
+		REPLAY
+	}
+}